@@ -0,0 +1,38 @@
+package com.tngtech.jgiven;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Provides the thread pool on which attachments are created that are added
+ * with {@link CurrentStep#addAttachmentAsync(java.util.function.Supplier)}.
+ * <p>
+ * The pool uses daemon threads, so it does not prevent the JVM from shutting down.
+ * The class is package-private, as it is not part of the API.
+ */
+final class AttachmentCaptureExecutor {
+
+    private static final ExecutorService executor = Executors.newFixedThreadPool(
+        Math.max( 2, Runtime.getRuntime().availableProcessors() ), new DaemonThreadFactory() );
+
+    private AttachmentCaptureExecutor() {
+    }
+
+    static Executor executor() {
+        return executor;
+    }
+
+    private static class DaemonThreadFactory implements ThreadFactory {
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread( Runnable runnable ) {
+            Thread thread = new Thread( runnable, "jgiven-attachment-" + threadCount.incrementAndGet() );
+            thread.setDaemon( true );
+            return thread;
+        }
+    }
+}
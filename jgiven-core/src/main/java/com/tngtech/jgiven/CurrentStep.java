@@ -1,6 +1,8 @@
 package com.tngtech.jgiven;
 
 import com.tngtech.jgiven.attachment.Attachment;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 /**
  * This interface can be injected into a stage by using the {@link com.tngtech.jgiven.annotation.ScenarioState}
@@ -17,6 +19,41 @@ public interface CurrentStep {
      */
     void addAttachment( Attachment attachment );
 
+    /**
+     * Adds an attachment to the current step that is still being created.
+     * <p>
+     * The step provided by JGiven does not wait for the attachment. Instead, the attachment is added
+     * to the report before the report is written. If the future completes exceptionally or does not complete
+     * within the time set by the {@code jgiven.report.attachmentTimeout} system property,
+     * the attachment is left out and a warning is logged.
+     * <p>
+     * The default implementation of this method waits for the attachment and adds it with
+     * {@link #addAttachment(Attachment)}, so custom implementations of this interface have to override it
+     * in order to not block.
+     *
+     * @param attachment the future of the attachment to add
+     * @since 1.4.0
+     */
+    default void addAttachmentAsync( CompletableFuture<Attachment> attachment ) {
+        addAttachment( attachment.join() );
+    }
+
+    /**
+     * Adds an attachment to the current step that is created by the given supplier on a background thread.
+     * <p>
+     * Use this method for attachments that are expensive to create, like screenshots or large log files,
+     * so that the encoding of the attachment does not block the execution of the scenario.
+     * Note that the supplier is executed concurrently with the following steps, so it should only access
+     * data that is not modified by them.
+     *
+     * @param attachmentSupplier the supplier that creates the attachment to add
+     * @see #addAttachmentAsync(CompletableFuture)
+     * @since 1.4.0
+     */
+    default void addAttachmentAsync( Supplier<Attachment> attachmentSupplier ) {
+        addAttachmentAsync( CompletableFuture.supplyAsync( attachmentSupplier, AttachmentCaptureExecutor.executor() ) );
+    }
+
     /**
      * Sets the extended description of the current step
      * 
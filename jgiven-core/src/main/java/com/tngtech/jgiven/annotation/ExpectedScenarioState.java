@@ -7,6 +7,7 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 import com.tngtech.jgiven.annotation.ScenarioState.Resolution;
+import com.tngtech.jgiven.annotation.ScenarioState.Scope;
 
 /**
  * Marks fields to be expected by a scenario stage.
@@ -19,6 +20,12 @@ import com.tngtech.jgiven.annotation.ScenarioState.Resolution;
 public @interface ExpectedScenarioState {
     Resolution resolution() default Resolution.AUTO;
 
+    /**
+     * @see ScenarioState#scope()
+     * @since 1.4.0
+     */
+    Scope scope() default Scope.SCENARIO;
+
     /**
      * Marks this state as required for the stage. If in this case the state isn't provided, a
      * {@code JGivenMissingRequiredScenarioStateException} will be thrown.
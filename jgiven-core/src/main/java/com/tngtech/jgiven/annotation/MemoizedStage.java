@@ -0,0 +1,47 @@
+package com.tngtech.jgiven.annotation;
+
+import com.tngtech.jgiven.impl.memo.IdentityStateCopyStrategy;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a stage, typically a Given stage, whose steps are memoized across the scenarios of a JVM.
+ * <p>
+ * For such a stage, JGiven remembers the scenario state that each sequence of steps has produced,
+ * i.e., the values of all fields annotated with {@link ScenarioState} or {@link ProvidedScenarioState}.
+ * When a later scenario calls the same sequence of steps with the same arguments, the steps are not executed again,
+ * but the remembered state is restored into the stage instead. Such steps are marked as memoized in the report.
+ * <p>
+ * This is only correct if the steps of the stage are deterministic, only depend on their arguments and
+ * only have effects on the scenario state fields of the stage. Two invocations are considered to be the same
+ * if the step methods are the same and the {@code toString()} representations of their arguments are equal.
+ * Only steps that are directly invoked on the stage are memoized.
+ * <p>
+ * The remembered state is copied with the configured {@link StateCopyStrategy} when it is stored and when it is restored.
+ * The default {@link IdentityStateCopyStrategy} does not copy at all, so all scenarios that replay the steps share
+ * the very same objects. It is thus only suitable for immutable values: if a scenario modifies a shared object,
+ * e.g. adds an element to a remembered list, all later scenarios see that modification.
+ * <p>
+ * JGiven remembers the states of a limited number of step sequences per JVM and forgets the least recently used
+ * ones first. Steps whose state has been forgotten are simply executed again.
+ *
+ * @since 1.4.0
+ */
+@Documented
+@Inherited
+@Retention( RetentionPolicy.RUNTIME )
+@Target( ElementType.TYPE )
+public @interface MemoizedStage {
+
+    /**
+     * The strategy that is used to copy the values of the scenario state.
+     * <p>
+     * The class must be a public non-abstract class that is not a non-static inner class
+     * and must have a public default constructor.
+     */
+    Class<? extends StateCopyStrategy> copyStrategy() default IdentityStateCopyStrategy.class;
+}
@@ -7,6 +7,7 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 import com.tngtech.jgiven.annotation.ScenarioState.Resolution;
+import com.tngtech.jgiven.annotation.ScenarioState.Scope;
 
 /**
  * Marks fields to be provided by a scenario stage.
@@ -19,5 +20,11 @@ import com.tngtech.jgiven.annotation.ScenarioState.Resolution;
 public @interface ProvidedScenarioState {
     Resolution resolution() default Resolution.AUTO;
 
+    /**
+     * @see ScenarioState#scope()
+     * @since 1.4.0
+     */
+    Scope scope() default Scope.SCENARIO;
+
     boolean guaranteed() default false;
 }
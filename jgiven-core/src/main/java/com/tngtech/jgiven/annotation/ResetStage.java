@@ -0,0 +1,23 @@
+package com.tngtech.jgiven.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks methods of a {@link ReusableStage} to be executed after the scenario has been finished
+ * and before the stage instance is handed out to the next scenario.
+ * <p>
+ * The method is invoked after all {@link AfterScenario} methods and must not have parameters.
+ *
+ * @see ReusableStage
+ * @since 1.4.0
+ */
+@Documented
+@Retention( RetentionPolicy.RUNTIME )
+@Target( ElementType.METHOD )
+public @interface ResetStage {
+
+}
@@ -0,0 +1,34 @@
+package com.tngtech.jgiven.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a stage class whose instances may be reused by subsequent scenarios that are executed on the same thread.
+ * <p>
+ * By default, JGiven creates new stage instances for every scenario. For stages that hold expensive resources,
+ * like HTTP clients or connection pools, this can be avoided by annotating the stage class with this annotation.
+ * When a scenario has finished, its instances of reusable stages are reset and put into a pool
+ * from which the next scenario on the same thread takes its stage instances.
+ * <p>
+ * Resetting a stage clears all fields annotated with {@link ScenarioState}, {@link ProvidedScenarioState}
+ * and {@link ExpectedScenarioState} and invokes all methods annotated with {@link ResetStage}.
+ * All other fields keep their values, so it is the responsibility of the {@code @ResetStage} methods
+ * to bring them into a state in which the stage can be used by another scenario.
+ * If a reset method throws an exception, the stage instance is discarded.
+ * <p>
+ * Pooled stage instances are discarded when the JVM shuts down. Stages that implement {@link AutoCloseable}
+ * are closed then.
+ *
+ * @see ResetStage
+ * @since 1.4.0
+ */
+@Documented
+@Retention( RetentionPolicy.RUNTIME )
+@Target( ElementType.TYPE )
+public @interface ReusableStage {
+
+}
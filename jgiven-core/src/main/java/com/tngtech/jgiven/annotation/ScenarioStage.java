@@ -23,4 +23,17 @@ import java.lang.annotation.Target;
 @Target( ElementType.FIELD )
 public @interface ScenarioStage {
 
+    /**
+     * Whether the initialization of the stage should be deferred until one of its step methods is called.
+     * <p>
+     * The instrumented stage instance is injected right away, but collecting its lifecycle methods and
+     * {@link ScenarioRule}s as well as injecting its own {@code @ScenarioStage} fields happens only
+     * when the first intercepted method of the stage is invoked.
+     * This is useful for test classes that inject many stages of which each scenario only uses a few.
+     * <p>
+     * Note that lifecycle methods and rules of a lazy stage that is never used in a scenario are not executed.
+     *
+     * @since 1.4.0
+     */
+    boolean lazy() default false;
 }
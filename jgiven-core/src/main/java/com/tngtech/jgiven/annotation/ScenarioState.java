@@ -19,6 +19,44 @@ public @interface ScenarioState {
         TYPE, NAME, AUTO;
     }
 
+    /**
+     * The scope in which the value of this state is shared.
+     *
+     * @see Scope
+     * @since 1.4.0
+     */
+    Scope scope() default Scope.SCENARIO;
+
+    /**
+     * Defines how long the value of a scenario state lives.
+     * <p>
+     * Values of states with a scope broader than {@link #SCENARIO} are shared read-only between scenarios:
+     * The first non-null value that is provided for a state is kept for the whole scope and later values are ignored.
+     * As the value is injected before a stage is entered, a stage can avoid recomputing an expensive value
+     * by only computing it if the field is still {@code null}.
+     * Values that implement {@link AutoCloseable} are closed when their scope ends.
+     * <p>
+     * Shared values may be accessed by several scenarios concurrently and should therefore not be modified.
+     *
+     * @since 1.4.0
+     */
+    public enum Scope {
+        /**
+         * The value is only visible within a single scenario. This is the default.
+         */
+        SCENARIO,
+
+        /**
+         * The value is shared by all scenarios of the same test class and is closed when the test class has finished.
+         */
+        CLASS,
+
+        /**
+         * The value is shared by all scenarios that are executed in the same JVM and is closed when the JVM shuts down.
+         */
+        SUITE;
+    }
+
     /**
      * Marks this state as required for the stage. If in this case the state isn't provided, a
      * {@code JGivenMissingRequiredScenarioStateException} will be thrown.
@@ -0,0 +1,17 @@
+package com.tngtech.jgiven.annotation;
+
+/**
+ * Copies values of the scenario state of a {@link MemoizedStage}.
+ *
+ * @since 1.4.0
+ */
+public interface StateCopyStrategy {
+
+    /**
+     * Creates a copy of the given value that does not share any mutable state with it.
+     *
+     * @param value the value of a scenario state field, never {@code null}
+     * @return the copy of the value
+     */
+    Object copy( Object value );
+}
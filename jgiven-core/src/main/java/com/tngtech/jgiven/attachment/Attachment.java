@@ -5,6 +5,7 @@ import com.google.common.io.ByteStreams;
 import com.google.common.io.CharStreams;
 import com.google.common.io.Files;
 import com.tngtech.jgiven.exception.JGivenWrongUsageException;
+import com.tngtech.jgiven.impl.util.FileUtil;
 import com.tngtech.jgiven.impl.util.ResourceUtil;
 
 import java.io.File;
@@ -56,6 +57,18 @@ public class Attachment {
      */
     private Boolean showDirectly;
 
+    /**
+     * The file this attachment refers to in case the content is not part of the attachment itself.
+     * Can be {@code null}.
+     */
+    private File file;
+
+    /**
+     * The SHA-256 hash of the content of the referenced file.
+     * Is {@code null} if this attachment does not refer to a file.
+     */
+    private String contentHash;
+
     /**
      * Convenience constructor, where title is set to {@code null}
      */
@@ -192,6 +205,26 @@ public class Attachment {
         }
     }
 
+    /**
+     * Creates an attachment that only refers to the given file instead of containing its content.
+     * <p>
+     * In contrast to {@link #fromBinaryFile(File, MediaType)}, the file is neither read into memory
+     * nor Base64 encoded. Only its path and the SHA-256 hash of its content are stored in the report model.
+     * The file is copied into the report when the report is generated, so it must not be changed
+     * or deleted before. This is the preferred way to attach large files like videos or HAR files.
+     *
+     * @param file the file to attach
+     * @param mediaType the media type of the file
+     * @throws IOException if the file cannot be read
+     * @since 1.4.0
+     */
+    public static Attachment fromFileReference( File file, MediaType mediaType ) throws IOException {
+        Attachment attachment = new Attachment( "", mediaType );
+        attachment.file = file.getAbsoluteFile();
+        attachment.contentHash = FileUtil.sha256( file );
+        return attachment;
+    }
+
     /**
      * Creates a non-binary attachment from the given file.
      * @throws IOException if an I/O error occurs
@@ -267,4 +300,25 @@ public class Attachment {
     public boolean getShowDirectly() {
         return showDirectly == null ? false : showDirectly;
     }
+
+    /**
+     * The file this attachment refers to.
+     * Is {@code null} unless the attachment has been created with {@link #fromFileReference(File, MediaType)},
+     * in which case the content of the attachment is empty.
+     *
+     * @since 1.4.0
+     */
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * The SHA-256 hash of the content of the file this attachment refers to.
+     * Is {@code null} if this attachment does not refer to a file.
+     *
+     * @since 1.4.0
+     */
+    public String getContentHash() {
+        return contentHash;
+    }
 }
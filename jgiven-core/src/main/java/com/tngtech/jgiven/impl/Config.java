@@ -1,6 +1,7 @@
 package com.tngtech.jgiven.impl;
 
 import com.tngtech.jgiven.config.ConfigValue;
+import com.tngtech.jgiven.report.model.ReportModelFileFormat;
 import java.io.File;
 import java.io.IOException;
 import java.io.Reader;
@@ -27,7 +28,13 @@ public class Config {
     private static final String JGIVEN_REPORT_TEXT = "jgiven.report.text";
     private static final String JGIVEN_REPORT_TEXT_COLOR = "jgiven.report.text.color";
     private static final String JGIVEN_FILTER_STACK_TRACE = "jgiven.report.filterStackTrace";
+    private static final String JGIVEN_REPORT_ATTACHMENT_STORE = "jgiven.report.attachmentStore";
+    private static final String JGIVEN_REPORT_ATTACHMENT_TIMEOUT = "jgiven.report.attachmentTimeout";
+    private static final long DEFAULT_ATTACHMENT_TIMEOUT_SECONDS = 60;
     private static final String JGIVEN_REPORT_DRY_RUN = "jgiven.report.dry-run";
+    private static final String JGIVEN_REPORT_FORMAT = "jgiven.report.format";
+    private static final String JGIVEN_REPORT_COMPRESS = "jgiven.report.compress";
+    private static final String JGIVEN_REPORT_MANIFEST = "jgiven.report.manifest";
     private static final String JGIVEN_CONFIG_PATH = "jgiven.config.path";
     private static final String JGIVEN_CONFIG_CHARSET = "jgiven.config.charset";
 
@@ -126,6 +133,56 @@ public class Config {
         System.setProperty(JGIVEN_REPORT_TEXT, "" + b);
     }
 
+    /**
+     * Whether the content of attachments is stored in a content-addressed directory
+     * next to the JSON reports instead of inside the JSON reports.
+     */
+    public boolean attachmentStore() {
+        return TRUE.equalsIgnoreCase(resolveProperty(JGIVEN_REPORT_ATTACHMENT_STORE, FALSE));
+    }
+
+    /**
+     * How many seconds JGiven waits for the attachments of a report that are created in the background.
+     * Attachments that are not created in time are left out of the report.
+     */
+    public long attachmentTimeoutSeconds() {
+        String value = resolveProperty(JGIVEN_REPORT_ATTACHMENT_TIMEOUT, "" + DEFAULT_ATTACHMENT_TIMEOUT_SECONDS);
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            log.warn("Invalid value '" + value + "' of " + JGIVEN_REPORT_ATTACHMENT_TIMEOUT + ", waiting "
+                + DEFAULT_ATTACHMENT_TIMEOUT_SECONDS + " seconds for attachments.");
+            return DEFAULT_ATTACHMENT_TIMEOUT_SECONDS;
+        }
+    }
+
+    /**
+     * The format in which the report models are written, JSON by default.
+     */
+    public ReportModelFileFormat reportFormat() {
+        String value = resolveProperty(JGIVEN_REPORT_FORMAT, ReportModelFileFormat.JSON.formatName());
+        ReportModelFileFormat format = ReportModelFileFormat.fromStringOrNull(value);
+        if (format == null) {
+            log.warn("Unknown value '" + value + "' of " + JGIVEN_REPORT_FORMAT + ", writing JSON reports.");
+            return ReportModelFileFormat.JSON;
+        }
+        return format;
+    }
+
+    /**
+     * Whether the report files are compressed with gzip.
+     */
+    public boolean compressReports() {
+        return TRUE.equalsIgnoreCase(resolveProperty(JGIVEN_REPORT_COMPRESS, FALSE));
+    }
+
+    /**
+     * Whether a manifest with the statistics of each report file is written to the report directory.
+     */
+    public boolean writeManifest() {
+        return TRUE.equalsIgnoreCase(resolveProperty(JGIVEN_REPORT_MANIFEST, TRUE));
+    }
+
     public boolean filterStackTrace() {
         return TRUE.equalsIgnoreCase(resolveProperty(JGIVEN_FILTER_STACK_TRACE, TRUE));
     }
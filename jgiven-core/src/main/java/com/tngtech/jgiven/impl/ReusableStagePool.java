@@ -0,0 +1,94 @@
+package com.tngtech.jgiven.impl;
+
+import com.google.common.collect.MapMaker;
+import com.tngtech.jgiven.annotation.ReusableStage;
+import com.tngtech.jgiven.impl.inject.ScopedValueStore;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Per-thread pool of stage instances whose classes are annotated with {@link ReusableStage}.
+ * Used by the default implementation of {@link StageCreator#acquireReusableStage(Class)}.
+ * <p>
+ * The pool of a thread is dropped when the thread is garbage collected. All pooled stages are discarded
+ * when the {@link com.tngtech.jgiven.annotation.ScenarioState.Scope#SUITE} scope is closed,
+ * stages that implement {@link AutoCloseable} are closed then.
+ */
+final class ReusableStagePool {
+    private static final Logger log = LoggerFactory.getLogger(ReusableStagePool.class);
+
+    private static final Map<Thread, Map<Class<?>, Deque<Object>>> pools = new MapMaker().weakKeys().makeMap();
+
+    static {
+        ScopedValueStore.getSuiteStore().addCloseHandler(ReusableStagePool::closeAll);
+    }
+
+    private ReusableStagePool() {
+    }
+
+    static boolean isReusable(Class<?> stageClass) {
+        return stageClass.isAnnotationPresent(ReusableStage.class);
+    }
+
+    /**
+     * @return a previously released instance of the given stage class or {@code null} if there is none
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T acquire(Class<T> stageClass) {
+        Map<Class<?>, Deque<Object>> pool = pools.get(Thread.currentThread());
+        if (pool == null) {
+            return null;
+        }
+
+        Deque<Object> instances = pool.get(stageClass);
+        if (instances == null) {
+            return null;
+        }
+
+        T stage = (T) instances.poll();
+        if (instances.isEmpty()) {
+            pool.remove(stageClass);
+            if (pool.isEmpty()) {
+                pools.remove(Thread.currentThread());
+            }
+        }
+        return stage;
+    }
+
+    static void release(Class<?> stageClass, Object stage) {
+        pools.computeIfAbsent(Thread.currentThread(), t -> new HashMap<>())
+            .computeIfAbsent(stageClass, c -> new ArrayDeque<>())
+            .push(stage);
+    }
+
+    /**
+     * Discards the pooled stages of all threads and closes the ones that implement {@link AutoCloseable}.
+     */
+    static void closeAll() {
+        List<Object> stages = new ArrayList<>();
+        for (Thread thread : new ArrayList<>(pools.keySet())) {
+            Map<Class<?>, Deque<Object>> pool = pools.remove(thread);
+            if (pool != null) {
+                for (Deque<Object> instances : pool.values()) {
+                    stages.addAll(instances);
+                }
+            }
+        }
+
+        for (Object stage : stages) {
+            if (stage instanceof AutoCloseable) {
+                try {
+                    ((AutoCloseable) stage).close();
+                } catch (Exception e) {
+                    log.warn("Error while closing reusable stage " + stage, e);
+                }
+            }
+        }
+    }
+}
@@ -30,6 +30,9 @@ public class ScenarioBase {
     public void setModel( ReportModel reportModel ) {
         assertNotInitialized();
         modelBuilder.setReportModel( reportModel );
+        if( reportModel != null ) {
+            executor.setTestClassName( reportModel.getClassName() );
+        }
     }
 
     public ScenarioModel getScenarioModel() {
@@ -64,6 +67,9 @@ public class ScenarioBase {
     public void setExecutor( ScenarioExecutor executor ) {
         assertNotInitialized();
         this.executor = executor;
+        if( getModel() != null ) {
+            executor.setTestClassName( getModel().getClassName() );
+        }
     }
 
     public void wireSteps( CanWire canWire ) {
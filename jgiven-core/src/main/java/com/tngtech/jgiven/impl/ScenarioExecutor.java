@@ -8,8 +8,11 @@ import static com.tngtech.jgiven.impl.ScenarioExecutor.State.STARTED;
 import com.tngtech.jgiven.CurrentScenario;
 import com.tngtech.jgiven.CurrentStep;
 import com.tngtech.jgiven.annotation.Pending;
+import com.tngtech.jgiven.annotation.ResetStage;
+import com.tngtech.jgiven.annotation.ReusableStage;
 import com.tngtech.jgiven.annotation.ScenarioRule;
 import com.tngtech.jgiven.annotation.ScenarioStage;
+import com.tngtech.jgiven.annotation.ScenarioState.Scope;
 import com.tngtech.jgiven.attachment.Attachment;
 import com.tngtech.jgiven.exception.FailIfPassedException;
 import com.tngtech.jgiven.exception.JGivenMissingRequiredScenarioStateException;
@@ -17,6 +20,7 @@ import com.tngtech.jgiven.exception.JGivenUserException;
 import com.tngtech.jgiven.impl.inject.ValueInjector;
 import com.tngtech.jgiven.impl.intercept.NoOpScenarioListener;
 import com.tngtech.jgiven.impl.intercept.ScenarioListener;
+import com.tngtech.jgiven.impl.intercept.StageInterceptorInternal;
 import com.tngtech.jgiven.impl.intercept.StageTransitionHandler;
 import com.tngtech.jgiven.impl.intercept.StepInterceptorImpl;
 import com.tngtech.jgiven.impl.util.FieldCache;
@@ -28,10 +32,12 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -59,6 +65,16 @@ public class ScenarioExecutor {
 
     protected final Map<Class<?>, StageState> stages = new LinkedHashMap<>();
 
+    /**
+     * Stages injected with {@code @ScenarioStage(lazy = true)} that have not been initialized yet.
+     */
+    private final Map<Class<?>, Object> lazyStages = new LinkedHashMap<>();
+
+    /**
+     * The classes of the {@link #lazyStages} keyed by instance, as they are looked up on every intercepted step.
+     */
+    private final Map<Object, Class<?>> lazyStageClasses = new IdentityHashMap<>();
+
     private final List<Object> scenarioRules = new ArrayList<>();
 
     private final ValueInjector injector = new ValueInjector();
@@ -105,6 +121,11 @@ public class ScenarioExecutor {
             listener.attachmentAdded(attachment);
         }
 
+        @Override
+        public void addAttachmentAsync(CompletableFuture<Attachment> attachment) {
+            listener.attachmentAdded(attachment);
+        }
+
         @Override
         public void setExtendedDescription(String extendedDescription) {
             listener.extendedDescriptionUpdated(extendedDescription);
@@ -134,6 +155,8 @@ public class ScenarioExecutor {
 
         @Override
         public void enterStage(Object parentStage, Object childStage) throws Throwable {
+            initializeLazyStage(childStage);
+
             if (parentStage == childStage || currentTopLevelStage == childStage) { // NOSONAR: reference comparison OK
                 return;
             }
@@ -147,6 +170,7 @@ public class ScenarioExecutor {
                 // call on this stage, thus we have to call the afterStage methods
                 // from the current top level stage
                 if (parentStage == null) {
+                    methodInterceptor.getStepMemoizer().restorePendingState(currentTopLevelStage);
                     executeAfterStageMethods(currentTopLevelStage);
                     readScenarioState(currentTopLevelStage);
                 } else {
@@ -208,15 +232,105 @@ public class ScenarioExecutor {
             return (T) stages.get(stageClass).instance;
         }
 
-        T result = stageCreator.createStage(stageClass, methodInterceptor);
+        T result;
+        if (lazyStages.containsKey(stageClass)) {
+            result = (T) lazyStages.remove(stageClass);
+            lazyStageClasses.remove(result);
+        } else {
+            result = createStage(stageClass);
+        }
+
+        registerStage(stageClass, result);
+        return result;
+    }
+
+    /**
+     * Creates a new stage instance or takes one from the pool in case the stage class is reusable.
+     */
+    private <T> T createStage(Class<T> stageClass) {
+        T result = null;
+        if (ReusableStagePool.isReusable(stageClass)) {
+            result = stageCreator.acquireReusableStage(stageClass);
+        }
+
+        if (result == null) {
+            result = stageCreator.createStage(stageClass, methodInterceptor);
+        } else {
+            log.debug("Reusing instance of stage {}", stageClass);
+            ((StageInterceptorInternal) result).__jgiven_setStepInterceptor(methodInterceptor);
+        }
         methodInterceptor.enableMethodInterception(true);
+        return result;
+    }
+
+    /**
+     * Creates the stage instance, but defers its registration until the first intercepted method call.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T addLazyStage(Class<T> stageClass) {
+        if (stages.containsKey(stageClass)) {
+            return (T) stages.get(stageClass).instance;
+        }
+        if (lazyStages.containsKey(stageClass)) {
+            return (T) lazyStages.get(stageClass);
+        }
 
-        stages.put(stageClass, new StageState(result, methodInterceptor));
-        gatherRules(result);
-        injectStages(result);
+        T result = createStage(stageClass);
+        lazyStages.put(stageClass, result);
+        lazyStageClasses.put(result, stageClass);
         return result;
     }
 
+    private void registerStage(Class<?> stageClass, Object stage) {
+        stages.put(stageClass, new StageState(stage, methodInterceptor));
+        gatherRules(stage);
+        injectStages(stage);
+    }
+
+    /**
+     * Registers the given stage if it is a lazy stage that has not been initialized yet.
+     * In case the scenario has already been started, the rules and before scenario methods
+     * of all stages that have been registered by this call are executed.
+     */
+    private void initializeLazyStage(Object stage) throws Throwable {
+        if (lazyStageClasses.isEmpty()) {
+            return;
+        }
+
+        Class<?> stageClass = lazyStageClasses.remove(stage);
+        if (stageClass == null) {
+            return;
+        }
+
+        lazyStages.remove(stageClass);
+        int numberOfRules = scenarioRules.size();
+        int numberOfStages = stages.size();
+        registerStage(stageClass, stage);
+
+        if (state != STARTED) {
+            return;
+        }
+
+        methodInterceptor.enableMethodInterception(false);
+        try {
+            for (Object rule : newArrayList(scenarioRules.subList(numberOfRules, scenarioRules.size()))) {
+                invokeRuleMethod(rule, "before");
+            }
+
+            if (beforeScenarioMethodsExecuted) {
+                List<StageState> newStages = newArrayList(stages.values());
+                for (StageState newStage : newStages.subList(numberOfStages, newStages.size())) {
+                    executeBeforeScenarioMethods(newStage.instance);
+                }
+            }
+        } catch (Throwable e) {
+            failed(e);
+            finished();
+            throw e;
+        }
+        methodInterceptor.enableMethodInterception(true);
+    }
+
     public void addIntroWord(String word) {
         listener.introWordAdded(word);
     }
@@ -332,6 +446,9 @@ public class ScenarioExecutor {
         for (StageState steps : stages.values()) {
             canWire.wire(steps.instance);
         }
+        for (Object lazyStage : lazyStages.values()) {
+            canWire.wire(lazyStage);
+        }
     }
 
     /**
@@ -353,14 +470,47 @@ public class ScenarioExecutor {
             }
         } finally {
             listener.scenarioFinished();
+            releaseReusableStages();
+            stageCreator.scenarioFinished(methodInterceptor);
+        }
+    }
+
+    /**
+     * Resets all instances of stages annotated with {@link ReusableStage} and hands them over
+     * to the stage creator, so that they can be used by the next scenario of the current thread.
+     */
+    private void releaseReusableStages() {
+        Map<Class<?>, Object> stageInstances = new LinkedHashMap<>(lazyStages);
+        for (Map.Entry<Class<?>, StageState> entry : stages.entrySet()) {
+            stageInstances.put(entry.getKey(), entry.getValue().instance);
+        }
+
+        for (Map.Entry<Class<?>, Object> entry : stageInstances.entrySet()) {
+            if (!ReusableStagePool.isReusable(entry.getKey())) {
+                continue;
+            }
+
+            try {
+                resetStage(entry.getValue());
+                stageCreator.releaseReusableStage(entry.getKey(), entry.getValue());
+            } catch (Exception e) {
+                log.warn("Could not reset stage " + entry.getKey().getName() + ". The instance will not be reused.", e);
+            }
         }
     }
 
+    private void resetStage(Object stage) {
+        injector.clearValues(stage);
+        ReflectionUtil.forEachMethod(stage, stage.getClass(), ResetStage.class,
+            (object, method) -> ReflectionUtil.invokeMethod(object, method, " with annotation @ResetStage"));
+    }
+
     private void callFinishLifeCycleMethods() throws Throwable {
         Throwable firstThrownException = failedException;
         if (beforeScenarioMethodsExecuted) {
             try {
                 if (currentTopLevelStage != null) {
+                    methodInterceptor.getStepMemoizer().restorePendingState(currentTopLevelStage);
                     executeAfterStageMethods(currentTopLevelStage);
                 }
             } catch (Exception e) {
@@ -402,11 +552,15 @@ public class ScenarioExecutor {
 
     /**
      * Initialize the fields annotated with {@link ScenarioStage} in the test class.
+     * Fields with {@code lazy = true} get a stage instance whose initialization is deferred
+     * until its first step method is invoked.
      */
     @SuppressWarnings("unchecked")
     public void injectStages(Object stage) {
         for (Field field : FieldCache.get(stage.getClass()).getFieldsWithAnnotation(ScenarioStage.class)) {
-            Object steps = addStage(field.getType());
+            Object steps = field.getAnnotation(ScenarioStage.class).lazy()
+                ? addLazyStage(field.getType())
+                : addStage(field.getType());
             ReflectionUtil.setField(field, stage, steps, ", annotated with @ScenarioStage");
         }
     }
@@ -455,6 +609,7 @@ public class ScenarioExecutor {
      * @param arguments the test arguments with their parameter names
      */
     public void startScenario(Class<?> testClass, Method method, List<NamedArgument> arguments) {
+        setTestClassName(testClass.getName());
         listener.scenarioStarted(testClass, method, arguments);
 
         if (Config.config().dryRun()) {
@@ -491,6 +646,13 @@ public class ScenarioExecutor {
         return null;
     }
 
+    /**
+     * Sets the test class whose scope is used for scenario states with {@link Scope#CLASS}.
+     */
+    public void setTestClassName(String testClassName) {
+        injector.setTestClassName(testClassName);
+    }
+
     public void setListener(ScenarioListener listener) {
         this.listener = listener;
         methodInterceptor.setScenarioListener(listener);
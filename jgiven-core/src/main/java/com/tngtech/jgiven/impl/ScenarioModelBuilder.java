@@ -44,6 +44,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.Stack;
+import java.util.concurrent.CompletableFuture;
 
 public class ScenarioModelBuilder implements ScenarioListener {
 
@@ -318,6 +319,13 @@ public class ScenarioModelBuilder implements ScenarioListener {
         }
     }
 
+    @Override
+    public void stepMethodMemoized() {
+        if (currentStep != null) {
+            currentStep.setMemoized(true);
+        }
+    }
+
     @Override
     public void stepMethodFinished(long durationInNanos, boolean hasNestedSteps) {
         if (hasNestedSteps && !parentSteps.isEmpty()) {
@@ -454,6 +462,11 @@ public class ScenarioModelBuilder implements ScenarioListener {
         currentStep.addAttachment(attachment);
     }
 
+    @Override
+    public void attachmentAdded(CompletableFuture<Attachment> attachment) {
+        currentStep.addAttachment(attachment);
+    }
+
     @Override
     public void extendedDescriptionUpdated(String extendedDescription) {
         currentStep.setExtendedDescription(extendedDescription);
@@ -8,4 +8,37 @@ import com.tngtech.jgiven.impl.intercept.StepInterceptor;
 public interface StageCreator {
 
     <T> T createStage(Class<T> stageClass,  StepInterceptor stepInterceptor);
+
+    /**
+     * Called when the scenario has finished whose stages have been created with the given step interceptor.
+     * Allows stage creators to release everything that is bound to the scenario.
+     *
+     * @since 1.4.0
+     */
+    default void scenarioFinished(StepInterceptor stepInterceptor) {
+    }
+
+    /**
+     * Returns a previously released instance of the given stage class that can be reused by the current scenario,
+     * or {@code null} if there is none. Only called for stage classes annotated with
+     * {@link com.tngtech.jgiven.annotation.ReusableStage}.
+     * <p>
+     * By default, instances are pooled per thread. Stage creators whose stages depend on an external context,
+     * like an application context, must pool their stages per context.
+     *
+     * @since 1.4.0
+     */
+    default <T> T acquireReusableStage(Class<T> stageClass) {
+        return ReusableStagePool.acquire(stageClass);
+    }
+
+    /**
+     * Hands over a stage instance that has been reset, so that it can be returned by
+     * {@link #acquireReusableStage(Class)} for the next scenario.
+     *
+     * @since 1.4.0
+     */
+    default void releaseReusableStage(Class<?> stageClass, Object stage) {
+        ReusableStagePool.release(stageClass, stage);
+    }
 }
@@ -4,6 +4,7 @@ import com.tngtech.jgiven.annotation.ExpectedScenarioState;
 import com.tngtech.jgiven.annotation.ProvidedScenarioState;
 import com.tngtech.jgiven.annotation.ScenarioState;
 import com.tngtech.jgiven.annotation.ScenarioState.Resolution;
+import com.tngtech.jgiven.annotation.ScenarioState.Scope;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.util.function.Function;
@@ -18,6 +19,7 @@ final class ScenarioStateField {
     private final Field field;
 
     private Resolution declaredResolution;
+    private Scope scope = Scope.SCENARIO;
     private boolean required;
 
     private ScenarioStateField( Field field ) {
@@ -44,6 +46,13 @@ final class ScenarioStateField {
         return declaredResolution;
     }
 
+    /**
+     * Return the {@link Scope} defined for this state.
+     */
+    public Scope getScope() {
+        return scope;
+    }
+
     /**
      * Returns {@code true} if and only if the {@link ScenarioState#required()} option is present on this state.
      */
@@ -55,6 +64,7 @@ final class ScenarioStateField {
         for( Annotation annotation : field.getAnnotations() ) {
             if( declaredResolution == null ) {
                 declaredResolution = collectDeclaredResolution( annotation );
+                scope = collectScope( annotation );
             }
 
             required |= collectRequired( annotation );
@@ -77,6 +87,22 @@ final class ScenarioStateField {
         return null;
     }
 
+    private Scope collectScope( Annotation annotation ) {
+        if( annotation instanceof ScenarioState ) {
+            return ( (ScenarioState) annotation ).scope();
+        }
+
+        if( annotation instanceof ProvidedScenarioState ) {
+            return ( (ProvidedScenarioState) annotation ).scope();
+        }
+
+        if( annotation instanceof ExpectedScenarioState ) {
+            return ( (ExpectedScenarioState) annotation ).scope();
+        }
+
+        return Scope.SCENARIO;
+    }
+
     private boolean collectRequired( Annotation annotation ) {
         if( annotation instanceof ScenarioState ) {
             return ( (ScenarioState) annotation ).required();
@@ -0,0 +1,162 @@
+package com.tngtech.jgiven.impl.inject;
+
+import com.tngtech.jgiven.annotation.ScenarioState.Scope;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Holds the values of scenario states whose {@link Scope} is broader than a single scenario.
+ * <p>
+ * Values are shared read-only, i.e., the first value that is stored for a name or type is kept until the
+ * scope is closed. Closing a scope closes all of its values that implement {@link AutoCloseable}.
+ * <p>
+ * The store of the {@link Scope#SUITE} scope is closed when the JVM shuts down. The stores of the
+ * {@link Scope#CLASS} scope are closed by the test framework integrations when a test class has finished,
+ * or when the JVM shuts down at the latest. Once the scope of a class has been closed, no store is created
+ * for it anymore until the integration opens it again for the next run of the class.
+ */
+public class ScopedValueStore {
+    private static final Logger log = LoggerFactory.getLogger(ScopedValueStore.class);
+
+    private static final ScopedValueStore suiteStore = new ScopedValueStore("suite");
+    private static final ConcurrentMap<String, ScopedValueStore> classStores = new ConcurrentHashMap<>();
+    private static final Set<String> closedClassNames = ConcurrentHashMap.newKeySet();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(ScopedValueStore::closeAllScopes, "jgiven-scope-closer"));
+    }
+
+    private final String name;
+    private final ConcurrentMap<Class<?>, Object> valuesByType = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Object> valuesByName = new ConcurrentHashMap<>();
+    private final List<AutoCloseable> closeHandlers = new CopyOnWriteArrayList<>();
+
+    private ScopedValueStore(String name) {
+        this.name = name;
+    }
+
+    public static ScopedValueStore getSuiteStore() {
+        return suiteStore;
+    }
+
+    /**
+     * Returns the store of the {@link Scope#CLASS} scope of the given test class and creates it if necessary.
+     *
+     * @return the store or {@code null} if the scope of the class has already been closed
+     */
+    public static ScopedValueStore getClassStore(String className) {
+        if (closedClassNames.contains(className)) {
+            log.warn("The class scope of " + className + " has already been closed. "
+                + "The value is only kept for the current scenario.");
+            return null;
+        }
+        return classStores.computeIfAbsent(className, ScopedValueStore::new);
+    }
+
+    /**
+     * Returns the store of the {@link Scope#CLASS} scope of the given test class without creating it.
+     *
+     * @return the store or {@code null} if no value has been stored for the class or its scope has been closed
+     */
+    public static ScopedValueStore findClassStore(String className) {
+        return classStores.get(className);
+    }
+
+    /**
+     * Opens the {@link Scope#CLASS} scope of the given test class before the class is run.
+     * This is only required if the class has already been run before in the same JVM.
+     */
+    public static void openClassScope(String className) {
+        closedClassNames.remove(className);
+    }
+
+    /**
+     * Closes the {@link Scope#CLASS} scope of the given test class.
+     * Values that have been stored for this class are closed and removed.
+     */
+    public static void closeClassScope(String className) {
+        closedClassNames.add(className);
+        ScopedValueStore store = classStores.remove(className);
+        if (store != null) {
+            store.close();
+        }
+    }
+
+    private static void closeAllScopes() {
+        for (String className : new ArrayList<>(classStores.keySet())) {
+            closeClassScope(className);
+        }
+        suiteStore.close();
+    }
+
+    /**
+     * Stores the given value if no value has been stored for that name before.
+     *
+     * @return the value that is stored for the given name after this call
+     */
+    public Object provideValueByName(String name, Object value) {
+        Object existingValue = valuesByName.putIfAbsent(name, value);
+        return existingValue == null ? value : existingValue;
+    }
+
+    /**
+     * Stores the given value if no value has been stored for that type before.
+     *
+     * @return the value that is stored for the given type after this call
+     */
+    public Object provideValueByType(Class<?> type, Object value) {
+        Object existingValue = valuesByType.putIfAbsent(type, value);
+        return existingValue == null ? value : existingValue;
+    }
+
+    /**
+     * Registers a handler that is closed together with this scope, after the values of the scope.
+     */
+    public void addCloseHandler(AutoCloseable closeHandler) {
+        closeHandlers.add(closeHandler);
+    }
+
+    public Object getValueByName(String name) {
+        return valuesByName.get(name);
+    }
+
+    public Object getValueByType(Class<?> type) {
+        return valuesByType.get(type);
+    }
+
+    private void close() {
+        Set<Object> values = Collections.newSetFromMap(new IdentityHashMap<>());
+        values.addAll(valuesByType.values());
+        values.addAll(valuesByName.values());
+        valuesByType.clear();
+        valuesByName.clear();
+
+        for (Object value : values) {
+            if (value instanceof AutoCloseable) {
+                try {
+                    ((AutoCloseable) value).close();
+                } catch (Exception e) {
+                    log.warn("Error while closing value " + value + " of scope " + name, e);
+                }
+            }
+        }
+
+        List<AutoCloseable> handlers = new ArrayList<>(closeHandlers);
+        closeHandlers.removeAll(handlers);
+        for (AutoCloseable handler : handlers) {
+            try {
+                handler.close();
+            } catch (Exception e) {
+                log.warn("Error while closing scope " + name, e);
+            }
+        }
+    }
+}
@@ -2,11 +2,13 @@ package com.tngtech.jgiven.impl.inject;
 
 import static java.util.stream.Collectors.toList;
 
+import com.google.common.base.Defaults;
 import com.google.common.collect.Maps;
 import com.tngtech.jgiven.annotation.ExpectedScenarioState;
 import com.tngtech.jgiven.annotation.ProvidedScenarioState;
 import com.tngtech.jgiven.annotation.ScenarioState;
 import com.tngtech.jgiven.annotation.ScenarioState.Resolution;
+import com.tngtech.jgiven.annotation.ScenarioState.Scope;
 import com.tngtech.jgiven.exception.AmbiguousResolutionException;
 import com.tngtech.jgiven.exception.JGivenInjectionException;
 import com.tngtech.jgiven.exception.JGivenMissingGuaranteedScenarioStateException;
@@ -31,6 +33,11 @@ public class ValueInjector {
     private static final ConcurrentHashMap<Class<?>, Boolean> validatedClasses = new ConcurrentHashMap<>();
     private final ValueInjectorState state = new ValueInjectorState();
 
+    /**
+     * The name of the test class whose store is used for states with {@link Scope#CLASS}.
+     */
+    private String testClassName;
+
     /**
      * @throws AmbiguousResolutionException when multiple fields with the same resolution exist in the given object
      */
@@ -117,6 +124,19 @@ public class ValueInjector {
         }
     }
 
+    /**
+     * Resets all fields of the given object that hold scenario state to their default values.
+     */
+    public void clearValues(Object object) {
+        for (ScenarioStateField field : getScenarioFields(object)) {
+            try {
+                field.getField().set(object, Defaults.defaultValue(field.getField().getType()));
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException("Error while clearing field " + field.getField(), e);
+            }
+        }
+    }
+
     public <T> void injectValueByType(Class<T> clazz, T value) {
         state.updateValueByType(clazz, value);
     }
@@ -125,7 +145,21 @@ public class ValueInjector {
         state.updateValueByName(name, value);
     }
 
+    /**
+     * Sets the test class that defines the {@link Scope#CLASS} scope.
+     */
+    public void setTestClassName(String testClassName) {
+        this.testClassName = testClassName;
+    }
+
     private void updateValue(ScenarioStateField field, Object value) {
+        ScopedValueStore store = value == null ? null : getScopedStore(field, true);
+        if (store != null && value != null) {
+            value = field.getResolution() == Resolution.NAME
+                ? store.provideValueByName(field.getField().getName(), value)
+                : store.provideValueByType(field.getField().getType(), value);
+        }
+
         if (field.getResolution() == Resolution.NAME) {
             state.updateValueByName(field.getField().getName(), value);
         } else {
@@ -134,6 +168,16 @@ public class ValueInjector {
     }
 
     private Object getValue(ScenarioStateField field) {
+        ScopedValueStore store = getScopedStore(field, false);
+        if (store != null) {
+            Object value = field.getResolution() == Resolution.NAME
+                ? store.getValueByName(field.getField().getName())
+                : store.getValueByType(field.getField().getType());
+            if (value != null) {
+                return value;
+            }
+        }
+
         if (field.getResolution() == Resolution.NAME) {
             return state.getValueByName(field.getField().getName());
         }
@@ -141,6 +185,26 @@ public class ValueInjector {
         return state.getValueByType(field.getField().getType());
     }
 
+    /**
+     * Returns the store of the scope of the given field. Stores of the class scope are only created
+     * if a value is stored, so that reading a value does not revive the scope of a finished test class.
+     */
+    private ScopedValueStore getScopedStore(ScenarioStateField field, boolean create) {
+        if (field.getScope() == Scope.SUITE) {
+            return ScopedValueStore.getSuiteStore();
+        }
+        if (field.getScope() == Scope.CLASS) {
+            if (testClassName == null) {
+                log.debug("No test class known for field {}, falling back to scenario scope", field.getField());
+                return null;
+            }
+            return create
+                ? ScopedValueStore.getClassStore(testClassName)
+                : ScopedValueStore.findClassStore(testClassName);
+        }
+        return null;
+    }
+
     private void checkGuaranteedStatesAreInitialized(Object instance) {
         for (Field field: FieldCache.get(instance.getClass())
                 .getFieldsWithAnnotation(ProvidedScenarioState.class, ScenarioState.class)) {
@@ -3,6 +3,7 @@ package com.tngtech.jgiven.impl.intercept;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import com.tngtech.jgiven.attachment.Attachment;
 import com.tngtech.jgiven.report.model.InvocationMode;
@@ -34,12 +35,18 @@ public class NoOpScenarioListener implements ScenarioListener {
     @Override
     public void stepMethodFinished( long durationInNanos, boolean hasNestedSteps ) {}
 
+    @Override
+    public void stepMethodMemoized() {}
+
     @Override
     public void scenarioFinished() {}
 
     @Override
     public void attachmentAdded( Attachment attachment ) {}
 
+    @Override
+    public void attachmentAdded( CompletableFuture<Attachment> attachment ) {}
+
     @Override
     public void extendedDescriptionUpdated( String extendedDescription ) {}
 
@@ -3,6 +3,7 @@ package com.tngtech.jgiven.impl.intercept;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import com.tngtech.jgiven.attachment.Attachment;
 import com.tngtech.jgiven.report.model.InvocationMode;
@@ -26,10 +27,14 @@ public interface ScenarioListener {
 
     void stepMethodFinished( long durationInNanos, boolean hasNestedSteps );
 
+    void stepMethodMemoized();
+
     void scenarioFinished();
 
     void attachmentAdded( Attachment attachment );
 
+    void attachmentAdded( CompletableFuture<Attachment> attachment );
+
     void extendedDescriptionUpdated( String extendedDescription );
 
     void stepNameUpdated( String newStepName );
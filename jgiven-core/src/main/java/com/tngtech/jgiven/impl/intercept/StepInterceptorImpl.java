@@ -18,6 +18,7 @@ import com.tngtech.jgiven.annotation.Hidden;
 import com.tngtech.jgiven.annotation.NestedSteps;
 import com.tngtech.jgiven.annotation.Pending;
 import com.tngtech.jgiven.impl.ScenarioExecutor;
+import com.tngtech.jgiven.impl.memo.StepMemoizer;
 import com.tngtech.jgiven.impl.util.ParameterNameUtil;
 import com.tngtech.jgiven.report.model.InvocationMode;
 import com.tngtech.jgiven.report.model.NamedArgument;
@@ -58,6 +59,11 @@ public class StepInterceptorImpl implements StepInterceptor {
      */
     private boolean suppressExceptions = true;
 
+    /**
+     * Skips steps of memoized stages that have already been executed by other scenarios
+     */
+    private final StepMemoizer stepMemoizer = new StepMemoizer();
+
     public StepInterceptorImpl(ScenarioExecutor scenarioExecutor, ScenarioListener listener, StageTransitionHandler stageTransitionHandler) {
         this.scenarioExecutor = scenarioExecutor;
         this.listener = listener;
@@ -103,12 +109,28 @@ public class StepInterceptorImpl implements StepInterceptor {
             return returnReceiverOrNull( receiver, method );
         }
 
+        boolean memoizable = mode == NORMAL && currentStackDepth == 0;
+        if( memoizable && stepMemoizer.replayStep( receiver, method, parameters ) ) {
+            if( handleMethod ) {
+                listener.stepMethodMemoized();
+                handleMethodFinished( System.nanoTime() - started, hasNestedSteps );
+            }
+            return returnReceiverOrNull( receiver, method );
+        }
+        if( !StepMemoizer.isTransparent( method ) ) {
+            stepMemoizer.beforeStepExecution( receiver );
+        }
+
         if( hasNestedSteps ) {
             maxStepDepth++;
         }
 
         try {
-            return invoker.proceed();
+            Object result = invoker.proceed();
+            if( memoizable ) {
+                stepMemoizer.stepExecuted( receiver, method, parameters );
+            }
+            return result;
         } catch( Exception e ) {
             return handleThrowable( receiver, method, e, System.nanoTime() - started, handleMethod );
         } catch( AssertionError e ) {
@@ -233,6 +255,10 @@ public class StepInterceptorImpl implements StepInterceptor {
         listener.stepMethodFinished( durationInNanos, hasNestedSteps );
     }
 
+    public StepMemoizer getStepMemoizer() {
+        return stepMemoizer;
+    }
+
     public void setScenarioListener(ScenarioListener scenarioListener) {
         this.listener = scenarioListener;
     }
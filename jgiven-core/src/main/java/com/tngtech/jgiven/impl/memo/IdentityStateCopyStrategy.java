@@ -0,0 +1,14 @@
+package com.tngtech.jgiven.impl.memo;
+
+import com.tngtech.jgiven.annotation.StateCopyStrategy;
+
+/**
+ * Does not copy values at all. Only suitable for immutable values.
+ */
+public class IdentityStateCopyStrategy implements StateCopyStrategy {
+
+    @Override
+    public Object copy(Object value) {
+        return value;
+    }
+}
@@ -0,0 +1,187 @@
+package com.tngtech.jgiven.impl.memo;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.tngtech.jgiven.annotation.FillerWord;
+import com.tngtech.jgiven.annotation.IntroWord;
+import com.tngtech.jgiven.annotation.MemoizedStage;
+import com.tngtech.jgiven.annotation.ProvidedScenarioState;
+import com.tngtech.jgiven.annotation.ScenarioState;
+import com.tngtech.jgiven.annotation.StateCopyStrategy;
+import com.tngtech.jgiven.annotation.StepComment;
+import com.tngtech.jgiven.impl.util.FieldCache;
+import com.tngtech.jgiven.impl.util.ReflectionUtil;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Memoizes the steps of stages annotated with {@link MemoizedStage}.
+ * <p>
+ * The scenario state of a memoized stage is stored after each executed step in a JVM-wide cache,
+ * keyed by the sequence of steps that have been executed on the stage so far.
+ * As long as a scenario invokes a sequence of steps that is found in the cache, the steps are skipped.
+ * The cached state is restored into the stage before the first step that has to be executed
+ * or before the stage is left, whatever comes first.
+ * <p>
+ * The cache holds at most {@value #MAX_CACHED_STATES} states. The least recently used states are evicted first,
+ * their steps are simply executed again by the next scenario.
+ */
+public class StepMemoizer {
+    private static final Logger log = LoggerFactory.getLogger(StepMemoizer.class);
+
+    static final int MAX_CACHED_STATES = 1000;
+
+    private static final Cache<String, Map<Field, Object>> cache = CacheBuilder.newBuilder()
+        .maximumSize(MAX_CACHED_STATES)
+        .build();
+
+    private static final Map<Class<? extends StateCopyStrategy>, StateCopyStrategy> copyStrategies =
+        new ConcurrentHashMap<>();
+
+    private final Map<Object, StageMemo> memos = new IdentityHashMap<>();
+
+    /**
+     * Checks whether the given step can be skipped, because the same sequence of steps
+     * has already been executed on a stage of the same class.
+     *
+     * @return {@code true} if the step must not be executed
+     */
+    public boolean replayStep(Object stage, Method method, Object[] arguments) {
+        StageMemo memo = getMemo(stage);
+        if (memo == null || isTransparent(method)) {
+            return false;
+        }
+
+        if (!memo.replaying) {
+            return false;
+        }
+
+        String key = memo.keyOfNextStep(method, arguments);
+        Map<Field, Object> state = cache.getIfPresent(key);
+        if (state != null) {
+            log.debug("Skipping memoized step {} of stage {}", method.getName(), stage.getClass());
+            memo.key = key;
+            memo.pendingState = state;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Must be called before a step of the given stage is actually executed.
+     */
+    public void beforeStepExecution(Object stage) {
+        restorePendingState(stage);
+        StageMemo memo = getMemo(stage);
+        if (memo != null) {
+            memo.replaying = false;
+        }
+    }
+
+    /**
+     * Stores the state of the given stage after a step has been executed successfully.
+     */
+    public void stepExecuted(Object stage, Method method, Object[] arguments) {
+        StageMemo memo = getMemo(stage);
+        if (memo == null || isTransparent(method)) {
+            return;
+        }
+
+        memo.key = memo.keyOfNextStep(method, arguments);
+        Map<Field, Object> state = new HashMap<>();
+        for (Field field : getStateFields(stage)) {
+            Object value = ReflectionUtil.getFieldValueOrNull(field, stage, "Error while reading memoized state of ");
+            state.put(field, value == null ? null : memo.copyStrategy.copy(value));
+        }
+        cache.asMap().putIfAbsent(memo.key, state);
+    }
+
+    /**
+     * Restores the state of the steps that have been skipped on the given stage so far.
+     */
+    public void restorePendingState(Object stage) {
+        if (memos.isEmpty()) {
+            return;
+        }
+
+        StageMemo memo = memos.get(stage);
+        if (memo == null || memo.pendingState == null) {
+            return;
+        }
+
+        Map<Field, Object> state = memo.pendingState;
+        memo.pendingState = null;
+        for (Map.Entry<Field, Object> entry : state.entrySet()) {
+            Object value = entry.getValue();
+            ReflectionUtil.setField(entry.getKey(), stage, value == null ? null : memo.copyStrategy.copy(value),
+                " while restoring memoized state");
+        }
+    }
+
+    private StageMemo getMemo(Object stage) {
+        StageMemo memo = memos.get(stage);
+        if (memo == null) {
+            MemoizedStage annotation = stage.getClass().getAnnotation(MemoizedStage.class);
+            if (annotation == null) {
+                return null;
+            }
+            memo = new StageMemo(stage.getClass().getName(),
+                copyStrategies.computeIfAbsent(annotation.copyStrategy(), ReflectionUtil::newInstance));
+            memos.put(stage, memo);
+        }
+        return memo;
+    }
+
+    /**
+     * Intro words, filler words and step comments do not change the state of a stage.
+     * They are neither memoized nor do they end the replay of memoized steps.
+     */
+    public static boolean isTransparent(Method method) {
+        return method.isAnnotationPresent(IntroWord.class)
+            || method.isAnnotationPresent(FillerWord.class)
+            || method.isAnnotationPresent(StepComment.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Field> getStateFields(Object stage) {
+        return FieldCache.get(stage.getClass())
+            .getFieldsWithAnnotation(ScenarioState.class, ProvidedScenarioState.class);
+    }
+
+    private static class StageMemo {
+        private final StateCopyStrategy copyStrategy;
+
+        /**
+         * Identifies the sequence of steps that have been executed or skipped on the stage so far.
+         */
+        private String key;
+
+        /**
+         * Whether all steps so far could be skipped.
+         */
+        private boolean replaying = true;
+
+        /**
+         * The cached state of the last skipped step if it has not been restored yet.
+         * It is kept here, as it might have been evicted from the cache in the meantime.
+         */
+        private Map<Field, Object> pendingState;
+
+        private StageMemo(String stageClassName, StateCopyStrategy copyStrategy) {
+            this.key = stageClassName;
+            this.copyStrategy = copyStrategy;
+        }
+
+        private String keyOfNextStep(Method method, Object[] arguments) {
+            return key + "\n" + method + Arrays.deepToString(arguments);
+        }
+    }
+}
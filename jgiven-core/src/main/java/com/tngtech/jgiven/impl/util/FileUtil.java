@@ -0,0 +1,51 @@
+package com.tngtech.jgiven.impl.util;
+
+import com.google.common.hash.Hashing;
+import com.google.common.io.Files;
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Helper methods for handling files.
+ *
+ * @since 1.4.0
+ */
+public class FileUtil {
+
+    private FileUtil() {
+    }
+
+    /**
+     * Computes the SHA-256 hash of the content of the given file without reading the whole file into memory.
+     *
+     * @return the hash as hex string
+     */
+    public static String sha256( File file ) throws IOException {
+        return Files.asByteSource( file ).hash( Hashing.sha256() ).toString();
+    }
+
+    /**
+     * Copies the given file to the given target file, replacing an existing target file.
+     * Uses {@link FileChannel#transferTo} so that the content can be copied
+     * by the operating system without passing through the heap.
+     *
+     * @throws IOException if the source file shrinks while it is copied
+     */
+    public static void copy( File source, File target ) throws IOException {
+        try( FileChannel in = FileChannel.open( source.toPath(), StandardOpenOption.READ );
+             FileChannel out = FileChannel.open( target.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                 StandardOpenOption.TRUNCATE_EXISTING ) ) {
+            long size = in.size();
+            long position = 0;
+            while( position < size ) {
+                long transferred = in.transferTo( position, size - position, out );
+                if( transferred == 0 && position >= in.size() ) {
+                    throw new IOException( "File " + source + " has been truncated while it was copied" );
+                }
+                position += transferred;
+            }
+        }
+    }
+}
@@ -24,6 +24,8 @@ public abstract class AbstractReportConfig {
     private File sourceDir;
     private File targetDir;
     private Boolean excludeEmptyScenarios;
+    private int readerThreads;
+    private boolean streaming;
 
     public AbstractReportConfig( String... args ) {
         Map<String, Object> configMap = new ConfigOptionParser().generate( configOptions, args );
@@ -31,6 +33,8 @@ public abstract class AbstractReportConfig {
         setSourceDir( (File) configMap.get( "sourceDir" ) );
         setTargetDir( (File) configMap.get( "targetDir" ) );
         setExcludeEmptyScenarios( (Boolean) configMap.get( "excludeEmptyScenarios" ) );
+        setReaderThreads( (Integer) configMap.get( "readerThreads" ) );
+        setStreaming( (Boolean) configMap.get( "streaming" ) );
         useConfigMap( configMap );
     }
 
@@ -39,6 +43,11 @@ public abstract class AbstractReportConfig {
         setSourceDir( new File( "." ) );
         setTargetDir( new File( "." ) );
         setExcludeEmptyScenarios( false );
+        setReaderThreads( defaultReaderThreads() );
+    }
+
+    private static int defaultReaderThreads() {
+        return Runtime.getRuntime().availableProcessors();
     }
 
     private List<ConfigOption> createConfigOptions() {
@@ -49,7 +58,7 @@ public abstract class AbstractReportConfig {
                         new CommandLineOptionBuilder( "--sourceDir" ).setArgumentDelimiter( "=" ).setShortPrefix( "--dir" )
                                 .setVisualPlaceholder( "path" ).build(),
                         new ToFile() )
-                .setDescription( "the source directory where the JGiven JSON files are located (default: .)" )
+                .setDescription( "the source directory or ZIP archive where the JGiven JSON files are located (default: .)" )
                 .setDefaultWith( new File( "." ) )
                 .build();
 
@@ -79,7 +88,25 @@ public abstract class AbstractReportConfig {
                 .setDefaultWith( false )
                 .build();
 
-        configOptions.addAll( Arrays.asList( sourceDir, targetDir, title, excludeEmptyScenarios ) );
+        ConfigOption readerThreads = new ConfigOptionBuilder( "readerThreads" )
+                .setCommandLineOptionWithArgument(
+                        new CommandLineOptionBuilder( "--reader-threads" ).setArgumentDelimiter( "=" )
+                                .setVisualPlaceholder( "integer" ).build(),
+                        new ToInteger() )
+                .setDescription( "the number of threads used to read the JSON files (default: number of processors)" )
+                .setDefaultWith( defaultReaderThreads() )
+                .build();
+
+        ConfigOption streaming = new ConfigOptionBuilder( "streaming" )
+                .setCommandLineOptionWithArgument(
+                        new CommandLineOptionBuilder( "--streaming" ).setArgumentDelimiter( "=" )
+                                .setVisualPlaceholder( "boolean" ).build(),
+                        new ToBoolean() )
+                .setDescription( "read the JSON files twice instead of keeping all of them in memory (default: false)" )
+                .setDefaultWith( false )
+                .build();
+
+        configOptions.addAll( Arrays.asList( sourceDir, targetDir, title, excludeEmptyScenarios, readerThreads, streaming ) );
         additionalConfigOptions( configOptions );
         return configOptions;
     }
@@ -116,8 +143,35 @@ public abstract class AbstractReportConfig {
         this.excludeEmptyScenarios = excludeEmptyScenarios;
     }
 
+    public int getReaderThreads() {
+        return readerThreads;
+    }
+
+    /**
+     * Sets the number of threads used to read the JSON files.
+     * The order of the read report models does not depend on the number of threads.
+     */
+    public void setReaderThreads( int readerThreads ) {
+        this.readerThreads = readerThreads;
+    }
+
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    /**
+     * Sets whether the report models are streamed to the report generator.
+     * If enabled, the JSON files are read twice: once to collect the statistics and tags,
+     * and once more while the report is generated, so that only one report model
+     * has to be kept in memory at a time.
+     */
+    public void setStreaming( boolean streaming ) {
+        this.streaming = streaming;
+    }
+
     public CompleteReportModel getReportModel() {
-        return new ReportModelReader( this ).readDirectory();
+        ReportModelReader reader = new ReportModelReader( this );
+        return streaming ? reader.readDirectoryStreaming() : reader.readDirectory();
     }
 
     public void printUsageAndExit() {
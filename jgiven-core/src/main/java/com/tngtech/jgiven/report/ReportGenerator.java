@@ -4,6 +4,8 @@ import com.tngtech.jgiven.exception.JGivenInstallationException;
 import com.tngtech.jgiven.exception.JGivenInternalDefectException;
 import com.tngtech.jgiven.report.asciidoc.AsciiDocReportGenerator;
 import com.tngtech.jgiven.report.config.ConfigOptionParser;
+import com.tngtech.jgiven.report.conversion.ReportModelConverter;
+import com.tngtech.jgiven.report.merge.ReportModelMergeGenerator;
 import com.tngtech.jgiven.report.text.PlainTextReportGenerator;
 
 import java.util.Arrays;
@@ -19,7 +21,19 @@ public class ReportGenerator {
       ASCIIDOC( "asciidoc" ),
       HTML( "html" ),
       HTML5( "html5" ),
-      TEXT( "text" );
+      TEXT( "text" ),
+      /**
+       * Converts the report models into the JSON format
+       */
+      JSON( "json" ),
+      /**
+       * Converts the report models into the binary format
+       */
+      BINARY( "binary" ),
+      /**
+       * Merges the report models of several result directories
+       */
+      MERGE( "merge" );
 
       private final String formatName;
 
@@ -51,6 +65,13 @@ public class ReportGenerator {
             case TEXT:
                 new PlainTextReportGenerator().generateFromCommandLine( args );
                 break;
+            case JSON:
+            case BINARY:
+                new ReportModelConverter().generateFromCommandLine( args );
+                break;
+            case MERGE:
+                new ReportModelMergeGenerator().generateFromCommandLine( args );
+                break;
             case HTML:
             case HTML5:
             default:
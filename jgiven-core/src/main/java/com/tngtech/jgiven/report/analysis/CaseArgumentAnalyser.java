@@ -12,6 +12,7 @@ import com.tngtech.jgiven.report.model.ScenarioModel;
 import com.tngtech.jgiven.report.model.StepModel;
 import com.tngtech.jgiven.report.model.Word;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -303,7 +304,8 @@ public class CaseArgumentAnalyser {
         }
 
         if (isInlineAttachment(firstAttachment)) {
-            return !firstAttachment.getValue().equals(otherAttachment.getValue());
+            return !Objects.equals(firstAttachment.getValue(), otherAttachment.getValue())
+                || !Objects.equals(firstAttachment.getContentHash(), otherAttachment.getContentHash());
         }
 
         return false;
@@ -2,13 +2,12 @@ package com.tngtech.jgiven.report.asciidoc;
 
 import com.google.common.collect.ListMultimap;
 import com.google.common.collect.MultimapBuilder;
-import com.google.common.collect.Multimaps;
-import com.google.common.io.Files;
 import com.google.common.io.Resources;
 import com.tngtech.jgiven.impl.util.PrintWriterUtil;
 import com.tngtech.jgiven.report.AbstractReportConfig;
 import com.tngtech.jgiven.report.AbstractReportGenerator;
 import com.tngtech.jgiven.report.model.ReportModelFile;
+import com.tngtech.jgiven.report.model.ReportModelFileFormat;
 import com.tngtech.jgiven.report.model.ReportStatistics;
 import java.io.File;
 import java.io.IOException;
@@ -43,6 +42,8 @@ public class AsciiDocReportGenerator extends AbstractReportGenerator {
     private final List<String> featureFiles = new ArrayList<>();
     private final List<String> failedScenarioFiles = new ArrayList<>();
     private final List<String> pendingScenarioFiles = new ArrayList<>();
+    private final ListMultimap<String, ReportStatistics> featureStatistics =
+            MultimapBuilder.hashKeys().arrayListValues().build();
     private File targetDir;
     private File featuresDir;
 
@@ -95,27 +96,29 @@ public class AsciiDocReportGenerator extends AbstractReportGenerator {
     }
 
     private void writeFeatureFiles() {
-        completeReportModel.getAllReportModels().stream()
-                .sorted(Comparator.comparing(AsciiDocReportGenerator::byFeatureName))
-                .forEach(reportModelFile -> {
-                    final String featureFileName = Files.getNameWithoutExtension(
-                            reportModelFile.file().getName()) + ".asciidoc";
-                    writeAsciiDocBlocksToFile(new File(featuresDir, featureFileName),
-                            collectReportBlocks(reportModelFile, featureFileName));
-                });
-    }
-
-    private List<String> collectReportBlocks(final ReportModelFile reportModelFile, final String featureFileName) {
-        featureFiles.add(featureFileName);
-
-        final ReportStatistics statistics = completeReportModel.getStatistics(reportModelFile);
-        if (statistics.numFailedScenarios > 0) {
-            failedScenarioFiles.add(featureFileName);
-        }
-        if (statistics.numPendingScenarios > 0) {
-            pendingScenarioFiles.add(featureFileName);
+        final List<FeatureFile> writtenFiles = new ArrayList<>();
+        completeReportModel.forEachReportModel(reportModelFile -> {
+            final String featureFileName = ReportModelFileFormat.getBaseName(reportModelFile.file()) + ".asciidoc";
+            final ReportStatistics statistics = completeReportModel.getStatistics(reportModelFile);
+            writeAsciiDocBlocksToFile(new File(featuresDir, featureFileName),
+                    collectReportBlocks(reportModelFile, statistics));
+            writtenFiles.add(new FeatureFile(reportModelFile, featureFileName, statistics));
+        });
+
+        writtenFiles.sort(Comparator.comparing(featureFile -> featureFile.featureName));
+        for (FeatureFile featureFile : writtenFiles) {
+            featureFiles.add(featureFile.fileName);
+            if (featureFile.statistics.numFailedScenarios > 0) {
+                failedScenarioFiles.add(featureFile.fileName);
+            }
+            if (featureFile.statistics.numPendingScenarios > 0) {
+                pendingScenarioFiles.add(featureFile.fileName);
+            }
+            featureStatistics.put(featureFile.modelName, featureFile.statistics);
         }
+    }
 
+    private List<String> collectReportBlocks(final ReportModelFile reportModelFile, final ReportStatistics statistics) {
         final AsciiDocReportModelVisitor visitor = new AsciiDocReportModelVisitor(blockConverter, statistics);
         reportModelFile.model().accept(visitor);
 
@@ -153,13 +156,6 @@ public class AsciiDocReportGenerator extends AbstractReportGenerator {
 
     private void writeTotalStatisticsFile() {
 
-        final ListMultimap<String, ReportStatistics> featureStatistics = completeReportModel.getAllReportModels()
-                .stream()
-                .collect(Multimaps.toMultimap(
-                        modelFile -> modelFile.model().getName(),
-                        completeReportModel::getStatistics,
-                        MultimapBuilder.hashKeys().arrayListValues()::build));
-
         final String statisticsBlock = blockConverter.convertStatisticsBlock(
                 featureStatistics, completeReportModel.getTotalStatistics());
 
@@ -195,6 +191,23 @@ public class AsciiDocReportGenerator extends AbstractReportGenerator {
                 : modelFile.model().getClassName();
     }
 
+    /**
+     * The summary of a written feature file, so that the report model itself need not be kept.
+     */
+    private static class FeatureFile {
+        final String featureName;
+        final String modelName;
+        final String fileName;
+        final ReportStatistics statistics;
+
+        FeatureFile(final ReportModelFile reportModelFile, final String fileName, final ReportStatistics statistics) {
+            this.featureName = byFeatureName(reportModelFile);
+            this.modelName = reportModelFile.model().getName();
+            this.fileName = fileName;
+            this.statistics = statistics;
+        }
+    }
+
     private static void writeAsciiDocBlocksToFile(final File file, final List<String> asciiDocBlocks) {
         try (final PrintWriter writer = PrintWriterUtil.getPrintWriter(file)) {
             for (final String block : asciiDocBlocks) {
@@ -0,0 +1,129 @@
+package com.tngtech.jgiven.report.binary;
+
+import com.google.common.collect.Interner;
+import com.google.common.io.ByteStreams;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the primitive values written by {@link BinaryOutput}.
+ */
+class BinaryInput {
+    private final InputStream in;
+    private final Interner<String> interner;
+    private final List<String> stringTable = new ArrayList<>();
+
+    BinaryInput(InputStream in, Interner<String> interner) {
+        this.in = in;
+        this.interner = interner;
+    }
+
+    int readByte() throws IOException {
+        int value = in.read();
+        if (value < 0) {
+            throw new EOFException("Unexpected end of binary report");
+        }
+        return value;
+    }
+
+    byte[] readBytes() throws IOException {
+        byte[] bytes = new byte[readLength()];
+        ByteStreams.readFully(in, bytes);
+        return bytes;
+    }
+
+    void skipBytes() throws IOException {
+        ByteStreams.skipFully(in, readLength());
+    }
+
+    private int readLength() throws IOException {
+        long length = readVarLong();
+        if (length > Integer.MAX_VALUE) {
+            throw new IOException("Invalid length " + length + " in binary report");
+        }
+        return (int) length;
+    }
+
+    boolean readBoolean() throws IOException {
+        return readByte() != 0;
+    }
+
+    long readVarLong() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable-length number in binary report");
+    }
+
+    long readSignedVarLong() throws IOException {
+        long value = readVarLong();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    int readInt() throws IOException {
+        return (int) readSignedVarLong();
+    }
+
+    /**
+     * Reads the size of a list.
+     *
+     * @return the size of the list or -1 if the list is {@code null}
+     */
+    int readSize() throws IOException {
+        return readLength() - 1;
+    }
+
+    String readString() throws IOException {
+        long tag = readVarLong();
+        if (tag == BinaryOutput.NULL) {
+            return null;
+        }
+        if (tag == BinaryOutput.NEW_STRING) {
+            String value = new String(readBytes(), StandardCharsets.UTF_8);
+            if (interner != null) {
+                value = interner.intern(value);
+            }
+            stringTable.add(value);
+            return value;
+        }
+        long index = tag - BinaryOutput.FIRST_STRING_REFERENCE;
+        if (index >= stringTable.size()) {
+            throw new IOException("Invalid string reference " + index + " in binary report");
+        }
+        return stringTable.get((int) index);
+    }
+
+    List<String> readStrings() throws IOException {
+        int size = readSize();
+        if (size < 0) {
+            return null;
+        }
+        List<String> values = new ArrayList<>(Math.min(size, 1024));
+        for (int i = 0; i < size; i++) {
+            values.add(readString());
+        }
+        return values;
+    }
+
+    /**
+     * Like the JSON reader, unknown constants are read as {@code null}.
+     */
+    <E extends Enum<E>> E readEnum(Class<E> enumType) throws IOException {
+        String name = readString();
+        for (E constant : enumType.getEnumConstants()) {
+            if (constant.name().equals(name)) {
+                return constant;
+            }
+        }
+        return null;
+    }
+}
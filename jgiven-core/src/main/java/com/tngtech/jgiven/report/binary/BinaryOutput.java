@@ -0,0 +1,91 @@
+package com.tngtech.jgiven.report.binary;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes the primitive values of the binary report format.
+ * <p>
+ * Integers are written as variable-length quantities, so that small numbers only need a single byte.
+ * Strings are written to a string table that is built while writing: the first occurrence of a string
+ * is written inline, each further occurrence only as a reference to the first one.
+ */
+class BinaryOutput {
+    static final int NULL = 0;
+    static final int NEW_STRING = 1;
+    static final int FIRST_STRING_REFERENCE = 2;
+
+    private final OutputStream out;
+    private final Map<String, Integer> stringTable = new HashMap<>();
+
+    BinaryOutput(OutputStream out) {
+        this.out = out;
+    }
+
+    void writeByte(int value) throws IOException {
+        out.write(value);
+    }
+
+    void writeBytes(byte[] bytes) throws IOException {
+        writeVarLong(bytes.length);
+        out.write(bytes);
+    }
+
+    void writeBoolean(boolean value) throws IOException {
+        out.write(value ? 1 : 0);
+    }
+
+    void writeVarLong(long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    /**
+     * Writes a signed value with zigzag encoding, so that small negative numbers stay small.
+     */
+    void writeSignedVarLong(long value) throws IOException {
+        writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    /**
+     * Writes the size of a list that can be {@code null}.
+     */
+    void writeSize(List<?> list) throws IOException {
+        writeVarLong(list == null ? NULL : list.size() + 1L);
+    }
+
+    void writeString(String value) throws IOException {
+        if (value == null) {
+            writeVarLong(NULL);
+            return;
+        }
+        Integer index = stringTable.get(value);
+        if (index != null) {
+            writeVarLong(FIRST_STRING_REFERENCE + (long) index);
+            return;
+        }
+        stringTable.put(value, stringTable.size());
+        writeVarLong(NEW_STRING);
+        writeBytes(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    void writeStrings(List<String> values) throws IOException {
+        writeSize(values);
+        if (values != null) {
+            for (String value : values) {
+                writeString(value);
+            }
+        }
+    }
+
+    void writeEnum(Enum<?> value) throws IOException {
+        writeString(value == null ? null : value.name());
+    }
+}
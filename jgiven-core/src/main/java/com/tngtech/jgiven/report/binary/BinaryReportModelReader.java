@@ -0,0 +1,337 @@
+package com.tngtech.jgiven.report.binary;
+
+import com.google.common.base.Function;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.google.common.io.ByteStreams;
+import com.tngtech.jgiven.annotation.Table;
+import com.tngtech.jgiven.report.json.ScenarioJsonReader.JsonReaderException;
+import com.tngtech.jgiven.report.json.ScenarioModelHandler;
+import com.tngtech.jgiven.report.json.SkippableField;
+import com.tngtech.jgiven.report.model.ArgumentInfo;
+import com.tngtech.jgiven.report.model.AttachmentModel;
+import com.tngtech.jgiven.report.model.DataTable;
+import com.tngtech.jgiven.report.model.ExecutionStatus;
+import com.tngtech.jgiven.report.model.ReportModel;
+import com.tngtech.jgiven.report.model.ReportModelFileFormat;
+import com.tngtech.jgiven.report.model.ScenarioCaseModel;
+import com.tngtech.jgiven.report.model.ScenarioModel;
+import com.tngtech.jgiven.report.model.StepModel;
+import com.tngtech.jgiven.report.model.StepStatus;
+import com.tngtech.jgiven.report.model.Tag;
+import com.tngtech.jgiven.report.model.Word;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reads report models written by {@link BinaryReportModelWriter}.
+ * <p>
+ * Like the JSON reader, the reader canonicalizes repeating strings across files
+ * and can skip fields that are not needed.
+ *
+ * @since 1.4.0
+ */
+public class BinaryReportModelReader implements Function<File, ReportModel> {
+    private static final Interner<String> INTERNER = Interners.newWeakInterner();
+
+    private final Set<SkippableField> skippedFields;
+
+    public BinaryReportModelReader() {
+        this(EnumSet.noneOf(SkippableField.class));
+    }
+
+    /**
+     * @param skippedFields the fields that are read, but not added to the report model
+     */
+    public BinaryReportModelReader(Set<SkippableField> skippedFields) {
+        this.skippedFields = skippedFields.isEmpty()
+            ? EnumSet.noneOf(SkippableField.class) : EnumSet.copyOf(skippedFields);
+    }
+
+    /**
+     * Returns whether the given file starts with the header of the binary report format.
+     */
+    public static boolean isBinaryReport(File file) {
+        try (InputStream in = ReportModelFileFormat.newInputStream(file)) {
+            return isBinaryReport(in);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns whether the given stream starts with the header of the binary report format.
+     * The stream has to support {@link InputStream#mark}, it is reset to its current position afterwards.
+     */
+    public static boolean isBinaryReport(InputStream in) throws IOException {
+        byte[] header = new byte[BinaryReportModelWriter.MAGIC.length];
+        in.mark(header.length);
+        try {
+            return ByteStreams.read(in, header, 0, header.length) == header.length
+                && Arrays.equals(header, BinaryReportModelWriter.MAGIC);
+        } finally {
+            in.reset();
+        }
+    }
+
+    /**
+     * @throws JsonReaderException in case there was an error while reading the file.
+     */
+    @Override
+    public ReportModel apply(File file) {
+        return readScenarios(file, (model, scenario) -> model.getScenarios().add(scenario));
+    }
+
+    /**
+     * Reads the given file scenario by scenario and passes each scenario to the given handler
+     * as soon as it has been read.
+     *
+     * @return the report model of the file without its scenarios, unless the handler added them
+     * @throws JsonReaderException in case there was an error while reading the file.
+     * @see com.tngtech.jgiven.report.json.ScenarioJsonReader#readScenarios
+     */
+    public ReportModel readScenarios(File file, ScenarioModelHandler handler) {
+        try (InputStream in = ReportModelFileFormat.newInputStream(file)) {
+            return read(in, handler);
+        } catch (Exception e) {
+            throw new JsonReaderException(file, e);
+        }
+    }
+
+    /**
+     * Reads a report model from the given stream. The stream is not closed.
+     */
+    public ReportModel read(InputStream inputStream) throws IOException {
+        return read(inputStream, (model, scenario) -> model.getScenarios().add(scenario));
+    }
+
+    /**
+     * Reads a report model from the given stream and passes its scenarios one by one to the given handler.
+     * The stream is not closed.
+     */
+    public ReportModel read(InputStream inputStream, ScenarioModelHandler handler) throws IOException {
+        byte[] header = new byte[BinaryReportModelWriter.MAGIC.length];
+        ByteStreams.readFully(inputStream, header);
+        if (!Arrays.equals(header, BinaryReportModelWriter.MAGIC)) {
+            throw new IOException("Not a binary JGiven report");
+        }
+        BinaryInput in = new BinaryInput(inputStream, INTERNER);
+        long version = in.readVarLong();
+        if (version != BinaryReportModelWriter.VERSION) {
+            throw new IOException("Unsupported version " + version + " of the binary report format");
+        }
+        return readReportModel(in, handler);
+    }
+
+    private ReportModel readReportModel(BinaryInput in, ScenarioModelHandler handler) throws IOException {
+        ReportModel model = new ReportModel();
+        model.setClassName(in.readString());
+        model.setName(in.readString());
+        model.setDescription(in.readString());
+        Map<String, Tag> tagMap = Maps.newLinkedHashMap();
+        for (long i = in.readVarLong(); i > 0; i--) {
+            tagMap.put(in.readString(), readTag(in));
+        }
+        model.setTagMap(tagMap);
+        for (long i = in.readVarLong(); i > 0; i--) {
+            handler.handleScenarioModel(model, readScenario(in));
+        }
+        return model;
+    }
+
+    private ScenarioModel readScenario(BinaryInput in) throws IOException {
+        ScenarioModel scenario = new ScenarioModel();
+        scenario.setClassName(in.readString());
+        scenario.setTestMethodName(in.readString());
+        scenario.setDescription(in.readString());
+        scenario.setExtendedDescription(in.readString());
+        List<String> tagIds = in.readStrings();
+        if (tagIds != null) {
+            scenario.setTagIds(Sets.newLinkedHashSet(tagIds));
+        }
+        List<String> explicitParameters = in.readStrings();
+        if (explicitParameters != null) {
+            scenario.setExplicitParameters(explicitParameters);
+        }
+        List<String> derivedParameters = in.readStrings();
+        if (derivedParameters != null) {
+            scenario.setDerivedParameters(derivedParameters);
+        }
+        scenario.setCasesAsTable(in.readBoolean());
+        scenario.setDurationInNanos(in.readSignedVarLong());
+        ExecutionStatus executionStatus = in.readEnum(ExecutionStatus.class);
+        for (long i = in.readVarLong(); i > 0; i--) {
+            // the cases are added directly as addCase() would renumber them
+            scenario.getScenarioCases().add(readCase(in));
+        }
+        scenario.setExecutionStatus(executionStatus);
+        return scenario;
+    }
+
+    private ScenarioCaseModel readCase(BinaryInput in) throws IOException {
+        ScenarioCaseModel scenarioCase = new ScenarioCaseModel();
+        scenarioCase.setCaseNr(in.readInt());
+        List<String> explicitArguments = in.readStrings();
+        if (explicitArguments != null) {
+            scenarioCase.setExplicitArguments(explicitArguments);
+        }
+        List<String> derivedArguments = in.readStrings();
+        if (derivedArguments != null) {
+            scenarioCase.setDerivedArguments(derivedArguments);
+        }
+        scenarioCase.setStatus(in.readEnum(ExecutionStatus.class));
+        scenarioCase.setErrorMessage(in.readString());
+        List<String> stackTrace = in.readStrings();
+        if (!skippedFields.contains(SkippableField.STACK_TRACE)) {
+            scenarioCase.setStackTrace(stackTrace);
+        }
+        scenarioCase.setDurationInNanos(in.readSignedVarLong());
+        scenarioCase.setDescription(in.readString());
+        List<StepModel> steps = readSteps(in);
+        if (steps != null) {
+            scenarioCase.setSteps(steps);
+        }
+        return scenarioCase;
+    }
+
+    private List<StepModel> readSteps(BinaryInput in) throws IOException {
+        int size = in.readSize();
+        if (size < 0) {
+            return null;
+        }
+        List<StepModel> steps = Lists.newArrayListWithCapacity(Math.min(size, 1024));
+        for (int i = 0; i < size; i++) {
+            steps.add(readStep(in));
+        }
+        return steps;
+    }
+
+    private StepModel readStep(BinaryInput in) throws IOException {
+        StepModel step = new StepModel();
+        step.setName(in.readString());
+        List<Word> words = Lists.newArrayList();
+        for (long i = in.readVarLong(); i > 0; i--) {
+            words.add(readWord(in));
+        }
+        if (!skippedFields.contains(SkippableField.WORDS)) {
+            step.setWords(words);
+        }
+        List<StepModel> nestedSteps = readSteps(in);
+        if (!skippedFields.contains(SkippableField.NESTED_STEPS)) {
+            step.setNestedSteps(nestedSteps);
+        }
+        step.setStatus(in.readEnum(StepStatus.class));
+        step.setDurationInNanos(in.readSignedVarLong());
+        step.setExtendedDescription(in.readString());
+        long attachmentCount = in.readVarLong();
+        if (attachmentCount > 0) {
+            List<AttachmentModel> attachments = Lists.newArrayList();
+            for (long i = attachmentCount; i > 0; i--) {
+                attachments.add(readAttachment(in));
+            }
+            if (!skippedFields.contains(SkippableField.ATTACHMENTS)) {
+                step.setAttachments(attachments);
+            }
+        }
+        step.setIsSectionTitle(in.readBoolean());
+        step.setMemoized(in.readBoolean());
+        step.setComment(in.readString());
+        step.setDepth(in.readInt());
+        step.setParentFailed(in.readBoolean());
+        return step;
+    }
+
+    private AttachmentModel readAttachment(BinaryInput in) throws IOException {
+        AttachmentModel attachment = new AttachmentModel();
+        attachment.setTitle(in.readString());
+        attachment.setValue(readAttachmentValue(in));
+        attachment.setFileName(in.readString());
+        attachment.setMediaType(in.readString());
+        attachment.setIsBinary(in.readBoolean());
+        attachment.setShowDirectly(in.readBoolean());
+        attachment.setFilePath(in.readString());
+        attachment.setContentHash(in.readString());
+        return attachment;
+    }
+
+    private String readAttachmentValue(BinaryInput in) throws IOException {
+        int type = in.readByte();
+        if (type == BinaryReportModelWriter.ATTACHMENT_VALUE_NULL) {
+            return null;
+        }
+        if (skippedFields.contains(SkippableField.ATTACHMENTS)) {
+            in.skipBytes();
+            return null;
+        }
+        if (type == BinaryReportModelWriter.ATTACHMENT_VALUE_BYTES) {
+            return Base64.getEncoder().encodeToString(in.readBytes());
+        }
+        return new String(in.readBytes(), StandardCharsets.UTF_8);
+    }
+
+    private Word readWord(BinaryInput in) throws IOException {
+        Word word = new Word();
+        word.setValue(in.readString());
+        word.setIntroWord(in.readBoolean());
+        word.setIsDifferent(in.readBoolean());
+        if (in.readBoolean()) {
+            ArgumentInfo argumentInfo = new ArgumentInfo();
+            argumentInfo.setParameterName(in.readString());
+            argumentInfo.setArgumentName(in.readString());
+            argumentInfo.setFormattedValue(in.readString());
+            if (in.readBoolean()) {
+                argumentInfo.setDataTable(readDataTable(in));
+            }
+            word.setArgumentInfo(argumentInfo);
+        }
+        return word;
+    }
+
+    private DataTable readDataTable(BinaryInput in) throws IOException {
+        Table.HeaderType headerType = in.readEnum(Table.HeaderType.class);
+        List<List<String>> data = null;
+        int rows = in.readSize();
+        if (rows >= 0) {
+            data = Lists.newArrayListWithCapacity(Math.min(rows, 1024));
+            for (int i = 0; i < rows; i++) {
+                data.add(in.readStrings());
+            }
+        }
+        DataTable dataTable = new DataTable(headerType, Collections.emptyList());
+        dataTable.setData(data);
+        return dataTable;
+    }
+
+    private Tag readTag(BinaryInput in) throws IOException {
+        Tag tag = new Tag(in.readString());
+        tag.setType(in.readString());
+        tag.setName(in.readString());
+        int valueType = in.readByte();
+        if (valueType == BinaryReportModelWriter.TAG_VALUE_STRING) {
+            tag.setValue(in.readString());
+        } else if (valueType == BinaryReportModelWriter.TAG_VALUE_LIST) {
+            tag.setValue(in.readStrings());
+        }
+        tag.setDescription(in.readString());
+        tag.setPrependType(in.readBoolean());
+        tag.setColor(in.readString());
+        tag.setCssClass(in.readString());
+        tag.setStyle(in.readString());
+        tag.setTags(in.readStrings());
+        tag.setHref(in.readString());
+        tag.setShowInNavigation(in.readBoolean());
+        return tag;
+    }
+}
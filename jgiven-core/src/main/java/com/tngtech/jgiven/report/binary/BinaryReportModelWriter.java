@@ -0,0 +1,234 @@
+package com.tngtech.jgiven.report.binary;
+
+import com.tngtech.jgiven.report.model.ArgumentInfo;
+import com.tngtech.jgiven.report.model.AttachmentModel;
+import com.tngtech.jgiven.report.model.DataTable;
+import com.tngtech.jgiven.report.model.ReportModel;
+import com.tngtech.jgiven.report.model.ReportModelFileFormat;
+import com.tngtech.jgiven.report.model.ScenarioCaseModel;
+import com.tngtech.jgiven.report.model.ScenarioModel;
+import com.tngtech.jgiven.report.model.StepModel;
+import com.tngtech.jgiven.report.model.Tag;
+import com.tngtech.jgiven.report.model.Word;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes a {@link ReportModel} in the compact binary report format.
+ * <p>
+ * The format contains the same information as the JSON format, but all strings are only written once per file
+ * and the content of binary attachments is written as raw bytes instead of Base64.
+ * Files in this format are read by {@link BinaryReportModelReader}.
+ *
+ * @since 1.4.0
+ */
+public class BinaryReportModelWriter {
+    static final byte[] MAGIC = {'J', 'G', 'V', 'B'};
+    static final int VERSION = 1;
+
+    static final int ATTACHMENT_VALUE_NULL = 0;
+    static final int ATTACHMENT_VALUE_TEXT = 1;
+    static final int ATTACHMENT_VALUE_BYTES = 2;
+
+    static final int TAG_VALUE_NULL = 0;
+    static final int TAG_VALUE_STRING = 1;
+    static final int TAG_VALUE_LIST = 2;
+
+    private final ReportModel model;
+
+    public BinaryReportModelWriter(ReportModel model) {
+        this.model = model;
+    }
+
+    /**
+     * Writes the model to the given file, compressed with gzip
+     * if the file has the {@value ReportModelFileFormat#COMPRESSED_EXTENSION} extension.
+     */
+    public void write(File file) {
+        try (OutputStream out = ReportModelFileFormat.newOutputStream(file)) {
+            write(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write binary report " + file, e);
+        }
+    }
+
+    public void write(OutputStream outputStream) throws IOException {
+        outputStream.write(MAGIC);
+        BinaryOutput out = new BinaryOutput(outputStream);
+        out.writeVarLong(VERSION);
+        writeReportModel(out, model);
+    }
+
+    private void writeReportModel(BinaryOutput out, ReportModel model) throws IOException {
+        out.writeString(model.getClassName());
+        out.writeString(model.getName());
+        out.writeString(model.getDescription());
+        // the tags are written before the scenarios, so that they are known when the scenarios are read one by one
+        Map<String, Tag> tagMap = model.getTagMap();
+        out.writeVarLong(tagMap.size());
+        for (Map.Entry<String, Tag> entry : tagMap.entrySet()) {
+            out.writeString(entry.getKey());
+            writeTag(out, entry.getValue());
+        }
+        out.writeVarLong(model.getScenarios().size());
+        for (ScenarioModel scenario : model.getScenarios()) {
+            writeScenario(out, scenario);
+        }
+    }
+
+    private void writeScenario(BinaryOutput out, ScenarioModel scenario) throws IOException {
+        out.writeString(scenario.getClassName());
+        out.writeString(scenario.getTestMethodName());
+        out.writeString(scenario.getDescription());
+        out.writeString(scenario.getExtendedDescription());
+        out.writeStrings(scenario.getTagIds());
+        out.writeStrings(scenario.getExplicitParameters());
+        out.writeStrings(scenario.getDerivedParameters());
+        out.writeBoolean(scenario.isCasesAsTable());
+        out.writeSignedVarLong(scenario.getDurationInNanos());
+        out.writeEnum(scenario.getExecutionStatus());
+        out.writeVarLong(scenario.getScenarioCases().size());
+        for (ScenarioCaseModel scenarioCase : scenario.getScenarioCases()) {
+            writeCase(out, scenarioCase);
+        }
+    }
+
+    private void writeCase(BinaryOutput out, ScenarioCaseModel scenarioCase) throws IOException {
+        out.writeSignedVarLong(scenarioCase.getCaseNr());
+        out.writeStrings(scenarioCase.getExplicitArguments());
+        out.writeStrings(scenarioCase.getDerivedArguments());
+        out.writeEnum(scenarioCase.getExecutionStatus());
+        out.writeString(scenarioCase.getErrorMessage());
+        out.writeStrings(scenarioCase.getStackTrace());
+        out.writeSignedVarLong(scenarioCase.getDurationInNanos());
+        out.writeString(scenarioCase.getDescription());
+        writeSteps(out, scenarioCase.getSteps());
+    }
+
+    private void writeSteps(BinaryOutput out, List<StepModel> steps) throws IOException {
+        out.writeSize(steps);
+        if (steps != null) {
+            for (StepModel step : steps) {
+                writeStep(out, step);
+            }
+        }
+    }
+
+    private void writeStep(BinaryOutput out, StepModel step) throws IOException {
+        out.writeString(step.getName());
+        out.writeVarLong(step.getWords().size());
+        for (Word word : step.getWords()) {
+            writeWord(out, word);
+        }
+        writeSteps(out, step.getNestedSteps().isEmpty() ? null : step.getNestedSteps());
+        out.writeEnum(step.getStatus());
+        out.writeSignedVarLong(step.getDurationInNanos());
+        out.writeString(step.getExtendedDescription());
+        List<AttachmentModel> attachments = step.getAttachments();
+        out.writeVarLong(attachments.size());
+        for (AttachmentModel attachment : attachments) {
+            writeAttachment(out, attachment);
+        }
+        out.writeBoolean(step.isSectionTitle());
+        out.writeBoolean(step.isMemoized());
+        out.writeString(step.getComment());
+        out.writeSignedVarLong(step.getDepth());
+        out.writeBoolean(step.isParentFailed());
+    }
+
+    private void writeAttachment(BinaryOutput out, AttachmentModel attachment) throws IOException {
+        out.writeString(attachment.getTitle());
+        writeAttachmentValue(out, attachment);
+        out.writeString(attachment.getFileName());
+        out.writeString(attachment.getMediaType());
+        out.writeBoolean(attachment.isBinary());
+        out.writeBoolean(attachment.isShowDirectly());
+        out.writeString(attachment.getFilePath());
+        out.writeString(attachment.getContentHash());
+    }
+
+    /**
+     * Attachment values are not added to the string table, as they are typically large and unique.
+     * Base64 encoded values are written as raw bytes, if they can be restored exactly.
+     */
+    private void writeAttachmentValue(BinaryOutput out, AttachmentModel attachment) throws IOException {
+        String value = attachment.getValue();
+        if (value == null) {
+            out.writeByte(ATTACHMENT_VALUE_NULL);
+            return;
+        }
+        byte[] bytes = attachment.isBinary() ? decodeBase64(value) : null;
+        if (bytes != null) {
+            out.writeByte(ATTACHMENT_VALUE_BYTES);
+            out.writeBytes(bytes);
+        } else {
+            out.writeByte(ATTACHMENT_VALUE_TEXT);
+            out.writeBytes(value.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static byte[] decodeBase64(String value) {
+        try {
+            byte[] bytes = Base64.getDecoder().decode(value);
+            return Base64.getEncoder().encodeToString(bytes).equals(value) ? bytes : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private void writeWord(BinaryOutput out, Word word) throws IOException {
+        out.writeString(word.getValue());
+        out.writeBoolean(word.isIntroWord());
+        out.writeBoolean(word.isDifferent());
+        ArgumentInfo argumentInfo = word.getArgumentInfo();
+        out.writeBoolean(argumentInfo != null);
+        if (argumentInfo != null) {
+            out.writeString(argumentInfo.isParameter() ? argumentInfo.getParameterName() : null);
+            out.writeString(argumentInfo.getArgumentName());
+            out.writeString(argumentInfo.getFormattedValue());
+            DataTable dataTable = argumentInfo.getDataTable();
+            out.writeBoolean(dataTable != null);
+            if (dataTable != null) {
+                out.writeEnum(dataTable.getHeaderType());
+                List<List<String>> data = dataTable.getData();
+                out.writeSize(data);
+                if (data != null) {
+                    for (List<String> row : data) {
+                        out.writeStrings(row);
+                    }
+                }
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void writeTag(BinaryOutput out, Tag tag) throws IOException {
+        out.writeString(tag.getFullType());
+        out.writeString(tag.getType());
+        out.writeString(tag.getExplicitName());
+        Object value = tag.getValue();
+        if (value instanceof String) {
+            out.writeByte(TAG_VALUE_STRING);
+            out.writeString((String) value);
+        } else if (value != null) {
+            out.writeByte(TAG_VALUE_LIST);
+            out.writeStrings((List<String>) value);
+        } else {
+            out.writeByte(TAG_VALUE_NULL);
+        }
+        out.writeString(tag.getDescription());
+        out.writeBoolean(tag.isPrependType());
+        out.writeString(tag.getColor());
+        out.writeString(tag.getCssClass());
+        out.writeString(tag.getStyle());
+        out.writeStrings(tag.getTags());
+        out.writeString(tag.getHref());
+        out.writeBoolean(tag.getShownInNavigation());
+    }
+}
@@ -17,7 +17,9 @@ public class ConfigOptionParser {
             .setCommandLineOptionWithArgument(
                     new CommandLineOptionBuilder( "--format" ).setArgumentDelimiter( "=" ).setVisualPlaceholder( "format" ).build(),
                     new ToFormat() )
-            .setDescription( "the format of the report. Either html5, asciidoc or text (default: html5)" )
+            .setDescription( "the format of the report. Either html5, asciidoc or text (default: html5). "
+                    + "Use json or binary to convert the report files into that format "
+                    + "and merge to merge the report files of several result directories" )
             .setDefaultWith( ReportGenerator.Format.HTML5 ) // this may be a sane choice
             .build();
 
@@ -0,0 +1,15 @@
+package com.tngtech.jgiven.report.config.converter;
+
+/**
+ * Converts to a positive integer
+ */
+public class ToInteger implements StringConverter {
+    public Object apply( String input ) {
+        try {
+            int value = Integer.parseInt( input );
+            return value > 0 ? value : null;
+        } catch( NumberFormatException e ) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.tngtech.jgiven.report.conversion;
+
+import com.tngtech.jgiven.report.AbstractReportConfig;
+import com.tngtech.jgiven.report.AbstractReportGenerator;
+import com.tngtech.jgiven.report.binary.BinaryReportModelWriter;
+import com.tngtech.jgiven.report.impl.AttachmentStore;
+import com.tngtech.jgiven.report.json.ScenarioJsonWriter;
+import com.tngtech.jgiven.report.model.ReportModelFile;
+import com.tngtech.jgiven.report.model.ReportModelFileFormat;
+import java.io.File;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Converts the report models of the source directory into the JSON or the binary format.
+ * <p>
+ * Each report model file is written to the target directory with the same relative path,
+ * but with the file extension of the target format. The attachments of each model are copied into the
+ * {@link AttachmentStore} of its target directory, so that the converted reports do not depend on the
+ * source directory anymore.
+ *
+ * @since 1.4.0
+ */
+public class ReportModelConverter extends AbstractReportGenerator {
+    private static final Logger log = LoggerFactory.getLogger(ReportModelConverter.class);
+
+    @Override
+    public AbstractReportConfig createReportConfig(String... args) {
+        return new ReportModelConverterConfig(args);
+    }
+
+    @Override
+    public void generate() {
+        ReportModelFileFormat targetFormat = getTargetFormat();
+        completeReportModel.forEachReportModel(modelFile -> convert(modelFile, targetFormat));
+    }
+
+    private ReportModelFileFormat getTargetFormat() {
+        if (config instanceof ReportModelConverterConfig) {
+            return ((ReportModelConverterConfig) config).getTargetFormat();
+        }
+        return ReportModelFileFormat.JSON;
+    }
+
+    private void convert(ReportModelFile modelFile, ReportModelFileFormat targetFormat) {
+        File targetFile = getTargetFile(modelFile.file(), targetFormat);
+        File targetDir = targetFile.getParentFile();
+        if (!targetDir.exists() && !targetDir.mkdirs()) {
+            log.error("Could not create directory " + targetDir);
+            return;
+        }
+        log.debug("Converting {} to {}", modelFile.file(), targetFile);
+        new AttachmentStore(targetDir).store(modelFile.model());
+        if (targetFormat == ReportModelFileFormat.BINARY) {
+            new BinaryReportModelWriter(modelFile.model()).write(targetFile);
+        } else {
+            new ScenarioJsonWriter(modelFile.model()).write(targetFile);
+        }
+    }
+
+    private File getTargetFile(File sourceFile, ReportModelFileFormat targetFormat) {
+        File relativeDir = config.getSourceDir().toPath().relativize(sourceFile.getParentFile().toPath()).toFile();
+        String fileName = ReportModelFileFormat.getBaseName(sourceFile) + targetFormat.fileExtension();
+        return new File(new File(config.getTargetDir(), relativeDir.getPath()), fileName);
+    }
+}
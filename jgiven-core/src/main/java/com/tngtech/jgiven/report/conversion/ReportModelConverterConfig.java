@@ -0,0 +1,48 @@
+package com.tngtech.jgiven.report.conversion;
+
+import com.tngtech.jgiven.report.AbstractReportConfig;
+import com.tngtech.jgiven.report.ReportGenerator;
+import com.tngtech.jgiven.report.config.ConfigOption;
+import com.tngtech.jgiven.report.model.ReportModelFileFormat;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Configuration for the conversion of report models into another file format.
+ * The target format is taken from the {@code --format} flag.
+ *
+ * @since 1.4.0
+ */
+public class ReportModelConverterConfig extends AbstractReportConfig {
+
+    private ReportModelFileFormat targetFormat;
+
+    public ReportModelConverterConfig(String... args) {
+        super(args);
+    }
+
+    public ReportModelConverterConfig() {
+        super();
+        setTargetFormat(ReportModelFileFormat.JSON);
+    }
+
+    public ReportModelFileFormat getTargetFormat() {
+        return targetFormat;
+    }
+
+    public void setTargetFormat(ReportModelFileFormat targetFormat) {
+        this.targetFormat = targetFormat;
+    }
+
+    public void useConfigMap(Map<String, Object> configMap) {
+        ReportGenerator.Format format = (ReportGenerator.Format) configMap.get("format");
+        ReportModelFileFormat targetFormat = format == null
+            ? null : ReportModelFileFormat.fromStringOrNull(format.formatName());
+        setTargetFormat(targetFormat == null ? ReportModelFileFormat.JSON : targetFormat);
+    }
+
+    public void additionalConfigOptions(List<ConfigOption> configOptions) {
+
+    }
+
+}
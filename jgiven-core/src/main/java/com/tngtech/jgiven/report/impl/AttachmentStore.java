@@ -0,0 +1,177 @@
+package com.tngtech.jgiven.report.impl;
+
+import com.google.common.base.Charsets;
+import com.google.common.hash.Hashing;
+import com.google.common.io.BaseEncoding;
+import com.google.common.io.MoreFiles;
+import com.tngtech.jgiven.impl.util.FileUtil;
+import com.tngtech.jgiven.report.model.AttachmentModel;
+import com.tngtech.jgiven.report.model.ReportModel;
+import com.tngtech.jgiven.report.model.ReportModelVisitor;
+import com.tngtech.jgiven.report.model.StepModel;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Content-addressed store for the attachments of the JSON reports.
+ * <p>
+ * The content of each attachment is written to a file in the {@value #DIRECTORY_NAME} directory
+ * next to the JSON files, named by the SHA-256 hash of the content. The attachment models only keep
+ * the hash and a path relative to the report directory. Thus, identical attachments are only stored once,
+ * even if they are attached by different scenarios or test classes.
+ *
+ * @since 1.4.0
+ */
+public class AttachmentStore {
+    private static final Logger log = LoggerFactory.getLogger( AttachmentStore.class );
+
+    public static final String DIRECTORY_NAME = "attachments";
+
+    private final File reportDir;
+    private final File storeDir;
+
+    public AttachmentStore( File reportDir ) {
+        this.reportDir = reportDir;
+        this.storeDir = new File( reportDir, DIRECTORY_NAME );
+    }
+
+    /**
+     * Moves the content of all attachments of the given model into the store.
+     */
+    public void store( ReportModel model ) {
+        if( !storeDir.exists() && !storeDir.mkdirs() ) {
+            log.error( "Could not create attachment directory " + storeDir );
+            return;
+        }
+
+        model.accept( new ReportModelVisitor() {
+            @Override
+            public void visit( StepModel stepModel ) {
+                for( AttachmentModel attachment : stepModel.getAttachments() ) {
+                    try {
+                        store( attachment );
+                    } catch( IOException e ) {
+                        log.error( "Could not store attachment " + attachment.getTitle() + " in " + storeDir, e );
+                    }
+                }
+            }
+        } );
+    }
+
+    private void store( AttachmentModel attachment ) throws IOException {
+        if( attachment.isFileReference() ) {
+            File source = new File( attachment.getFilePath() );
+            if( !source.isAbsolute() ) {
+                return;
+            }
+            String hash = attachment.getContentHash() != null ? attachment.getContentHash() : FileUtil.sha256( source );
+            File target = new File( storeDir, hash );
+            if( !target.exists() ) {
+                File tempFile = File.createTempFile( hash, ".tmp", storeDir );
+                FileUtil.copy( source, tempFile );
+                moveIntoStore( tempFile, target );
+            }
+            setStored( attachment, hash );
+        } else if( attachment.getValue() != null ) {
+            byte[] content = attachment.isBinary()
+                ? BaseEncoding.base64().decode( attachment.getValue() )
+                : attachment.getValue().getBytes( Charsets.UTF_8 );
+            String hash = Hashing.sha256().hashBytes( content ).toString();
+            File target = new File( storeDir, hash );
+            if( !target.exists() ) {
+                File tempFile = File.createTempFile( hash, ".tmp", storeDir );
+                Files.write( tempFile.toPath(), content );
+                moveIntoStore( tempFile, target );
+            }
+            attachment.setValue( null );
+            setStored( attachment, hash );
+        }
+    }
+
+    /**
+     * Atomically moves the given file to its final location, so that concurrently
+     * running test JVMs never see partially written files. If another JVM has stored
+     * the same content in the meantime, the given file is just deleted.
+     */
+    private void moveIntoStore( File tempFile, File target ) throws IOException {
+        try {
+            Files.move( tempFile.toPath(), target.toPath(), StandardCopyOption.ATOMIC_MOVE );
+        } catch( FileAlreadyExistsException e ) {
+            log.debug( "Attachment {} has already been stored", target );
+        } finally {
+            Files.deleteIfExists( tempFile.toPath() );
+        }
+    }
+
+    private void setStored( AttachmentModel attachment, String hash ) {
+        attachment.setContentHash( hash );
+        attachment.setFilePath( DIRECTORY_NAME + "/" + hash );
+    }
+
+    /**
+     * Makes the paths of all stored attachments of the given model absolute,
+     * so that they can be read independently of the report directory.
+     */
+    public void resolve( ReportModel model ) {
+        model.accept( new ReportModelVisitor() {
+            @Override
+            public void visit( StepModel stepModel ) {
+                for( AttachmentModel attachment : stepModel.getAttachments() ) {
+                    if( attachment.isFileReference() && !new File( attachment.getFilePath() ).isAbsolute() ) {
+                        attachment.setFilePath( new File( reportDir, attachment.getFilePath() ).getAbsolutePath() );
+                    }
+                }
+            }
+        } );
+    }
+
+    /**
+     * Copies all attachments that the given model references relative to {@code sourceReportDir} into this store
+     * and makes their paths absolute. Used for reports that are read from ZIP archives, as the attachments
+     * in an archive cannot be read anymore once the archive has been closed.
+     *
+     * @param sourceReportDir the directory of the report in the file system of the archive
+     * @throws UncheckedIOException if an attachment could not be copied
+     */
+    public void copyFrom( Path sourceReportDir, ReportModel model ) {
+        model.accept( new ReportModelVisitor() {
+            @Override
+            public void visit( StepModel stepModel ) {
+                for( AttachmentModel attachment : stepModel.getAttachments() ) {
+                    if( attachment.isFileReference() && !new File( attachment.getFilePath() ).isAbsolute() ) {
+                        Path source = sourceReportDir.resolve( attachment.getFilePath() );
+                        try {
+                            copyFrom( source, attachment );
+                        } catch( IOException e ) {
+                            throw new UncheckedIOException( "Could not read attachment " + source.toUri(), e );
+                        }
+                    }
+                }
+            }
+        } );
+    }
+
+    private void copyFrom( Path source, AttachmentModel attachment ) throws IOException {
+        if( !storeDir.exists() && !storeDir.mkdirs() ) {
+            throw new IOException( "Could not create attachment directory " + storeDir );
+        }
+        String hash = attachment.getContentHash() != null
+            ? attachment.getContentHash()
+            : MoreFiles.asByteSource( source ).hash( Hashing.sha256() ).toString();
+        File target = new File( storeDir, hash );
+        if( !target.exists() ) {
+            File tempFile = File.createTempFile( hash, ".tmp", storeDir );
+            Files.copy( source, tempFile.toPath(), StandardCopyOption.REPLACE_EXISTING );
+            moveIntoStore( tempFile, target );
+        }
+        attachment.setContentHash( hash );
+        attachment.setFilePath( target.getAbsolutePath() );
+    }
+}
@@ -2,13 +2,15 @@ package com.tngtech.jgiven.report.impl;
 
 import com.tngtech.jgiven.impl.Config;
 import com.tngtech.jgiven.report.analysis.CaseArgumentAnalyser;
-import com.tngtech.jgiven.report.json.ScenarioJsonWriter;
+import com.tngtech.jgiven.report.manifest.ReportManifest;
 import com.tngtech.jgiven.report.model.ReportModel;
+import com.tngtech.jgiven.report.model.ReportModelFileFormat;
 import com.tngtech.jgiven.report.text.PlainTextReporter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.Optional;
 
 public class CommonReportHelper {
@@ -23,6 +25,7 @@ public class CommonReportHelper {
             return;
         }
 
+        new PendingAttachmentResolver().resolve( model );
         new CaseArgumentAnalyser().analyze( model );
 
         if( Config.config().textReport() ) {
@@ -40,8 +43,28 @@ public class CommonReportHelper {
             log.error( "Could not create report directory " + reportDir );
             return;
         }
-        File reportFile = new File( reportDir, model.getClassName() + ".json" );
+        if( Config.config().attachmentStore() ) {
+            new AttachmentStore( reportDir ).store( model );
+        }
+        ReportModelFileFormat format = Config.config().reportFormat();
+        String extension = format.fileExtension();
+        if( Config.config().compressReports() ) {
+            extension += ReportModelFileFormat.COMPRESSED_EXTENSION;
+        }
+        File reportFile = new File( reportDir, model.getClassName() + extension );
         log.debug( "Writing scenario report to file " + reportFile.getAbsolutePath() );
-        new ScenarioJsonWriter( model ).write( reportFile );
+        String contentHash = ReportModelFileWriter.write( model, reportFile, format );
+        try {
+            ReportModelFileFormat.deleteOtherVariants( reportFile );
+        } catch( IOException e ) {
+            log.error( "Could not delete previous report files of " + model.getClassName(), e );
+        }
+        if( Config.config().writeManifest() ) {
+            try {
+                ReportManifest.addReportFile( reportDir, reportFile, contentHash, model );
+            } catch( IOException e ) {
+                log.error( "Could not add " + reportFile + " to the report manifest", e );
+            }
+        }
     }
 }
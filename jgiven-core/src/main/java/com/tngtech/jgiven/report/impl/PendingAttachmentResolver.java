@@ -0,0 +1,71 @@
+package com.tngtech.jgiven.report.impl;
+
+import com.tngtech.jgiven.impl.Config;
+import com.tngtech.jgiven.report.model.AttachmentModel;
+import com.tngtech.jgiven.report.model.ReportModel;
+import com.tngtech.jgiven.report.model.ReportModelVisitor;
+import com.tngtech.jgiven.report.model.StepModel;
+import java.util.Iterator;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Waits for all attachments of a report model that are still being created in the background.
+ * Attachments that could not be created are removed from their steps.
+ * <p>
+ * The timeout applies to all attachments of a report model together,
+ * so that attachments that never complete cannot block the writing of the report.
+ *
+ * @since 1.4.0
+ */
+public class PendingAttachmentResolver extends ReportModelVisitor {
+    private static final Logger log = LoggerFactory.getLogger( PendingAttachmentResolver.class );
+
+    private final long timeoutNanos;
+    private long deadline;
+
+    public PendingAttachmentResolver() {
+        this( Config.config().attachmentTimeoutSeconds(), TimeUnit.SECONDS );
+    }
+
+    public PendingAttachmentResolver( long timeout, TimeUnit unit ) {
+        this.timeoutNanos = unit.toNanos( timeout );
+    }
+
+    public void resolve( ReportModel model ) {
+        deadline = System.nanoTime() + timeoutNanos;
+        model.accept( this );
+    }
+
+    @Override
+    public void visit( StepModel stepModel ) {
+        Iterator<AttachmentModel> iterator = stepModel.getAttachments().iterator();
+        while( iterator.hasNext() ) {
+            AttachmentModel attachment = iterator.next();
+            try {
+                attachment.resolve( Math.max( 0, deadline - System.nanoTime() ), TimeUnit.NANOSECONDS );
+            } catch( ExecutionException e ) {
+                log.warn( "Could not create attachment of step " + stepModel.getName() + ". The attachment is left out.",
+                    e.getCause() );
+                iterator.remove();
+            } catch( CancellationException e ) {
+                log.warn( "The creation of an attachment of step " + stepModel.getName()
+                    + " has been cancelled. The attachment is left out." );
+                iterator.remove();
+            } catch( TimeoutException e ) {
+                log.warn( "The attachment of step " + stepModel.getName()
+                    + " has not been created in time. The attachment is left out." );
+                iterator.remove();
+            } catch( InterruptedException e ) {
+                Thread.currentThread().interrupt();
+                log.warn( "Interrupted while waiting for an attachment of step " + stepModel.getName()
+                    + ". The attachment is left out." );
+                iterator.remove();
+            }
+        }
+    }
+}
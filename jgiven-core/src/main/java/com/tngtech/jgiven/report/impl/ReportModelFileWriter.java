@@ -0,0 +1,47 @@
+package com.tngtech.jgiven.report.impl;
+
+import com.google.common.hash.Hashing;
+import com.google.common.hash.HashingOutputStream;
+import com.tngtech.jgiven.report.binary.BinaryReportModelWriter;
+import com.tngtech.jgiven.report.json.ScenarioJsonWriter;
+import com.tngtech.jgiven.report.model.ReportModel;
+import com.tngtech.jgiven.report.model.ReportModelFileFormat;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Writes a report model to a report file and computes the SHA-256 hash of the file while it is written,
+ * so that the file does not have to be read again for the {@link com.tngtech.jgiven.report.manifest.ReportManifest}.
+ *
+ * @since 1.4.0
+ */
+public class ReportModelFileWriter {
+
+    private ReportModelFileWriter() {
+    }
+
+    /**
+     * Writes the given model in the given format to the given file, compressed with gzip
+     * if the file has the {@value ReportModelFileFormat#COMPRESSED_EXTENSION} extension.
+     *
+     * @return the SHA-256 hash of the written file as hex string
+     */
+    public static String write( ReportModel model, File file, ReportModelFileFormat format ) {
+        try {
+            HashingOutputStream hashingOut = new HashingOutputStream( Hashing.sha256(), new FileOutputStream( file ) );
+            try( OutputStream out = ReportModelFileFormat.newOutputStream( file, hashingOut ) ) {
+                if( format == ReportModelFileFormat.BINARY ) {
+                    new BinaryReportModelWriter( model ).write( out );
+                } else {
+                    new ScenarioJsonWriter( model ).write( out );
+                }
+            }
+            return hashingOut.hash().toString();
+        } catch( IOException e ) {
+            throw new UncheckedIOException( "Could not write report " + file, e );
+        }
+    }
+}
@@ -1,23 +1,319 @@
 package com.tngtech.jgiven.report.json;
 
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import com.google.common.io.Files;
+import com.google.common.io.MoreFiles;
+import com.google.common.io.RecursiveDeleteOption;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.tngtech.jgiven.report.binary.BinaryReportModelReader;
+import com.tngtech.jgiven.report.impl.AttachmentStore;
+import com.tngtech.jgiven.report.model.ReportModel;
 import com.tngtech.jgiven.report.model.ReportModelFile;
+import com.tngtech.jgiven.report.model.ReportModelFileFormat;
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 public class JsonModelTraverser {
 
+    private static final int FILES_AHEAD_PER_THREAD = 2;
+    private static final String ZIP_EXTENSION = ".zip";
+
+    /**
+     * The store into which the attachments of reports in ZIP archives are copied.
+     * It is created on first use and deleted when the JVM shuts down.
+     */
+    private static final Supplier<AttachmentStore> archiveAttachmentStore =
+        Suppliers.memoize(JsonModelTraverser::createArchiveAttachmentStore);
+
+    private final int threads;
+    private final ScenarioJsonReader jsonReader;
+    private final BinaryReportModelReader binaryReader;
+
+    public JsonModelTraverser() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param threads the number of threads used to parse the JSON files
+     */
+    public JsonModelTraverser(int threads) {
+        this(threads, EnumSet.noneOf(SkippableField.class));
+    }
+
+    /**
+     * @param threads       the number of threads used to parse the JSON files
+     * @param skippedFields the fields that are skipped while parsing the JSON files
+     * @since 1.4.0
+     */
+    public JsonModelTraverser(int threads, Set<SkippableField> skippedFields) {
+        this.threads = Math.max(1, threads);
+        this.jsonReader = new ScenarioJsonReader(skippedFields);
+        this.binaryReader = new BinaryReportModelReader(skippedFields);
+    }
+
     /**
      * Reads all JSON files from {@code sourceDirectory} and invokes for each found file
      * the {@link ReportModelFileHandler#handleReportModel} method of the given {@code handler}.
+     * Files in the binary report format are read as well, the format of each file is detected by its content.
+     * <p>
+     * ZIP archives are read without extracting them. {@code sourceDirectory} can itself be a ZIP archive,
+     * and ZIP archives found in {@code sourceDirectory} are read as well. The file of a report read from
+     * an archive is the path of the entry appended to the path of the archive.
+     * <p>
+     * The files are parsed in parallel, but the handler is always invoked from the calling thread
+     * and in the order of the file paths, independent of the order in which the files are parsed.
+     * Only a few files are parsed ahead of the handler, so that the models that have been handled
+     * can be garbage collected if the handler does not keep them.
      *
-     * @param sourceDirectory the directory that contains the JSON files
+     * @param sourceDirectory the directory or ZIP archive that contains the JSON files
      * @param handler         the handler to be invoked for each file
      */
     public void traverseModels(File sourceDirectory, ReportModelFileHandler handler) {
-        StreamSupport.stream(Files.fileTraverser().breadthFirst(sourceDirectory).spliterator(), false)
-                .filter(input -> input.getName().endsWith(".json"))
-                .map(file -> new ReportModelFile(file, new ScenarioJsonReader().apply(file)))
-                .forEach(handler::handleReportModel);
+        List<FileSystem> archives = new ArrayList<>();
+        try {
+            traverseSources(findReportFiles(sourceDirectory, archives), handler);
+        } finally {
+            archives.forEach(JsonModelTraverser::closeArchive);
+        }
+    }
+
+    /**
+     * Reads the given report files like {@link #traverseModels(File, ReportModelFileHandler)},
+     * but in the order of the given list. ZIP archives are not supported.
+     *
+     * @since 1.4.0
+     */
+    public void traverseModels(List<File> files, ReportModelFileHandler handler) {
+        traverseSources(files.stream().map(file -> new ReportSource(file, file.toPath())).collect(Collectors.toList()),
+            handler);
+    }
+
+    /**
+     * Reads the report files of the given directories or ZIP archives grouped by the key that
+     * {@code groupKey} returns for each file, e.g. the test class. The groups are handled in parallel
+     * and in no particular order. Each group is handled by a single thread that reads all files of the group
+     * and invokes the handler with their models, in the order of the given directories and the file paths.
+     * Thus, only the models of as many groups as there are threads are in memory at the same time.
+     *
+     * @param sourceDirectories the directories or ZIP archives that contain the report files
+     * @param groupKey          returns the group of a report file
+     * @param handler           the handler to be invoked for each group
+     * @since 1.4.0
+     */
+    public void traverseModelGroups(List<File> sourceDirectories, Function<File, String> groupKey,
+                                    ReportModelGroupHandler handler) {
+        List<FileSystem> archives = new ArrayList<>();
+        try {
+            Map<String, List<ReportSource>> groups = new TreeMap<>();
+            for (File sourceDirectory : sourceDirectories) {
+                for (ReportSource source : findReportFiles(sourceDirectory, archives)) {
+                    groups.computeIfAbsent(groupKey.apply(source.file), key -> new ArrayList<>()).add(source);
+                }
+            }
+            traverseGroups(groups, handler);
+        } finally {
+            archives.forEach(JsonModelTraverser::closeArchive);
+        }
+    }
+
+    private void traverseGroups(Map<String, List<ReportSource>> groups, ReportModelGroupHandler handler) {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, Math.max(1, groups.size())),
+            new ThreadFactoryBuilder().setNameFormat("jgiven-json-reader-%d").setDaemon(true).build());
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (Map.Entry<String, List<ReportSource>> group : groups.entrySet()) {
+                tasks.add(executor.submit(() -> handler.handleReportModels(group.getKey(),
+                    group.getValue().stream().map(this::readModel).collect(Collectors.toList()))));
+            }
+            for (Future<?> task : tasks) {
+                getResult(task);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns the report files and the ZIP archives in the given directory and its subdirectories
+     * ordered by their path, without reading them.
+     *
+     * @since 1.4.0
+     */
+    public static List<File> findReportFilesAndArchives(File sourceDirectory) {
+        return StreamSupport.stream(Files.fileTraverser().breadthFirst(sourceDirectory).spliterator(), false)
+            .filter(file -> ReportModelFileFormat.isReportModelFile(file) || isZipArchive(file))
+            .sorted(Comparator.comparing(File::getPath))
+            .collect(Collectors.toList());
+    }
+
+    private void traverseSources(List<ReportSource> files, ReportModelFileHandler handler) {
+        if (threads == 1 || files.size() < 2) {
+            files.forEach(file -> handler.handleReportModel(readModel(file)));
+            return;
+        }
+
+        int poolSize = Math.min(threads, files.size());
+        ExecutorService executor = Executors.newFixedThreadPool(poolSize,
+            new ThreadFactoryBuilder().setNameFormat("jgiven-json-reader-%d").setDaemon(true).build());
+        try {
+            Deque<Future<ReportModelFile>> models = new ArrayDeque<>();
+            Iterator<ReportSource> remainingFiles = files.iterator();
+            while (remainingFiles.hasNext() || !models.isEmpty()) {
+                while (remainingFiles.hasNext() && models.size() < poolSize * FILES_AHEAD_PER_THREAD) {
+                    ReportSource file = remainingFiles.next();
+                    models.add(executor.submit(() -> readModel(file)));
+                }
+                handler.handleReportModel(getResult(models.poll()));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Finds the report files in the given directory and in all ZIP archives found there.
+     * The file systems of the archives are added to {@code archives} and have to be closed by the caller.
+     */
+    private List<ReportSource> findReportFiles(File sourceDirectory, List<FileSystem> archives) {
+        List<ReportSource> result = new ArrayList<>();
+        Iterable<File> files = Files.fileTraverser().breadthFirst(sourceDirectory);
+        for (File file : files) {
+            if (ReportModelFileFormat.isReportModelFile(file)) {
+                result.add(new ReportSource(file, file.toPath()));
+            } else if (isZipArchive(file)) {
+                FileSystem archive = openArchive(file);
+                archives.add(archive);
+                result.addAll(findReportFiles(file, archive));
+            }
+        }
+        result.sort(Comparator.comparing(source -> source.file.getPath()));
+        return result;
+    }
+
+    private static List<ReportSource> findReportFiles(File zipFile, FileSystem archive) {
+        Path root = archive.getPath("/");
+        try (Stream<Path> paths = java.nio.file.Files.walk(root)) {
+            return paths
+                .filter(path -> java.nio.file.Files.isRegularFile(path))
+                .map(path -> new ReportSource(new File(zipFile, root.relativize(path).toString()), path))
+                .filter(source -> ReportModelFileFormat.isReportModelFile(source.file))
+                .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read ZIP archive " + zipFile, e);
+        }
+    }
+
+    public static boolean isZipArchive(File file) {
+        return file.isFile() && file.getName().toLowerCase(Locale.ROOT).endsWith(ZIP_EXTENSION);
+    }
+
+    private static FileSystem openArchive(File zipFile) {
+        try {
+            // the class loader argument selects the overload that also exists in Java 11
+            return FileSystems.newFileSystem(zipFile.toPath(), (ClassLoader) null);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open ZIP archive " + zipFile, e);
+        }
+    }
+
+    private static AttachmentStore createArchiveAttachmentStore() {
+        try {
+            Path directory = java.nio.file.Files.createTempDirectory("jgiven-archive-attachments");
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    MoreFiles.deleteRecursively(directory, RecursiveDeleteOption.ALLOW_INSECURE);
+                } catch (IOException e) {
+                    // the directory is in the temporary directory, so it is fine to leave it there
+                }
+            }));
+            return new AttachmentStore(directory.toFile());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create a directory for the attachments of ZIP archives", e);
+        }
+    }
+
+    private static void closeArchive(FileSystem archive) {
+        try {
+            archive.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static <T> T getResult(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while reading JSON files", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private ReportModelFile readModel(ReportSource source) {
+        ReportModel model;
+        try (InputStream in = ReportModelFileFormat.newInputStream(source.path)) {
+            model = BinaryReportModelReader.isBinaryReport(in)
+                ? binaryReader.read(in)
+                : jsonReader.read(in);
+        } catch (IOException | RuntimeException e) {
+            throw new ScenarioJsonReader.JsonReaderException(source.file, e);
+        }
+        if (source.isInArchive()) {
+            try {
+                archiveAttachmentStore.get().copyFrom(source.path.getParent(), model);
+            } catch (UncheckedIOException e) {
+                throw new ScenarioJsonReader.JsonReaderException(source.file, e);
+            }
+        } else {
+            new AttachmentStore(source.file.getParentFile()).resolve(model);
+        }
+        return new ReportModelFile(source.file, model);
+    }
+
+    /**
+     * A report file together with the path to read it from, which differ for files in ZIP archives.
+     */
+    private static class ReportSource {
+        final File file;
+        final Path path;
+
+        ReportSource(File file, Path path) {
+            this.file = file;
+            this.path = path;
+        }
+
+        boolean isInArchive() {
+            return path.getFileSystem() != FileSystems.getDefault();
+        }
     }
 }
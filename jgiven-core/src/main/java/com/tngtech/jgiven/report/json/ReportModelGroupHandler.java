@@ -0,0 +1,17 @@
+package com.tngtech.jgiven.report.json;
+
+import java.util.List;
+
+import com.tngtech.jgiven.report.model.ReportModelFile;
+
+/**
+ * Handles the ReportModels of all files of one group, e.g. of one test class.
+ * Use {@link JsonModelTraverser#traverseModelGroups} to read the groups.
+ *
+ * @since 1.4.0
+ */
+public interface ReportModelGroupHandler {
+
+    void handleReportModels( String key, List<ReportModelFile> modelFiles );
+
+}
@@ -2,16 +2,32 @@ package com.tngtech.jgiven.report.json;
 
 import com.tngtech.jgiven.exception.JGivenWrongUsageException;
 import com.tngtech.jgiven.report.AbstractReportConfig;
+import com.tngtech.jgiven.report.manifest.ReportManifest;
 import com.tngtech.jgiven.report.model.CompleteReportModel;
 import com.tngtech.jgiven.report.model.ReportModel;
 import com.tngtech.jgiven.report.model.ReportModelFile;
 import com.tngtech.jgiven.report.model.ScenarioModel;
+import java.io.File;
+import java.io.IOException;
+import java.util.EnumSet;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class ReportModelReader implements ReportModelFileHandler {
     private static final Logger log = LoggerFactory.getLogger(ReportModelReader.class);
+
+    /**
+     * The fields that are not needed to compute the statistics and the summaries of the scenarios.
+     * Nested steps are still read, as they are counted by the statistics.
+     */
+    static final Set<SkippableField> SUMMARY_SKIPPED_FIELDS =
+        EnumSet.of(SkippableField.ATTACHMENTS, SkippableField.STACK_TRACE, SkippableField.WORDS);
+
     private final AbstractReportConfig config;
 
     private final CompleteReportModel completeModelReport = new CompleteReportModel();
@@ -20,10 +36,96 @@ public class ReportModelReader implements ReportModelFileHandler {
         this.config = config;
     }
 
-    @SuppressWarnings("checkstyle:LineLength")
     public CompleteReportModel readDirectory() {
+        return readDirectory(EnumSet.noneOf(SkippableField.class));
+    }
+
+    /**
+     * Reads all report models without the given fields.
+     * This is considerably faster for report models with many attachments or steps,
+     * if the consumer of the models, e.g. a statistics or tag index, does not need these fields.
+     *
+     * @param skippedFields the fields that are skipped while reading
+     * @since 1.4.0
+     */
+    public CompleteReportModel readDirectory(Set<SkippableField> skippedFields) {
+        traverseModels(skippedFields, completeModelReport::addModelFile);
+        return completeModelReport;
+    }
+
+    /**
+     * Only reads the statistics, tags and scenarios of the report models without their steps.
+     * The complete models are read again every time they are requested from the returned model.
+     *
+     * @see StreamingReportModel
+     * @since 1.4.0
+     */
+    public CompleteReportModel readDirectoryStreaming() {
+        StreamingReportModel model = new StreamingReportModel(this);
+        traverseModels(SUMMARY_SKIPPED_FIELDS, model::addModelFile);
+        return model;
+    }
+
+    /**
+     * Reads the manifest that has been written to the source directory while the tests were executed.
+     * The statistics, the tag ids and the content hashes of all report files can be taken from the manifest
+     * without parsing the report files.
+     * <p>
+     * The manifest is only returned if it lists exactly the report files of the source directory with their
+     * current sizes, and if empty scenarios are not excluded, because the manifest does not know which
+     * scenarios are empty.
+     *
+     * @return the manifest or an empty optional if the report files have to be read instead
+     * @see ReportManifest
+     * @since 1.4.0
+     */
+    public Optional<ReportManifest> readManifest() {
+        File sourceDir = config.getSourceDir();
+        if (!sourceDir.isDirectory() || Boolean.TRUE.equals(config.getExcludeEmptyScenarios())) {
+            return Optional.empty();
+        }
         try {
-            new JsonModelTraverser().traverseModels(config.getSourceDir(), this);
+            Optional<ReportManifest> manifest = ReportManifest.read(sourceDir);
+            if (manifest.isPresent()
+                && !manifest.get().isUpToDate(JsonModelTraverser.findReportFilesAndArchives(sourceDir))) {
+                log.info("The report manifest of " + sourceDir + " does not match the report files, ignoring it");
+                return Optional.empty();
+            }
+            return manifest;
+        } catch (IOException e) {
+            log.warn("Could not read the report manifest of " + sourceDir + ": " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    void traverseModels(Consumer<ReportModelFile> consumer) {
+        traverseModels(EnumSet.noneOf(SkippableField.class), consumer);
+    }
+
+    /**
+     * Reads the given report files in the order of the list and passes the models to the given consumer.
+     * Like for {@link #readDirectory()}, models without class name and, if configured, empty scenarios are skipped.
+     *
+     * @since 1.4.0
+     */
+    public void readFiles(List<File> files, Consumer<ReportModelFile> consumer) {
+        JsonModelTraverser traverser = new JsonModelTraverser(config.getReaderThreads());
+        readModels(handler -> traverser.traverseModels(files, handler), consumer);
+    }
+
+    private void traverseModels(Set<SkippableField> skippedFields, Consumer<ReportModelFile> consumer) {
+        JsonModelTraverser traverser = new JsonModelTraverser(config.getReaderThreads(), skippedFields);
+        readModels(handler -> traverser.traverseModels(config.getSourceDir(), handler), consumer);
+    }
+
+    @SuppressWarnings("checkstyle:LineLength")
+    private void readModels(Consumer<ReportModelFileHandler> traversal, Consumer<ReportModelFile> consumer) {
+        try {
+            traversal.accept(modelFile -> {
+                if (accept(modelFile)) {
+                    consumer.accept(modelFile);
+                }
+            });
         } catch (ScenarioJsonReader.JsonReaderException e) {
             throw new JGivenWrongUsageException(
                 "Error while reading file\n " + e.file + ":\n " + e.getCause().getMessage() + ".\n\n"
@@ -37,25 +139,29 @@ public class ReportModelReader implements ReportModelFileHandler {
                     + "     Please set the option to a folder that only contains JSON files generated by JGiven\n"
                     + "  3. JGiven could not read the file for some other IO-related reason\n\n");
         }
-        return completeModelReport;
     }
 
     public void handleReportModel(ReportModelFile modelFile) {
+        if (accept(modelFile)) {
+            completeModelReport.addModelFile(modelFile);
+        }
+    }
+
+    private boolean accept(ReportModelFile modelFile) {
         if (modelFile.model().getClassName() == null) {
             log.error("ClassName in report model is null for file " + modelFile.file() + ". Skipping.");
-            return;
+            return false;
         }
 
         if (Boolean.TRUE.equals(config.getExcludeEmptyScenarios())) {
             log.info("Removing empty scenarios...");
             removeEmptyScenarios(modelFile.model());
-            if (!modelFile.model().getScenarios().isEmpty()) {
+            if (modelFile.model().getScenarios().isEmpty()) {
                 log.debug("File " + modelFile.file() + " has only empty scenarios. Skipping.");
-                completeModelReport.addModelFile(modelFile);
+                return false;
             }
-        } else {
-            completeModelReport.addModelFile(modelFile);
         }
+        return true;
     }
 
     void removeEmptyScenarios(ReportModel modelFile) {
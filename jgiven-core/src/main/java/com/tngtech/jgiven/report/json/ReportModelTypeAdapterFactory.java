@@ -0,0 +1,851 @@
+package com.tngtech.jgiven.report.json;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.tngtech.jgiven.annotation.Table;
+import com.tngtech.jgiven.report.model.ArgumentInfo;
+import com.tngtech.jgiven.report.model.AttachmentModel;
+import com.tngtech.jgiven.report.model.DataTable;
+import com.tngtech.jgiven.report.model.ExecutionStatus;
+import com.tngtech.jgiven.report.model.ReportModel;
+import com.tngtech.jgiven.report.model.ScenarioCaseModel;
+import com.tngtech.jgiven.report.model.ScenarioModel;
+import com.tngtech.jgiven.report.model.StepModel;
+import com.tngtech.jgiven.report.model.StepStatus;
+import com.tngtech.jgiven.report.model.Tag;
+import com.tngtech.jgiven.report.model.Word;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Creates streaming type adapters for the classes of the report model.
+ * <p>
+ * The adapters produce the same JSON as the reflective adapters of Gson, so that files
+ * written with older versions can still be read, but they do not need reflection to access the fields.
+ * Boolean flags that are stored as {@code true} or {@code null} in the model are only written if they are {@code true}.
+ * <p>
+ * If an {@link Interner} is given, strings that typically repeat across scenarios and report models,
+ * like class names, tag ids, step names, words and argument names, are canonicalized while reading.
+ * <p>
+ * Fields that a consumer does not need can be skipped while reading, see {@link SkippableField}.
+ *
+ * @since 1.4.0
+ */
+public class ReportModelTypeAdapterFactory implements TypeAdapterFactory {
+
+    private final Interner<String> interner;
+    private final Set<SkippableField> skippedFields;
+
+    private final TypeAdapter<DataTable> dataTableAdapter = new DataTableAdapter();
+    private final TypeAdapter<ArgumentInfo> argumentInfoAdapter = new ArgumentInfoAdapter();
+    private final TypeAdapter<Word> wordAdapter = new WordAdapter();
+    private final TypeAdapter<AttachmentModel> attachmentAdapter = new AttachmentModelAdapter();
+    private final TypeAdapter<StepModel> stepAdapter = new StepModelAdapter();
+    private final TypeAdapter<ScenarioCaseModel> caseAdapter = new ScenarioCaseModelAdapter();
+    private final TypeAdapter<ScenarioModel> scenarioAdapter = new ScenarioModelAdapter();
+    private final TypeAdapter<Tag> tagAdapter = new TagAdapter();
+    private final TypeAdapter<ReportModel> reportModelAdapter = new ReportModelAdapter();
+
+    public ReportModelTypeAdapterFactory() {
+        this(null);
+    }
+
+    /**
+     * @param interner the interner used to canonicalize repeating strings while reading, can be {@code null}
+     */
+    public ReportModelTypeAdapterFactory(Interner<String> interner) {
+        this(interner, EnumSet.noneOf(SkippableField.class));
+    }
+
+    /**
+     * @param interner      the interner used to canonicalize repeating strings while reading, can be {@code null}
+     * @param skippedFields the fields that are skipped while reading
+     */
+    public ReportModelTypeAdapterFactory(Interner<String> interner, Set<SkippableField> skippedFields) {
+        this.interner = interner;
+        this.skippedFields = skippedFields.isEmpty()
+            ? EnumSet.noneOf(SkippableField.class) : EnumSet.copyOf(skippedFields);
+    }
+
+    /**
+     * Returns a {@link GsonBuilder} with the type adapters for the report model already registered.
+     */
+    public static GsonBuilder gsonBuilder() {
+        return gsonBuilder(null);
+    }
+
+    /**
+     * Returns a {@link GsonBuilder} with the type adapters for the report model already registered
+     * that canonicalize repeating strings with the given interner.
+     */
+    public static GsonBuilder gsonBuilder(Interner<String> interner) {
+        return gsonBuilder(interner, EnumSet.noneOf(SkippableField.class));
+    }
+
+    /**
+     * Returns a {@link GsonBuilder} with the type adapters for the report model already registered
+     * that canonicalize repeating strings with the given interner and skip the given fields while reading.
+     */
+    public static GsonBuilder gsonBuilder(Interner<String> interner, Set<SkippableField> skippedFields) {
+        return new GsonBuilder().registerTypeAdapterFactory(new ReportModelTypeAdapterFactory(interner, skippedFields));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        Class<? super T> rawType = type.getRawType();
+        if (rawType == ReportModel.class) {
+            return (TypeAdapter<T>) reportModelAdapter;
+        } else if (rawType == ScenarioModel.class) {
+            return (TypeAdapter<T>) scenarioAdapter;
+        } else if (rawType == ScenarioCaseModel.class) {
+            return (TypeAdapter<T>) caseAdapter;
+        } else if (rawType == StepModel.class) {
+            return (TypeAdapter<T>) stepAdapter;
+        } else if (rawType == AttachmentModel.class) {
+            return (TypeAdapter<T>) attachmentAdapter;
+        } else if (rawType == Word.class) {
+            return (TypeAdapter<T>) wordAdapter;
+        } else if (rawType == ArgumentInfo.class) {
+            return (TypeAdapter<T>) argumentInfoAdapter;
+        } else if (rawType == DataTable.class) {
+            return (TypeAdapter<T>) dataTableAdapter;
+        } else if (rawType == Tag.class) {
+            return (TypeAdapter<T>) tagAdapter;
+        }
+        return null;
+    }
+
+    private class ReportModelAdapter extends NullSafeAdapter<ReportModel> {
+        @Override
+        void writeFields(JsonWriter out, ReportModel model) throws IOException {
+            writeString(out, "className", model.getClassName());
+            writeString(out, "name", model.getName());
+            writeString(out, "description", model.getDescription());
+            // the tags are written before the scenarios, so that they are known when the scenarios are read one by one
+            if (model.getTagMap() != null) {
+                out.name("tagMap").beginObject();
+                for (Map.Entry<String, Tag> entry : model.getTagMap().entrySet()) {
+                    out.name(entry.getKey());
+                    tagAdapter.write(out, entry.getValue());
+                }
+                out.endObject();
+            }
+            if (model.getScenarios() != null) {
+                out.name("scenarios");
+                writeList(out, model.getScenarios(), scenarioAdapter);
+            }
+        }
+
+        @Override
+        ReportModel readObject(JsonReader in) throws IOException {
+            return readReportModel(in, (model, scenario) -> model.getScenarios().add(scenario));
+        }
+    }
+
+    /**
+     * Reads a report model, but passes its scenarios one by one to the given handler instead of adding them to the model.
+     * Only a single scenario has to be kept in memory at a time, unless the handler keeps them.
+     *
+     * @return the report model without its scenarios, unless the handler has added them
+     */
+    ReportModel readReportModel(JsonReader in, ScenarioModelHandler handler) throws IOException {
+        if (NullSafeAdapter.skipNull(in)) {
+            return null;
+        }
+        ReportModel model = new ReportModel();
+        in.beginObject();
+        while (in.hasNext()) {
+            String name = in.nextName();
+            if (NullSafeAdapter.skipNull(in)) {
+                continue;
+            }
+            switch (name) {
+                case "className":
+                    model.setClassName(nextCanonicalString(in));
+                    break;
+                case "name":
+                    model.setName(in.nextString());
+                    break;
+                case "description":
+                    model.setDescription(in.nextString());
+                    break;
+                case "scenarios":
+                    in.beginArray();
+                    while (in.hasNext()) {
+                        ScenarioModel scenario = scenarioAdapter.read(in);
+                        if (scenario != null) {
+                            handler.handleScenarioModel(model, scenario);
+                        }
+                    }
+                    in.endArray();
+                    break;
+                case "tagMap":
+                    Map<String, Tag> tagMap = Maps.newLinkedHashMap();
+                    in.beginObject();
+                    while (in.hasNext()) {
+                        tagMap.put(intern(in.nextName()), tagAdapter.read(in));
+                    }
+                    in.endObject();
+                    model.setTagMap(tagMap);
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+        in.endObject();
+        return model;
+    }
+
+    private class ScenarioModelAdapter extends NullSafeAdapter<ScenarioModel> {
+        @Override
+        void writeFields(JsonWriter out, ScenarioModel scenario) throws IOException {
+            writeString(out, "className", scenario.getClassName());
+            writeString(out, "testMethodName", scenario.getTestMethodName());
+            writeString(out, "description", scenario.getDescription());
+            writeString(out, "extendedDescription", scenario.getExtendedDescription());
+            writeStrings(out, "tagIds", scenario.getTagIds());
+            writeStrings(out, "explicitParameters", scenario.getExplicitParameters());
+            writeStrings(out, "derivedParameters", scenario.getDerivedParameters());
+            out.name("scenarioCases");
+            writeList(out, scenario.getScenarioCases(), caseAdapter);
+            out.name("casesAsTable").value(scenario.isCasesAsTable());
+            out.name("durationInNanos").value(scenario.getDurationInNanos());
+            writeEnum(out, "executionStatus", scenario.getExecutionStatus());
+        }
+
+        @Override
+        ScenarioModel readObject(JsonReader in) throws IOException {
+            ScenarioModel scenario = new ScenarioModel();
+            ExecutionStatus executionStatus = null;
+            in.beginObject();
+            while (in.hasNext()) {
+                String name = in.nextName();
+                if (skipNull(in)) {
+                    continue;
+                }
+                switch (name) {
+                    case "className":
+                        scenario.setClassName(nextCanonicalString(in));
+                        break;
+                    case "testMethodName":
+                        scenario.setTestMethodName(in.nextString());
+                        break;
+                    case "description":
+                        scenario.setDescription(in.nextString());
+                        break;
+                    case "extendedDescription":
+                        scenario.setExtendedDescription(in.nextString());
+                        break;
+                    case "tagIds":
+                        scenario.setTagIds(Sets.newLinkedHashSet(readCanonicalStrings(in)));
+                        break;
+                    case "explicitParameters":
+                        scenario.setExplicitParameters(readCanonicalStrings(in));
+                        break;
+                    case "derivedParameters":
+                        scenario.setDerivedParameters(readCanonicalStrings(in));
+                        break;
+                    case "scenarioCases":
+                        // the cases are added directly as addCase() would renumber them
+                        scenario.getScenarioCases().addAll(readList(in, caseAdapter));
+                        break;
+                    case "casesAsTable":
+                        scenario.setCasesAsTable(in.nextBoolean());
+                        break;
+                    case "durationInNanos":
+                        scenario.setDurationInNanos(in.nextLong());
+                        break;
+                    case "executionStatus":
+                        executionStatus = readEnum(in, ExecutionStatus.class);
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            scenario.setExecutionStatus(executionStatus);
+            return scenario;
+        }
+    }
+
+    private class ScenarioCaseModelAdapter extends NullSafeAdapter<ScenarioCaseModel> {
+        @Override
+        void writeFields(JsonWriter out, ScenarioCaseModel scenarioCase) throws IOException {
+            out.name("caseNr").value(scenarioCase.getCaseNr());
+            out.name("steps");
+            writeList(out, scenarioCase.getSteps(), stepAdapter);
+            writeStrings(out, "explicitArguments", scenarioCase.getExplicitArguments());
+            writeStrings(out, "derivedArguments", scenarioCase.getDerivedArguments());
+            writeEnum(out, "status", scenarioCase.getExecutionStatus());
+            writeString(out, "errorMessage", scenarioCase.getErrorMessage());
+            writeStrings(out, "stackTrace", scenarioCase.getStackTrace());
+            out.name("durationInNanos").value(scenarioCase.getDurationInNanos());
+            writeString(out, "description", scenarioCase.getDescription());
+        }
+
+        @Override
+        ScenarioCaseModel readObject(JsonReader in) throws IOException {
+            ScenarioCaseModel scenarioCase = new ScenarioCaseModel();
+            in.beginObject();
+            while (in.hasNext()) {
+                String name = in.nextName();
+                if (skipNull(in)) {
+                    continue;
+                }
+                switch (name) {
+                    case "caseNr":
+                        scenarioCase.setCaseNr(in.nextInt());
+                        break;
+                    case "steps":
+                        scenarioCase.setSteps(readList(in, stepAdapter));
+                        break;
+                    case "explicitArguments":
+                        scenarioCase.setExplicitArguments(readStrings(in));
+                        break;
+                    case "derivedArguments":
+                        scenarioCase.setDerivedArguments(readStrings(in));
+                        break;
+                    case "status":
+                        scenarioCase.setStatus(readEnum(in, ExecutionStatus.class));
+                        break;
+                    case "errorMessage":
+                        scenarioCase.setErrorMessage(in.nextString());
+                        break;
+                    case "stackTrace":
+                        if (skip(in, SkippableField.STACK_TRACE)) {
+                            break;
+                        }
+                        scenarioCase.setStackTrace(readStrings(in));
+                        break;
+                    case "durationInNanos":
+                        scenarioCase.setDurationInNanos(in.nextLong());
+                        break;
+                    case "description":
+                        scenarioCase.setDescription(in.nextString());
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return scenarioCase;
+        }
+    }
+
+    private class StepModelAdapter extends NullSafeAdapter<StepModel> {
+        @Override
+        void writeFields(JsonWriter out, StepModel step) throws IOException {
+            writeString(out, "name", step.getName());
+            out.name("words");
+            writeList(out, step.getWords(), wordAdapter);
+            if (!step.getNestedSteps().isEmpty()) {
+                out.name("nestedSteps");
+                writeList(out, step.getNestedSteps(), this);
+            }
+            writeEnum(out, "status", step.getStatus());
+            out.name("durationInNanos").value(step.getDurationInNanos());
+            writeString(out, "extendedDescription", step.getExtendedDescription());
+            if (step.hasAttachment()) {
+                out.name("attachments");
+                writeList(out, step.getAttachments(), attachmentAdapter);
+            }
+            writeFlag(out, "isSectionTitle", step.isSectionTitle());
+            writeFlag(out, "memoized", step.isMemoized());
+            writeString(out, "comment", step.getComment());
+            out.name("depth").value(step.getDepth());
+            out.name("parentFailed").value(step.isParentFailed());
+        }
+
+        @Override
+        StepModel readObject(JsonReader in) throws IOException {
+            StepModel step = new StepModel();
+            in.beginObject();
+            while (in.hasNext()) {
+                String name = in.nextName();
+                if (skipNull(in)) {
+                    continue;
+                }
+                switch (name) {
+                    case "name":
+                        step.setName(nextCanonicalString(in));
+                        break;
+                    case "words":
+                        if (skip(in, SkippableField.WORDS)) {
+                            break;
+                        }
+                        step.setWords(readList(in, wordAdapter));
+                        break;
+                    case "nestedSteps":
+                        if (skip(in, SkippableField.NESTED_STEPS)) {
+                            break;
+                        }
+                        step.setNestedSteps(readList(in, this));
+                        break;
+                    case "status":
+                        step.setStatus(readEnum(in, StepStatus.class));
+                        break;
+                    case "durationInNanos":
+                        step.setDurationInNanos(in.nextLong());
+                        break;
+                    case "extendedDescription":
+                        step.setExtendedDescription(in.nextString());
+                        break;
+                    case "attachments":
+                        if (skip(in, SkippableField.ATTACHMENTS)) {
+                            break;
+                        }
+                        step.setAttachments(readList(in, attachmentAdapter));
+                        break;
+                    case "isSectionTitle":
+                        step.setIsSectionTitle(in.nextBoolean());
+                        break;
+                    case "memoized":
+                        step.setMemoized(in.nextBoolean());
+                        break;
+                    case "comment":
+                        step.setComment(in.nextString());
+                        break;
+                    case "depth":
+                        step.setDepth(in.nextInt());
+                        break;
+                    case "parentFailed":
+                        step.setParentFailed(in.nextBoolean());
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return step;
+        }
+    }
+
+    private class AttachmentModelAdapter extends NullSafeAdapter<AttachmentModel> {
+        @Override
+        void writeFields(JsonWriter out, AttachmentModel attachment) throws IOException {
+            writeString(out, "title", attachment.getTitle());
+            writeString(out, "value", attachment.getValue());
+            writeString(out, "fileName", attachment.getFileName());
+            writeString(out, "mediaType", attachment.getMediaType());
+            out.name("binary").value(attachment.isBinary());
+            writeFlag(out, "showDirectly", attachment.isShowDirectly());
+            writeString(out, "filePath", attachment.getFilePath());
+            writeString(out, "contentHash", attachment.getContentHash());
+        }
+
+        @Override
+        AttachmentModel readObject(JsonReader in) throws IOException {
+            AttachmentModel attachment = new AttachmentModel();
+            in.beginObject();
+            while (in.hasNext()) {
+                String name = in.nextName();
+                if (skipNull(in)) {
+                    continue;
+                }
+                switch (name) {
+                    case "title":
+                        attachment.setTitle(in.nextString());
+                        break;
+                    case "value":
+                        attachment.setValue(in.nextString());
+                        break;
+                    case "fileName":
+                        attachment.setFileName(in.nextString());
+                        break;
+                    case "mediaType":
+                        attachment.setMediaType(nextCanonicalString(in));
+                        break;
+                    case "binary":
+                        attachment.setIsBinary(in.nextBoolean());
+                        break;
+                    case "showDirectly":
+                        attachment.setShowDirectly(in.nextBoolean());
+                        break;
+                    case "filePath":
+                        attachment.setFilePath(in.nextString());
+                        break;
+                    case "contentHash":
+                        attachment.setContentHash(in.nextString());
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return attachment;
+        }
+    }
+
+    private class WordAdapter extends NullSafeAdapter<Word> {
+        @Override
+        void writeFields(JsonWriter out, Word word) throws IOException {
+            writeString(out, "value", word.getValue());
+            writeFlag(out, "isIntroWord", word.isIntroWord());
+            if (word.getArgumentInfo() != null) {
+                out.name("argumentInfo");
+                argumentInfoAdapter.write(out, word.getArgumentInfo());
+            }
+            writeFlag(out, "isDifferent", word.isDifferent());
+        }
+
+        @Override
+        Word readObject(JsonReader in) throws IOException {
+            Word word = new Word();
+            in.beginObject();
+            while (in.hasNext()) {
+                String name = in.nextName();
+                if (skipNull(in)) {
+                    continue;
+                }
+                switch (name) {
+                    case "value":
+                        word.setValue(nextCanonicalString(in));
+                        break;
+                    case "isIntroWord":
+                        word.setIntroWord(in.nextBoolean());
+                        break;
+                    case "argumentInfo":
+                        word.setArgumentInfo(argumentInfoAdapter.read(in));
+                        break;
+                    case "isDifferent":
+                        word.setIsDifferent(in.nextBoolean());
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return word;
+        }
+    }
+
+    private class ArgumentInfoAdapter extends NullSafeAdapter<ArgumentInfo> {
+        @Override
+        void writeFields(JsonWriter out, ArgumentInfo argumentInfo) throws IOException {
+            if (argumentInfo.isParameter()) {
+                writeString(out, "parameterName", argumentInfo.getParameterName());
+            }
+            writeString(out, "argumentName", argumentInfo.getArgumentName());
+            writeString(out, "formattedValue", argumentInfo.getFormattedValue());
+            if (argumentInfo.getDataTable() != null) {
+                out.name("dataTable");
+                dataTableAdapter.write(out, argumentInfo.getDataTable());
+            }
+        }
+
+        @Override
+        ArgumentInfo readObject(JsonReader in) throws IOException {
+            ArgumentInfo argumentInfo = new ArgumentInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                String name = in.nextName();
+                if (skipNull(in)) {
+                    continue;
+                }
+                switch (name) {
+                    case "parameterName":
+                        argumentInfo.setParameterName(nextCanonicalString(in));
+                        break;
+                    case "argumentName":
+                        argumentInfo.setArgumentName(nextCanonicalString(in));
+                        break;
+                    case "formattedValue":
+                        argumentInfo.setFormattedValue(in.nextString());
+                        break;
+                    case "dataTable":
+                        argumentInfo.setDataTable(dataTableAdapter.read(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return argumentInfo;
+        }
+    }
+
+    private static class DataTableAdapter extends NullSafeAdapter<DataTable> {
+        @Override
+        void writeFields(JsonWriter out, DataTable dataTable) throws IOException {
+            writeEnum(out, "headerType", dataTable.getHeaderType());
+            if (dataTable.getData() != null) {
+                out.name("data").beginArray();
+                for (List<String> row : dataTable.getData()) {
+                    writeStrings(out, row);
+                }
+                out.endArray();
+            }
+        }
+
+        @Override
+        DataTable readObject(JsonReader in) throws IOException {
+            Table.HeaderType headerType = null;
+            List<List<String>> data = null;
+            in.beginObject();
+            while (in.hasNext()) {
+                String name = in.nextName();
+                if (skipNull(in)) {
+                    continue;
+                }
+                switch (name) {
+                    case "headerType":
+                        headerType = readEnum(in, Table.HeaderType.class);
+                        break;
+                    case "data":
+                        data = Lists.newArrayList();
+                        in.beginArray();
+                        while (in.hasNext()) {
+                            data.add(readStrings(in));
+                        }
+                        in.endArray();
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            DataTable dataTable = new DataTable(headerType, Collections.emptyList());
+            dataTable.setData(data);
+            return dataTable;
+        }
+    }
+
+    private class TagAdapter extends NullSafeAdapter<Tag> {
+        @Override
+        @SuppressWarnings("unchecked")
+        void writeFields(JsonWriter out, Tag tag) throws IOException {
+            writeString(out, "fullType", tag.getFullType());
+            writeString(out, "type", tag.getType());
+            writeString(out, "name", tag.getExplicitName());
+            if (tag.getValue() instanceof String) {
+                writeString(out, "value", (String) tag.getValue());
+            } else if (tag.getValue() != null) {
+                writeStrings(out, "value", (List<String>) tag.getValue());
+            }
+            writeString(out, "description", tag.getDescription());
+            writeFlag(out, "prependType", tag.isPrependType());
+            writeString(out, "color", tag.getColor());
+            writeString(out, "cssClass", tag.getCssClass());
+            writeString(out, "style", tag.getStyle());
+            if (!tag.getTags().isEmpty()) {
+                writeStrings(out, "tags", tag.getTags());
+            }
+            writeString(out, "href", tag.getHref());
+            writeFlag(out, "hideInNav", !tag.getShownInNavigation());
+        }
+
+        @Override
+        Tag readObject(JsonReader in) throws IOException {
+            Map<String, Object> fields = Maps.newHashMap();
+            in.beginObject();
+            while (in.hasNext()) {
+                String name = in.nextName();
+                if (skipNull(in)) {
+                    continue;
+                }
+                switch (name) {
+                    case "value":
+                        fields.put(name, in.peek() == JsonToken.BEGIN_ARRAY ? readCanonicalStrings(in) : nextCanonicalString(in));
+                        break;
+                    case "tags":
+                        fields.put(name, readCanonicalStrings(in));
+                        break;
+                    case "prependType":
+                    case "hideInNav":
+                        fields.put(name, in.nextBoolean());
+                        break;
+                    case "fullType":
+                    case "type":
+                    case "name":
+                    case "description":
+                    case "color":
+                    case "cssClass":
+                    case "style":
+                    case "href":
+                        fields.put(name, nextCanonicalString(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return createTag(fields);
+        }
+
+        @SuppressWarnings("unchecked")
+        private Tag createTag(Map<String, Object> fields) {
+            Tag tag = new Tag((String) fields.get("fullType"));
+            tag.setType((String) fields.get("type"));
+            tag.setName((String) fields.get("name"));
+            Object value = fields.get("value");
+            if (value instanceof String) {
+                tag.setValue((String) value);
+            } else if (value != null) {
+                tag.setValue((List<String>) value);
+            }
+            tag.setDescription((String) fields.get("description"));
+            tag.setPrependType(Boolean.TRUE.equals(fields.get("prependType")));
+            tag.setColor((String) fields.get("color"));
+            tag.setCssClass((String) fields.get("cssClass"));
+            tag.setStyle((String) fields.get("style"));
+            tag.setTags((List<String>) fields.get("tags"));
+            tag.setHref((String) fields.get("href"));
+            tag.setShowInNavigation(!Boolean.TRUE.equals(fields.get("hideInNav")));
+            return tag;
+        }
+    }
+
+    /**
+     * Skips the next value if the given field should be skipped.
+     *
+     * @return {@code true} if the value has been skipped
+     */
+    private boolean skip(JsonReader in, SkippableField field) throws IOException {
+        if (skippedFields.contains(field)) {
+            in.skipValue();
+            return true;
+        }
+        return false;
+    }
+
+    private String intern(String value) {
+        return interner == null || value == null ? value : interner.intern(value);
+    }
+
+    private String nextCanonicalString(JsonReader in) throws IOException {
+        return intern(in.nextString());
+    }
+
+    private List<String> readCanonicalStrings(JsonReader in) throws IOException {
+        List<String> values = NullSafeAdapter.readStrings(in);
+        values.replaceAll(this::intern);
+        return values;
+    }
+
+    /**
+     * Base class of all adapters that handles {@code null} values
+     * and provides helper methods for the common field types.
+     */
+    private abstract static class NullSafeAdapter<T> extends TypeAdapter<T> {
+
+        abstract void writeFields(JsonWriter out, T value) throws IOException;
+
+        abstract T readObject(JsonReader in) throws IOException;
+
+        @Override
+        public void write(JsonWriter out, T value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            writeFields(out, value);
+            out.endObject();
+        }
+
+        @Override
+        public T read(JsonReader in) throws IOException {
+            if (skipNull(in)) {
+                return null;
+            }
+            return readObject(in);
+        }
+
+        static boolean skipNull(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return true;
+            }
+            return false;
+        }
+
+        static void writeString(JsonWriter out, String name, String value) throws IOException {
+            if (value != null) {
+                out.name(name).value(value);
+            }
+        }
+
+        static void writeFlag(JsonWriter out, String name, boolean value) throws IOException {
+            if (value) {
+                out.name(name).value(true);
+            }
+        }
+
+        static void writeEnum(JsonWriter out, String name, Enum<?> value) throws IOException {
+            if (value != null) {
+                out.name(name).value(value.name());
+            }
+        }
+
+        static void writeStrings(JsonWriter out, String name, List<String> values) throws IOException {
+            if (values != null) {
+                out.name(name);
+                writeStrings(out, values);
+            }
+        }
+
+        static void writeStrings(JsonWriter out, List<String> values) throws IOException {
+            out.beginArray();
+            for (String value : values) {
+                out.value(value);
+            }
+            out.endArray();
+        }
+
+        static <E> void writeList(JsonWriter out, List<E> values, TypeAdapter<E> adapter) throws IOException {
+            out.beginArray();
+            for (E value : values) {
+                adapter.write(out, value);
+            }
+            out.endArray();
+        }
+
+        static List<String> readStrings(JsonReader in) throws IOException {
+            List<String> values = Lists.newArrayList();
+            in.beginArray();
+            while (in.hasNext()) {
+                values.add(skipNull(in) ? null : in.nextString());
+            }
+            in.endArray();
+            return values;
+        }
+
+        static <E> List<E> readList(JsonReader in, TypeAdapter<E> adapter) throws IOException {
+            List<E> values = Lists.newArrayList();
+            in.beginArray();
+            while (in.hasNext()) {
+                values.add(adapter.read(in));
+            }
+            in.endArray();
+            return values;
+        }
+
+        /**
+         * Like the reflective adapters of Gson, unknown constants are read as {@code null}.
+         */
+        static <E extends Enum<E>> E readEnum(JsonReader in, Class<E> enumType) throws IOException {
+            String name = in.nextString();
+            for (E constant : enumType.getEnumConstants()) {
+                if (constant.name().equals(name)) {
+                    return constant;
+                }
+            }
+            return null;
+        }
+    }
+}
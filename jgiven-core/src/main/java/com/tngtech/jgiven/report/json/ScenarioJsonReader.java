@@ -1,25 +1,74 @@
 package com.tngtech.jgiven.report.json;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.Reader;
+import java.util.Set;
 
 import com.google.common.base.Charsets;
 import com.google.common.base.Function;
-import com.google.common.io.Files;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonIOException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import com.tngtech.jgiven.impl.util.ResourceUtil;
 import com.tngtech.jgiven.report.model.ReportModel;
+import com.tngtech.jgiven.report.model.ReportModelFileFormat;
 
 public class ScenarioJsonReader implements Function<File, ReportModel> {
     /**
+     * Strings that repeat across report models are interned, as large reports consist
+     * of thousands of files that mostly contain the same class names, tag ids, steps and words.
+     */
+    private static final Interner<String> INTERNER = Interners.newWeakInterner();
+
+    private static final ReportModelTypeAdapterFactory FACTORY = new ReportModelTypeAdapterFactory( INTERNER );
+
+    /**
+     * Gson instances are thread-safe, so a single instance is shared by all readers that read complete models.
+     */
+    private static final Gson GSON = new GsonBuilder().registerTypeAdapterFactory( FACTORY ).create();
+
+    private final ReportModelTypeAdapterFactory factory;
+    private final Gson gson;
+
+    public ScenarioJsonReader() {
+        this.factory = FACTORY;
+        this.gson = GSON;
+    }
+
+    /**
+     * Creates a reader that skips the given fields, so that they are neither parsed nor kept in memory.
+     *
+     * @param skippedFields the fields to skip, if empty, complete models are read
+     * @since 1.4.0
+     */
+    public ScenarioJsonReader( Set<SkippableField> skippedFields ) {
+        if( skippedFields.isEmpty() ) {
+            this.factory = FACTORY;
+            this.gson = GSON;
+        } else {
+            this.factory = new ReportModelTypeAdapterFactory( INTERNER, skippedFields );
+            this.gson = new GsonBuilder().registerTypeAdapterFactory( factory ).create();
+        }
+    }
+
+    /**
+     * Files with the {@value ReportModelFileFormat#COMPRESSED_EXTENSION} extension are decompressed while reading.
+     *
      * @throws JsonReaderException in case there was an error while reading the file.
      */
     @Override
     public ReportModel apply( File file ) {
         Reader reader = null;
         try {
-            reader = Files.newReader( file, Charsets.UTF_8 );
-            return new Gson().fromJson( reader, ReportModel.class );
+            reader = newReader( file );
+            return gson.fromJson( reader, ReportModel.class );
         } catch( Exception e ) {
             throw new JsonReaderException( file, e );
         } finally {
@@ -27,6 +76,45 @@ public class ScenarioJsonReader implements Function<File, ReportModel> {
         }
     }
 
+    /**
+     * Reads a report model from the given stream. The stream is not closed.
+     *
+     * @since 1.4.0
+     */
+    public ReportModel read( InputStream in ) {
+        return gson.fromJson( new InputStreamReader( in, Charsets.UTF_8 ), ReportModel.class );
+    }
+
+    /**
+     * Reads the given file scenario by scenario and passes each scenario to the given handler
+     * as soon as it has been read. In contrast to {@link #apply}, only a single scenario
+     * has to be kept in memory, so that also files of test classes with a huge number of cases can be read.
+     *
+     * @return the report model of the file without its scenarios
+     * @throws JsonReaderException in case there was an error while reading the file.
+     * @since 1.4.0
+     */
+    public ReportModel readScenarios( File file, ScenarioModelHandler handler ) {
+        Reader reader = null;
+        try {
+            reader = newReader( file );
+            JsonReader jsonReader = gson.newJsonReader( reader );
+            ReportModel model = factory.readReportModel( jsonReader, handler );
+            if( jsonReader.peek() != JsonToken.END_DOCUMENT ) {
+                throw new JsonIOException( "JSON document was not fully consumed." );
+            }
+            return model;
+        } catch( Exception e ) {
+            throw new JsonReaderException( file, e );
+        } finally {
+            ResourceUtil.close( reader );
+        }
+    }
+
+    private static Reader newReader( File file ) throws IOException {
+        return new InputStreamReader( ReportModelFileFormat.newInputStream( file ), Charsets.UTF_8 );
+    }
+
     public static class JsonReaderException extends RuntimeException {
         public final File file;
 
@@ -2,36 +2,52 @@ package com.tngtech.jgiven.report.json;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.common.base.Charsets;
 import com.google.common.base.Throwables;
-import com.google.common.io.Files;
-import com.google.gson.GsonBuilder;
+import com.google.gson.Gson;
 import com.tngtech.jgiven.report.model.ReportModel;
+import com.tngtech.jgiven.report.model.ReportModelFileFormat;
 
 public class ScenarioJsonWriter {
     private static final Logger log = LoggerFactory.getLogger( ScenarioJsonWriter.class );
+    private static final Gson GSON = ReportModelTypeAdapterFactory.gsonBuilder().setPrettyPrinting().create();
     private final ReportModel model;
 
     public ScenarioJsonWriter( ReportModel model ) {
         this.model = model;
     }
 
+    /**
+     * Writes the model to the given file. If the file has the {@value ReportModelFileFormat#COMPRESSED_EXTENSION}
+     * extension, the JSON is compressed with gzip.
+     */
     public void write( File file ) {
-        String json = toString();
-        try {
-            Files.write( json, file, Charsets.UTF_8 );
-            log.debug( "Written JSON to file {}, {}", file, json );
+        try( OutputStream out = ReportModelFileFormat.newOutputStream( file ) ) {
+            write( out );
+            log.debug( "Written JSON to file {}", file );
         } catch( IOException e ) {
             Throwables.propagate( e );
         }
     }
 
+    /**
+     * Writes the model as UTF-8 encoded JSON to the given stream. The stream is flushed, but not closed.
+     */
+    public void write( OutputStream outputStream ) throws IOException {
+        Writer writer = new OutputStreamWriter( outputStream, Charsets.UTF_8 );
+        GSON.toJson( model, writer );
+        writer.flush();
+    }
+
     @Override
     public String toString() {
-        return new GsonBuilder().setPrettyPrinting().create().toJson( model );
+        return GSON.toJson( model );
     }
 }
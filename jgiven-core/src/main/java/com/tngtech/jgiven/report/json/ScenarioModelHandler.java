@@ -0,0 +1,22 @@
+package com.tngtech.jgiven.report.json;
+
+import com.tngtech.jgiven.report.model.ReportModel;
+import com.tngtech.jgiven.report.model.ScenarioModel;
+
+/**
+ * Handles a single ScenarioModel while a JSON file is read scenario by scenario.
+ * Use {@link ScenarioJsonReader#readScenarios} to read a file.
+ *
+ * @since 1.4.0
+ */
+public interface ScenarioModelHandler {
+
+    /**
+     * @param reportModel   the report model the scenario belongs to, without any scenarios.
+     *                      Its class name, description and tags are set if they precede the scenarios in the file,
+     *                      which is the case for all files written by JGiven 1.4.0 or later.
+     * @param scenarioModel the complete scenario that has been read
+     */
+    void handleScenarioModel( ReportModel reportModel, ScenarioModel scenarioModel );
+
+}
@@ -0,0 +1,32 @@
+package com.tngtech.jgiven.report.json;
+
+/**
+ * Fields of the JSON report that can be skipped while reading, if the consumer does not need them.
+ * <p>
+ * Skipped fields are passed over by the JSON parser without creating any objects for them.
+ * The corresponding properties of the read model are left empty.
+ *
+ * @see ScenarioJsonReader#ScenarioJsonReader(java.util.Set)
+ * @since 1.4.0
+ */
+public enum SkippableField {
+    /**
+     * The attachments of the steps, which may contain large Base64 encoded content.
+     */
+    ATTACHMENTS,
+
+    /**
+     * The stack traces of failed scenario cases.
+     */
+    STACK_TRACE,
+
+    /**
+     * The nested steps of the steps. Note that nested steps are counted by the report statistics.
+     */
+    NESTED_STEPS,
+
+    /**
+     * The words of the steps, including their arguments and data tables.
+     */
+    WORDS
+}
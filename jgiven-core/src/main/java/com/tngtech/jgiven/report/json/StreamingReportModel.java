@@ -0,0 +1,97 @@
+package com.tngtech.jgiven.report.json;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.tngtech.jgiven.report.model.CompleteReportModel;
+import com.tngtech.jgiven.report.model.ExecutionStatus;
+import com.tngtech.jgiven.report.model.ReportModel;
+import com.tngtech.jgiven.report.model.ReportModelFile;
+import com.tngtech.jgiven.report.model.ReportStatistics;
+import com.tngtech.jgiven.report.model.ScenarioModel;
+import com.tngtech.jgiven.report.model.StatisticsCalculator;
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link CompleteReportModel} that does not keep the report models in memory.
+ * <p>
+ * When the JSON files are read for the first time, only the statistics, the tags and the scenarios
+ * without their cases are kept. {@link #forEachReportModel} reads the files a second time
+ * and passes one complete model after the other to the consumer, so that report generators
+ * only need as much memory as the largest report model requires.
+ *
+ * @since 1.4.0
+ */
+public class StreamingReportModel extends CompleteReportModel {
+    private static final Logger log = LoggerFactory.getLogger(StreamingReportModel.class);
+
+    private final ReportModelReader reader;
+    private final Map<File, ReportStatistics> statisticsByFile = Maps.newHashMap();
+
+    StreamingReportModel(ReportModelReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public void addModelFile(ReportModelFile modelFile) {
+        ReportModel model = modelFile.model();
+
+        for (ScenarioModel scenario : model.getScenarios()) {
+            ScenarioModel summary = summarize(scenario);
+            for (String tagId : scenario.getTagIds()) {
+                tagMap.computeIfAbsent(model.getTagWithId(tagId), k -> Lists.newArrayList()).add(summary);
+            }
+            allScenarios.add(summary);
+            ExecutionStatus status = summary.getExecutionStatus();
+            if (status == ExecutionStatus.FAILED) {
+                failedScenarios.add(summary);
+            } else if (status == ExecutionStatus.SCENARIO_PENDING || status == ExecutionStatus.SOME_STEPS_PENDING) {
+                pendingScenarios.add(summary);
+            }
+        }
+
+        tagIdMap.putAll(model.getTagMap());
+        ReportStatistics statistics = new StatisticsCalculator().getStatistics(model);
+        statisticsByFile.put(modelFile.file(), statistics);
+        totalStatistics = totalStatistics.add(statistics);
+    }
+
+    /**
+     * Creates a copy of the given scenario without its cases.
+     */
+    private ScenarioModel summarize(ScenarioModel scenario) {
+        ExecutionStatus executionStatus = scenario.getExecutionStatus();
+        ScenarioModel summary = new ScenarioModel(scenario);
+        summary.clearCases();
+        summary.setDerivedParameters(scenario.getDerivedParameters());
+        summary.setExecutionStatus(executionStatus);
+        return summary;
+    }
+
+    @Override
+    public void forEachReportModel(Consumer<ReportModelFile> consumer) {
+        reader.traverseModels(consumer);
+    }
+
+    @Override
+    public ReportStatistics getStatistics(ReportModelFile reportModelFile) {
+        return statisticsByFile.get(reportModelFile.file());
+    }
+
+    /**
+     * Reads all report models into memory, as the returned list has to contain all of them.
+     * Use {@link #forEachReportModel} instead.
+     */
+    @Override
+    public synchronized List<ReportModelFile> getAllReportModels() {
+        if (models.isEmpty() && !statisticsByFile.isEmpty()) {
+            log.warn("All report models are read into memory, because the report generator does not support streaming.");
+            reader.traverseModels(models::add);
+        }
+        return models;
+    }
+}
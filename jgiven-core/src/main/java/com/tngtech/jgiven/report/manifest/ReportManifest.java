@@ -0,0 +1,239 @@
+package com.tngtech.jgiven.report.manifest;
+
+import com.google.common.base.Charsets;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.tngtech.jgiven.impl.util.FileUtil;
+import com.tngtech.jgiven.report.model.ReportModel;
+import com.tngtech.jgiven.report.model.ReportStatistics;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A small index of the report files of a report directory, which is written while the tests are executed.
+ * <p>
+ * The manifest file {@value #FILE_NAME} contains one JSON object per line, see {@link ReportManifestEntry}.
+ * Each written report file appends a line, so that test classes finishing in parallel, even in different
+ * processes, do not have to rewrite the whole manifest. If a report file is written more than once,
+ * the last line wins. The first time a process appends to a manifest, and whenever the manifest has doubled
+ * its size since then, the manifest is compacted to the last line of each report file.
+ * <p>
+ * The manifest allows computing the statistics of a whole report directory without parsing the report files,
+ * see {@link com.tngtech.jgiven.report.json.ReportModelReader#readManifest()}.
+ *
+ * @since 1.4.0
+ */
+public class ReportManifest {
+    private static final Logger log = LoggerFactory.getLogger(ReportManifest.class);
+
+    public static final String FILE_NAME = "jgiven-manifest.jsonl";
+
+    private static final Gson GSON = new Gson();
+
+    /**
+     * File locks are held by the whole process, so threads of the same process have to be serialized separately.
+     */
+    private static final Object APPEND_LOCK = new Object();
+
+    /**
+     * Manifests smaller than this are not compacted again by the same process.
+     */
+    private static final long MIN_COMPACTION_SIZE = 64 * 1024;
+
+    /**
+     * The size of each manifest after it has been compacted by this process, guarded by {@link #APPEND_LOCK}.
+     */
+    private static final Map<File, Long> compactedSizes = new HashMap<>();
+
+    private final File reportDir;
+    private final Map<String, ReportManifestEntry> entries;
+
+    private ReportManifest(File reportDir, Map<String, ReportManifestEntry> entries) {
+        this.reportDir = reportDir;
+        this.entries = entries;
+    }
+
+    /**
+     * Adds an entry for the given report file, which has just been written from the given model,
+     * to the manifest of the given report directory.
+     */
+    public static void addReportFile(File reportDir, File reportFile, ReportModel model) throws IOException {
+        addReportFile(reportDir, reportFile, FileUtil.sha256(reportFile), model);
+    }
+
+    /**
+     * Like {@link #addReportFile(File, File, ReportModel)}, but with the SHA-256 hash of the report file
+     * that has been computed while the file was written, so that the file is not read again.
+     */
+    public static void addReportFile(File reportDir, File reportFile, String contentHash, ReportModel model)
+        throws IOException {
+        String path = relativePath(reportDir, reportFile);
+        append(reportDir, new ReportManifestEntry(path, reportFile.length(), reportFile.lastModified(),
+            contentHash, model));
+    }
+
+    private static void append(File reportDir, ReportManifestEntry entry) throws IOException {
+        ByteBuffer line = ByteBuffer.wrap((GSON.toJson(entry) + "\n").getBytes(Charsets.UTF_8));
+        File manifestFile = new File(reportDir, FILE_NAME).getAbsoluteFile();
+        synchronized (APPEND_LOCK) {
+            try (FileChannel channel = FileChannel.open(manifestFile.toPath(),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                 FileLock lock = channel.lock()) {
+                long size = channel.size();
+                Long compactedSize = compactedSizes.get(manifestFile);
+                if (compactedSize == null || size > 2 * Math.max(compactedSize, MIN_COMPACTION_SIZE)) {
+                    size = compact(reportDir, channel);
+                    compactedSizes.put(manifestFile, size);
+                }
+                channel.position(size);
+                while (line.hasRemaining()) {
+                    channel.write(line);
+                }
+            }
+        }
+    }
+
+    /**
+     * Rewrites the manifest with the last valid line of each existing report file.
+     *
+     * @return the size of the compacted manifest
+     */
+    private static long compact(File reportDir, FileChannel channel) throws IOException {
+        ByteBuffer content = ByteBuffer.allocate((int) channel.size());
+        while (content.hasRemaining() && channel.read(content, content.position()) >= 0) {
+            // read until the buffer is full
+        }
+        Map<String, String> lines = new LinkedHashMap<>();
+        for (String line : new String(content.array(), Charsets.UTF_8).split("\n")) {
+            ReportManifestEntry entry = parse(line);
+            if (entry != null && new File(reportDir, entry.getFile()).isFile()) {
+                lines.remove(entry.getFile());
+                lines.put(entry.getFile(), line + "\n");
+            }
+        }
+
+        ByteBuffer compacted = ByteBuffer.wrap(String.join("", lines.values()).getBytes(Charsets.UTF_8));
+        channel.truncate(0);
+        channel.position(0);
+        while (compacted.hasRemaining()) {
+            channel.write(compacted);
+        }
+        return channel.size();
+    }
+
+    /**
+     * Reads the manifest of the given report directory.
+     * Entries of report files that do not exist anymore and lines that cannot be parsed are ignored.
+     *
+     * @return the manifest or an empty optional if the directory does not contain a manifest
+     */
+    public static Optional<ReportManifest> read(File reportDir) throws IOException {
+        File manifestFile = new File(reportDir, FILE_NAME);
+        if (!manifestFile.isFile()) {
+            return Optional.empty();
+        }
+        Map<String, ReportManifestEntry> entries = new TreeMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(manifestFile.toPath(), Charsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                ReportManifestEntry entry = parse(line);
+                if (entry != null && new File(reportDir, entry.getFile()).isFile()) {
+                    entries.put(entry.getFile(), entry);
+                }
+            }
+        }
+        return Optional.of(new ReportManifest(reportDir, entries));
+    }
+
+    private static ReportManifestEntry parse(String line) {
+        if (line.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            ReportManifestEntry entry = GSON.fromJson(line, ReportManifestEntry.class);
+            return entry.getFile() != null && entry.getStatistics() != null ? entry : null;
+        } catch (JsonParseException e) {
+            log.debug("Ignoring invalid line of " + FILE_NAME + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Returns the entries of all report files ordered by their path.
+     */
+    public List<ReportManifestEntry> getEntries() {
+        return new ArrayList<>(entries.values());
+    }
+
+    public Optional<ReportManifestEntry> getEntry(File reportFile) {
+        return Optional.ofNullable(entries.get(getPath(reportFile)));
+    }
+
+    public File getFile(ReportManifestEntry entry) {
+        return new File(reportDir, entry.getFile());
+    }
+
+    /**
+     * Returns whether the manifest contains exactly the given report files with their current sizes
+     * and modification times, so that the content hashes of the entries can be trusted.
+     */
+    public boolean isUpToDate(Collection<File> reportFiles) {
+        if (reportFiles.size() != entries.size()) {
+            return false;
+        }
+        for (File reportFile : reportFiles) {
+            ReportManifestEntry entry = entries.get(getPath(reportFile));
+            if (entry == null || entry.getSize() != reportFile.length()
+                || entry.getLastModified() != reportFile.lastModified()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public ReportStatistics getTotalStatistics() {
+        ReportStatistics statistics = new ReportStatistics();
+        for (ReportManifestEntry entry : entries.values()) {
+            statistics = statistics.add(entry.getStatistics());
+        }
+        return statistics;
+    }
+
+    /**
+     * Returns for each tag id the entries of the report files that contain scenarios with that tag.
+     */
+    public Map<String, List<ReportManifestEntry>> getEntriesByTagId() {
+        Map<String, List<ReportManifestEntry>> result = new LinkedHashMap<>();
+        for (ReportManifestEntry entry : entries.values()) {
+            for (String tagId : entry.getTagIds()) {
+                result.computeIfAbsent(tagId, k -> new ArrayList<>()).add(entry);
+            }
+        }
+        return result;
+    }
+
+    private String getPath(File reportFile) {
+        return relativePath(reportDir, reportFile);
+    }
+
+    private static String relativePath(File reportDir, File reportFile) {
+        return reportDir.getAbsoluteFile().toPath().relativize(reportFile.getAbsoluteFile().toPath()).toString()
+            .replace(File.separatorChar, '/');
+    }
+}
@@ -0,0 +1,91 @@
+package com.tngtech.jgiven.report.manifest;
+
+import com.tngtech.jgiven.report.model.ReportModel;
+import com.tngtech.jgiven.report.model.ReportStatistics;
+import com.tngtech.jgiven.report.model.ScenarioModel;
+import com.tngtech.jgiven.report.model.StatisticsCalculator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * The summary of one report file in the {@link ReportManifest}.
+ *
+ * @since 1.4.0
+ */
+public class ReportManifestEntry {
+    /**
+     * The path of the report file relative to the report directory.
+     */
+    private String file;
+
+    /**
+     * The size of the report file in bytes.
+     */
+    private long size;
+
+    /**
+     * The modification time of the report file in milliseconds since the epoch.
+     */
+    private long lastModified;
+
+    /**
+     * The SHA-256 hash of the content of the report file.
+     */
+    private String contentHash;
+
+    private String className;
+
+    private ReportStatistics statistics;
+
+    /**
+     * The ids of all tags of the scenarios of the report file.
+     */
+    private List<String> tagIds;
+
+    public ReportManifestEntry() {
+    }
+
+    public ReportManifestEntry(String file, long size, long lastModified, String contentHash, ReportModel model) {
+        this.file = file;
+        this.size = size;
+        this.lastModified = lastModified;
+        this.contentHash = contentHash;
+        this.className = model.getClassName();
+        this.statistics = new StatisticsCalculator().getStatistics(model);
+        Set<String> tagIds = new TreeSet<>();
+        for (ScenarioModel scenario : model.getScenarios()) {
+            tagIds.addAll(scenario.getTagIds());
+        }
+        this.tagIds = new ArrayList<>(tagIds);
+    }
+
+    public String getFile() {
+        return file;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    public ReportStatistics getStatistics() {
+        return statistics;
+    }
+
+    public List<String> getTagIds() {
+        return tagIds;
+    }
+}
@@ -0,0 +1,79 @@
+package com.tngtech.jgiven.report.merge;
+
+import com.tngtech.jgiven.report.AbstractReportConfig;
+import com.tngtech.jgiven.report.config.CommandLineOptionBuilder;
+import com.tngtech.jgiven.report.config.ConfigOption;
+import com.tngtech.jgiven.report.config.ConfigOptionBuilder;
+import com.tngtech.jgiven.report.config.converter.ToBoolean;
+import com.tngtech.jgiven.report.config.converter.ToString;
+import com.tngtech.jgiven.report.model.ReportModelFileFormat;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Configuration for merging the report models of several result directories.
+ * All report files found in the source directory, its subdirectories and ZIP archives are merged.
+ *
+ * @since 1.4.0
+ */
+public class ReportModelMergeConfig extends AbstractReportConfig {
+
+    private ReportModelFileFormat targetFormat;
+    private boolean compress;
+
+    public ReportModelMergeConfig(String... args) {
+        super(args);
+    }
+
+    public ReportModelMergeConfig() {
+        super();
+        setTargetFormat(ReportModelFileFormat.JSON);
+    }
+
+    public ReportModelFileFormat getTargetFormat() {
+        return targetFormat;
+    }
+
+    public void setTargetFormat(ReportModelFileFormat targetFormat) {
+        this.targetFormat = targetFormat;
+    }
+
+    public boolean isCompress() {
+        return compress;
+    }
+
+    public void setCompress(boolean compress) {
+        this.compress = compress;
+    }
+
+    public void useConfigMap(Map<String, Object> configMap) {
+        ReportModelFileFormat targetFormat =
+            ReportModelFileFormat.fromStringOrNull((String) configMap.get("targetFormat"));
+        setTargetFormat(targetFormat == null ? ReportModelFileFormat.JSON : targetFormat);
+        setCompress((Boolean) configMap.get("compress"));
+    }
+
+    public void additionalConfigOptions(List<ConfigOption> configOptions) {
+        ConfigOption targetFormat = new ConfigOptionBuilder("targetFormat")
+            .setCommandLineOptionWithArgument(
+                new CommandLineOptionBuilder("--target-format").setArgumentDelimiter("=")
+                    .setVisualPlaceholder("json|binary").build(),
+                new ToString())
+            .setDescription("the format of the merged report files (default: json)")
+            .setDefaultWith(ReportModelFileFormat.JSON.formatName())
+            .build();
+
+        ConfigOption compress = new ConfigOptionBuilder("compress")
+            .setCommandLineOptionWithArgument(
+                new CommandLineOptionBuilder("--compress").setArgumentDelimiter("=")
+                    .setVisualPlaceholder("boolean").build(),
+                new ToBoolean())
+            .setDescription("compress the merged report files with gzip (default: false)")
+            .setDefaultWith(false)
+            .build();
+
+        configOptions.add(targetFormat);
+        configOptions.add(compress);
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.tngtech.jgiven.report.merge;
+
+import com.tngtech.jgiven.report.AbstractReportConfig;
+import com.tngtech.jgiven.report.AbstractReportGenerator;
+import com.tngtech.jgiven.report.model.ReportModelFileFormat;
+import com.tngtech.jgiven.report.model.ReportStatistics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Merges the report files of the source directory with a {@link ReportModelMerger}
+ * and writes one report file per test class to the target directory.
+ * <p>
+ * The source directory typically contains the result directories or ZIP archives of several CI shards.
+ *
+ * @since 1.4.0
+ */
+public class ReportModelMergeGenerator extends AbstractReportGenerator {
+    private static final Logger log = LoggerFactory.getLogger(ReportModelMergeGenerator.class);
+
+    @Override
+    public AbstractReportConfig createReportConfig(String... args) {
+        return new ReportModelMergeConfig(args);
+    }
+
+    /**
+     * Does nothing, as the merger reads the report files itself.
+     */
+    @Override
+    public void loadReportModel() {
+    }
+
+    @Override
+    public void generate() {
+        ReportModelFileFormat targetFormat = ReportModelFileFormat.JSON;
+        boolean compress = false;
+        if (config instanceof ReportModelMergeConfig) {
+            targetFormat = ((ReportModelMergeConfig) config).getTargetFormat();
+            compress = ((ReportModelMergeConfig) config).isCompress();
+        }
+
+        ReportModelMerger merger = new ReportModelMerger(config.getReaderThreads());
+        merger.addDirectory(config.getSourceDir());
+        merger.write(config.getTargetDir(), targetFormat, compress);
+
+        ReportStatistics statistics = merger.getStatistics();
+        log.info("Merged {} classes with {} scenarios, {} cases and {} failed cases", statistics.numClasses,
+            statistics.numScenarios, statistics.numCases, statistics.numFailedCases);
+    }
+}
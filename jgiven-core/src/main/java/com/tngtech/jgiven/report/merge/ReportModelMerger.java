@@ -0,0 +1,132 @@
+package com.tngtech.jgiven.report.merge;
+
+import com.tngtech.jgiven.report.impl.AttachmentStore;
+import com.tngtech.jgiven.report.impl.ReportModelFileWriter;
+import com.tngtech.jgiven.report.json.JsonModelTraverser;
+import com.tngtech.jgiven.report.manifest.ReportManifest;
+import com.tngtech.jgiven.report.model.ReportModel;
+import com.tngtech.jgiven.report.model.ReportModelFile;
+import com.tngtech.jgiven.report.model.ReportModelFileFormat;
+import com.tngtech.jgiven.report.model.ReportStatistics;
+import com.tngtech.jgiven.report.model.StatisticsCalculator;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Merges the report models of several result directories, for example of different CI shards or test forks,
+ * into one report model per test class.
+ * <p>
+ * Models of the same test class are merged with {@link ReportModel#mergeWith}, so that scenarios
+ * with the same description end up as one scenario with the cases of all directories.
+ * <p>
+ * The report files are grouped by their name, which is the name of the test class, before any of them
+ * is read. Each test class is then read, merged and written on its own, so that only the models of as many
+ * test classes as there are threads are in memory at the same time.
+ * <p>
+ * Example:
+ * <pre>
+ * ReportModelMerger merger = new ReportModelMerger();
+ * merger.addDirectory(new File("shard1"));
+ * merger.addDirectory(new File("shard2"));
+ * merger.write(new File("merged"), ReportModelFileFormat.JSON, false);
+ * </pre>
+ *
+ * @since 1.4.0
+ */
+public class ReportModelMerger {
+    private static final Logger log = LoggerFactory.getLogger(ReportModelMerger.class);
+
+    private final List<File> sourceDirectories = new ArrayList<>();
+    private final int threads;
+    private final StatisticsCalculator statisticsCalculator = new StatisticsCalculator();
+    private ReportStatistics statistics = new ReportStatistics();
+    private int numFiles;
+
+    public ReportModelMerger() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param threads the number of threads used to read, merge and write the report files
+     */
+    public ReportModelMerger(int threads) {
+        this.threads = Math.max(1, threads);
+    }
+
+    /**
+     * Adds a directory or ZIP archive whose report files are merged by {@link #write}.
+     * The files are not read before.
+     */
+    public ReportModelMerger addDirectory(File sourceDirectory) {
+        sourceDirectories.add(sourceDirectory);
+        return this;
+    }
+
+    /**
+     * Returns the statistics of the models written by the last call of {@link #write},
+     * which are recalculated from the merged cases.
+     */
+    public synchronized ReportStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Merges the report files of all added directories and writes each merged model to the file
+     * {@code <className>.<extension>} in the given directory. Each file is added to the {@link ReportManifest}
+     * of that directory. The test classes are merged and written in parallel.
+     * The attachments of the models are copied into the {@link AttachmentStore} of the directory,
+     * so that the written reports do not depend on the source directories anymore.
+     *
+     * @param targetDirectory the directory to write the files to, it is created if it does not exist
+     * @param format          the format of the written files
+     * @param compress        whether the files are compressed with gzip
+     */
+    public void write(File targetDirectory, ReportModelFileFormat format, boolean compress) {
+        if (!targetDirectory.exists() && !targetDirectory.mkdirs()) {
+            throw new IllegalStateException("Could not create directory " + targetDirectory);
+        }
+        String extension = compress ? format.fileExtension() + ReportModelFileFormat.COMPRESSED_EXTENSION
+            : format.fileExtension();
+        synchronized (this) {
+            statistics = new ReportStatistics();
+            numFiles = 0;
+        }
+
+        new JsonModelTraverser(threads).traverseModelGroups(sourceDirectories, ReportModelFileFormat::getBaseName,
+            (className, modelFiles) -> {
+                ReportModel model = merge(modelFiles);
+                write(model, targetDirectory, new File(targetDirectory, model.getClassName() + extension), format);
+                addStatistics(model, modelFiles.size());
+            });
+        log.info("Wrote {} report files merged from {} files to {}", getStatistics().numClasses, numFiles,
+            targetDirectory);
+    }
+
+    private static ReportModel merge(List<ReportModelFile> modelFiles) {
+        ReportModel model = modelFiles.get(0).model();
+        for (ReportModelFile modelFile : modelFiles.subList(1, modelFiles.size())) {
+            model.mergeWith(modelFile.model());
+        }
+        return model;
+    }
+
+    private synchronized void addStatistics(ReportModel model, int files) {
+        statistics = statistics.add(statisticsCalculator.getStatistics(model));
+        numFiles += files;
+    }
+
+    private static void write(ReportModel model, File targetDirectory, File file, ReportModelFileFormat format) {
+        new AttachmentStore(targetDirectory).store(model);
+        String contentHash = ReportModelFileWriter.write(model, file, format);
+        try {
+            ReportManifest.addReportFile(targetDirectory, file, contentHash, model);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not add " + file + " to the report manifest", e);
+        }
+    }
+}
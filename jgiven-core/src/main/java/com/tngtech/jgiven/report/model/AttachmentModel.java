@@ -1,5 +1,11 @@
 package com.tngtech.jgiven.report.model;
 
+import com.tngtech.jgiven.attachment.Attachment;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
 public class AttachmentModel {
     private String title;
     private String value;
@@ -14,6 +20,102 @@ public class AttachmentModel {
      */
     private Boolean showDirectly;
 
+    /**
+     * The attachment that is still being created in the background.
+     * Is {@code null} if the attachment is complete. Is never serialized.
+     * @since 1.4.0
+     */
+    private transient CompletableFuture<Attachment> pendingAttachment;
+
+    /**
+     * The absolute path of the file this attachment refers to.
+     * In this case, the value is {@code null} and the content is taken from the file.
+     * Can be {@code null}.
+     * @since 1.4.0
+     */
+    private String filePath;
+
+    /**
+     * The SHA-256 hash of the content of the attachment, if known.
+     * Can be {@code null}.
+     * @since 1.4.0
+     */
+    private String contentHash;
+
+    public static AttachmentModel fromAttachment( Attachment attachment ) {
+        AttachmentModel attachmentModel = new AttachmentModel();
+        attachmentModel.setAttachment( attachment );
+        return attachmentModel;
+    }
+
+    /**
+     * Creates a placeholder for an attachment that is still being created.
+     * The placeholder has to be resolved with {@link #resolve()} before it can be used.
+     *
+     * @since 1.4.0
+     */
+    public static AttachmentModel pending( CompletableFuture<Attachment> attachment ) {
+        AttachmentModel attachmentModel = new AttachmentModel();
+        attachmentModel.pendingAttachment = attachment;
+        return attachmentModel;
+    }
+
+    private void setAttachment( Attachment attachment ) {
+        setTitle( attachment.getTitle() );
+        if( attachment.getFile() != null ) {
+            setFilePath( attachment.getFile().getPath() );
+            setContentHash( attachment.getContentHash() );
+        } else {
+            setValue( attachment.getContent() );
+        }
+        setFileName( attachment.getFileName() );
+        setMediaType( attachment.getMediaType().asString() );
+        setIsBinary( attachment.getMediaType().isBinary() );
+        setShowDirectly( attachment.getShowDirectly() );
+    }
+
+    public String getFilePath() {
+        return filePath;
+    }
+
+    public void setFilePath( String filePath ) {
+        this.filePath = filePath;
+    }
+
+    public boolean isFileReference() {
+        return filePath != null;
+    }
+
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public void setContentHash( String contentHash ) {
+        this.contentHash = contentHash;
+    }
+
+    public boolean isPending() {
+        return pendingAttachment != null;
+    }
+
+    /**
+     * Waits at most the given time until a pending attachment has been created and takes over its values.
+     *
+     * @throws ExecutionException if the attachment could not be created
+     * @throws java.util.concurrent.CancellationException if the creation of the attachment has been cancelled
+     * @throws TimeoutException if the attachment has not been created in time
+     * @throws InterruptedException if the current thread has been interrupted while waiting
+     * @since 1.4.0
+     */
+    public void resolve( long timeout, TimeUnit unit ) throws ExecutionException, TimeoutException, InterruptedException {
+        if( pendingAttachment == null ) {
+            return;
+        }
+        Attachment attachment = pendingAttachment.get( timeout, unit );
+        setAttachment( attachment );
+        pendingAttachment = null;
+    }
+
     public String getValue() {
         return value;
     }
@@ -3,6 +3,7 @@ package com.tngtech.jgiven.report.model;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
@@ -82,6 +83,17 @@ public class CompleteReportModel {
         return models;
     }
 
+    /**
+     * Passes the report models of all files to the given consumer, one after the other.
+     * In contrast to {@link #getAllReportModels()}, this does not require that all models are kept in memory,
+     * so report generators should prefer this method if they handle one model at a time.
+     *
+     * @since 1.4.0
+     */
+    public void forEachReportModel( Consumer<ReportModelFile> consumer ) {
+        models.forEach( consumer );
+    }
+
     public Map<String, Tag> getTagIdMap() {
         return tagIdMap;
     }
@@ -14,6 +14,7 @@ import java.util.Comparator;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 public class ReportModel {
@@ -168,6 +169,36 @@ public class ReportModel {
         }
     }
 
+    /**
+     * Merges the given model of the same test class into this model, for example if the scenarios
+     * of a test class have been executed by different test processes.
+     * Scenarios are merged by their description like in {@link #addScenarioModelOrMergeWithExistingOne},
+     * but can have any number of cases, see {@link ScenarioModel#mergeWith}.
+     * Scenarios that do not exist in this model yet are added without copying them.
+     *
+     * @since 1.4.0
+     */
+    public synchronized void mergeWith(ReportModel reportModel) {
+        AssertionUtil.assertTrue(Objects.equals(className, reportModel.getClassName()),
+            "Report models of different test classes cannot be merged. 1st class: " + className
+                + ", 2nd class: " + reportModel.getClassName());
+        if (name == null) {
+            name = reportModel.getName();
+        }
+        if (description == null) {
+            description = reportModel.getDescription();
+        }
+        tagMap.putAll(reportModel.getTagMap());
+        for (ScenarioModel scenarioModel : reportModel.getScenarios()) {
+            Optional<ScenarioModel> existingScenarioModel = findScenarioModel(scenarioModel.getDescription());
+            if (existingScenarioModel.isPresent()) {
+                existingScenarioModel.get().mergeWith(scenarioModel);
+            } else {
+                scenarios.add(scenarioModel);
+            }
+        }
+    }
+
     public synchronized void setTestClass(Class<?> testClass) {
         AssertionUtil.assertTrue(className == null || testClass.getName().equals(className),
             "Test class of the same report model was set to different values. 1st value: " + className
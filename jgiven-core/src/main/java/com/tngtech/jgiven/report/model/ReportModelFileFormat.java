@@ -0,0 +1,152 @@
+package com.tngtech.jgiven.report.model;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The formats in which report models are written to files.
+ * <p>
+ * Files of all formats can additionally be compressed with gzip, which is indicated
+ * by the {@value #COMPRESSED_EXTENSION} extension after the extension of the format.
+ *
+ * @since 1.4.0
+ */
+public enum ReportModelFileFormat {
+    /**
+     * Pretty printed JSON, the default.
+     */
+    JSON("json", ".json"),
+
+    /**
+     * A compact binary format, see {@link com.tngtech.jgiven.report.binary.BinaryReportModelWriter}.
+     */
+    BINARY("binary", ".jgiven");
+
+    public static final String COMPRESSED_EXTENSION = ".gz";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final String formatName;
+    private final String fileExtension;
+
+    ReportModelFileFormat(String formatName, String fileExtension) {
+        this.formatName = formatName;
+        this.fileExtension = fileExtension;
+    }
+
+    public String formatName() {
+        return formatName;
+    }
+
+    public String fileExtension() {
+        return fileExtension;
+    }
+
+    public static ReportModelFileFormat fromStringOrNull(String value) {
+        return Arrays.stream(values())
+            .filter(format -> format.formatName.equalsIgnoreCase(value))
+            .findFirst()
+            .orElse(null);
+    }
+
+    /**
+     * Returns whether the name of the given file has the extension of one of the formats,
+     * optionally followed by {@value #COMPRESSED_EXTENSION}.
+     */
+    public static boolean isReportModelFile(File file) {
+        return getBaseName(file) != null;
+    }
+
+    /**
+     * Returns the name of the given file without the extension of its format
+     * and without {@value #COMPRESSED_EXTENSION}, or {@code null} if the file is no report model file.
+     */
+    public static String getBaseName(File file) {
+        String name = file.getName();
+        if (name.endsWith(COMPRESSED_EXTENSION)) {
+            name = name.substring(0, name.length() - COMPRESSED_EXTENSION.length());
+        }
+        for (ReportModelFileFormat format : values()) {
+            if (name.endsWith(format.fileExtension)) {
+                return name.substring(0, name.length() - format.fileExtension.length());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Deletes the files next to the given report file that have the same base name, but another format
+     * or compression. Otherwise, a report file written with other settings before would be read as well.
+     */
+    public static void deleteOtherVariants(File reportFile) throws IOException {
+        String baseName = getBaseName(reportFile);
+        for (ReportModelFileFormat format : values()) {
+            for (String extension : Arrays.asList(format.fileExtension, format.fileExtension + COMPRESSED_EXTENSION)) {
+                File variant = new File(reportFile.getParentFile(), baseName + extension);
+                if (!variant.getName().equals(reportFile.getName())) {
+                    Files.deleteIfExists(variant.toPath());
+                }
+            }
+        }
+    }
+
+    /**
+     * Opens the given file for reading.
+     * The content is decompressed if the file has the {@value #COMPRESSED_EXTENSION} extension.
+     */
+    public static InputStream newInputStream(File file) throws IOException {
+        return newInputStream(file.toPath());
+    }
+
+    /**
+     * Opens the given path, which can also be located in a ZIP file system, for reading.
+     * The content is decompressed if the file has the {@value #COMPRESSED_EXTENSION} extension.
+     * The returned stream supports {@link InputStream#mark}, so that its format can be detected.
+     */
+    public static InputStream newInputStream(Path path) throws IOException {
+        InputStream in = Files.newInputStream(path);
+        if (!path.getFileName().toString().endsWith(COMPRESSED_EXTENSION)) {
+            return new BufferedInputStream(in, BUFFER_SIZE);
+        }
+        try {
+            return new BufferedInputStream(new GZIPInputStream(in, BUFFER_SIZE), BUFFER_SIZE);
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens the given file for writing.
+     * The content is compressed if the file has the {@value #COMPRESSED_EXTENSION} extension.
+     */
+    public static OutputStream newOutputStream(File file) throws IOException {
+        return newOutputStream(file, new FileOutputStream(file));
+    }
+
+    /**
+     * Wraps the given stream that writes to the given file like {@link #newOutputStream(File)} does,
+     * so that the bytes that end up in the file can be observed.
+     */
+    public static OutputStream newOutputStream(File file, OutputStream out) throws IOException {
+        if (!file.getName().endsWith(COMPRESSED_EXTENSION)) {
+            return new BufferedOutputStream(out);
+        }
+        try {
+            return new BufferedOutputStream(new GZIPOutputStream(out, BUFFER_SIZE));
+        } catch (IOException e) {
+            out.close();
+            throw e;
+        }
+    }
+}
@@ -55,6 +55,21 @@ public class ScenarioModel {
         executionStatus = null;
     }
 
+    /**
+     * Adds the cases and tags of the given model of the same scenario to this model,
+     * for example if the cases of a scenario have been executed by different test processes.
+     * The cases are renumbered, the durations are added and the execution status is recalculated.
+     *
+     * @since 1.4.0
+     */
+    public synchronized void mergeWith(ScenarioModel scenarioModel) {
+        for (ScenarioCaseModel scenarioCase : scenarioModel.getScenarioCases()) {
+            addCase(scenarioCase);
+        }
+        addDurationInNanos(scenarioModel.getDurationInNanos());
+        tagIds.addAll(scenarioModel.getTagIds());
+    }
+
     public ExecutionStatus getExecutionStatus() {
         if (executionStatus == null) {
             executionStatus = calculateExecutionStatus();
@@ -62,6 +77,10 @@ public class ScenarioModel {
         return executionStatus;
     }
 
+    public void setExecutionStatus(ExecutionStatus executionStatus) {
+        this.executionStatus = executionStatus;
+    }
+
     private ExecutionStatus calculateExecutionStatus() {
         for (ScenarioCaseModel caseModel : getScenarioCases()) {
             ExecutionStatus caseStatus = caseModel.getExecutionStatus();
@@ -8,6 +8,7 @@ import com.tngtech.jgiven.attachment.Attachment;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public class StepModel {
     /**
@@ -57,6 +58,15 @@ public class StepModel {
      */
     private Boolean isSectionTitle;
 
+    /**
+     * Whether this step has not been executed, because its result
+     * has been restored from a previous execution of a memoized stage.
+     * Can be {@code null} which is equivalent to {@code false}
+     *
+     * @since 1.4.0
+     */
+    private Boolean memoized;
+
     /**
      * An optional comment for this step.
      * Can be {@code null}.
@@ -157,16 +167,23 @@ public class StepModel {
     }
 
     public void addAttachment( Attachment attachment ) {
+        addAttachmentModel( AttachmentModel.fromAttachment( attachment ) );
+    }
+
+    /**
+     * Adds a placeholder for an attachment that is still being created.
+     * The placeholder is resolved before the report is written.
+     *
+     * @since 1.4.0
+     */
+    public void addAttachment( CompletableFuture<Attachment> attachment ) {
+        addAttachmentModel( AttachmentModel.pending( attachment ) );
+    }
+
+    private void addAttachmentModel( AttachmentModel attachmentModel ) {
         if( attachments == null ) {
             attachments = Lists.newArrayList();
         }
-        AttachmentModel attachmentModel = new AttachmentModel();
-        attachmentModel.setTitle( attachment.getTitle() );
-        attachmentModel.setValue( attachment.getContent() );
-        attachmentModel.setFileName( attachment.getFileName() );
-        attachmentModel.setMediaType( attachment.getMediaType().asString() );
-        attachmentModel.setIsBinary( attachment.getMediaType().isBinary() );
-        attachmentModel.setShowDirectly( attachment.getShowDirectly() );
         attachments.add( attachmentModel );
     }
 
@@ -177,6 +194,10 @@ public class StepModel {
         return Collections.emptyList();
     }
 
+    public void setAttachments( List<AttachmentModel> attachments ) {
+        this.attachments = attachments;
+    }
+
     public void addNestedStep( StepModel stepModel ) {
         if( nestedSteps == null ) {
             nestedSteps = Lists.newArrayList();
@@ -203,6 +224,14 @@ public class StepModel {
         this.isSectionTitle = isSectionTitle ? true : null;
     }
 
+    public boolean isMemoized() {
+        return memoized != null && memoized;
+    }
+
+    public void setMemoized( boolean memoized ) {
+        this.memoized = memoized ? true : null;
+    }
+
     public String getName() {
         return name;
     }
@@ -102,6 +102,16 @@ public class Tag {
         return name;
     }
 
+    /**
+     * Returns the name of this tag without falling back to the type.
+     * Can be {@code null}.
+     *
+     * @since 1.4.0
+     */
+    public String getExplicitName() {
+        return name;
+    }
+
     public boolean isPrependType() {
         return prependType == null ? false : true;
     }
@@ -169,6 +179,16 @@ public class Tag {
         return (List<String>) value;
     }
 
+    /**
+     * Returns the value of this tag, which is either {@code null}, a {@code String} or a {@code List<String>}.
+     *
+     * @see #getValues()
+     * @since 1.4.0
+     */
+    public Object getValue() {
+        return value;
+    }
+
     public void setValue( List<String> values ) {
         this.value = values;
     }
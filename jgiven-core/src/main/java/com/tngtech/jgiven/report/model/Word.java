@@ -97,6 +97,10 @@ public class Word {
         return argumentInfo;
     }
 
+    public void setArgumentInfo( ArgumentInfo argumentInfo ) {
+        this.argumentInfo = argumentInfo;
+    }
+
     @Override
     public String toString() {
         return getValue();
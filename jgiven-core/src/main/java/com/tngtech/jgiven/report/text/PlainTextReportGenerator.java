@@ -3,13 +3,12 @@ package com.tngtech.jgiven.report.text;
 import java.io.File;
 import java.io.PrintWriter;
 
-import com.google.common.io.Files;
 import com.tngtech.jgiven.impl.util.PrintWriterUtil;
 import com.tngtech.jgiven.impl.util.ResourceUtil;
 import com.tngtech.jgiven.report.AbstractReportConfig;
 import com.tngtech.jgiven.report.AbstractReportGenerator;
 import com.tngtech.jgiven.report.model.ReportModel;
-import com.tngtech.jgiven.report.model.ReportModelFile;
+import com.tngtech.jgiven.report.model.ReportModelFileFormat;
 
 public class PlainTextReportGenerator extends AbstractReportGenerator {
 
@@ -18,13 +17,12 @@ public class PlainTextReportGenerator extends AbstractReportGenerator {
     }
 
     public void generate() {
-        for( ReportModelFile reportModelFile : completeReportModel.getAllReportModels() ) {
-            handleReportModel(reportModelFile.model(), reportModelFile.file());
-        }
+        completeReportModel.forEachReportModel( reportModelFile ->
+            handleReportModel( reportModelFile.model(), reportModelFile.file() ) );
     }
 
     public void handleReportModel( ReportModel model, File file ) {
-        String targetFileName = Files.getNameWithoutExtension( file.getName() ) + ".feature";
+        String targetFileName = ReportModelFileFormat.getBaseName( file ) + ".feature";
         PrintWriter printWriter = PrintWriterUtil.getPrintWriter( new File( config.getTargetDir(), targetFileName ) );
 
         try {
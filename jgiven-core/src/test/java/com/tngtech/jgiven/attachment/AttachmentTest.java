@@ -48,4 +48,12 @@ public class AttachmentTest {
         assertThat( Attachment.xml( HELLO_JGIVEN ).getContent() ).isEqualTo( HELLO_JGIVEN );
         assertThat( Attachment.json( HELLO_JGIVEN ).getContent() ).isEqualTo( HELLO_JGIVEN );
     }
+
+    @Test
+    public void testFileReference() throws IOException {
+        Attachment attachment = Attachment.fromFileReference( binaryFile, ARBITRARY_MEDIA_TYPE );
+        assertThat( attachment.getFile() ).isEqualTo( binaryFile.getAbsoluteFile() );
+        assertThat( attachment.getContentHash() ).isEqualTo( "1aa7f8fbe6de6bc14d2934d6b1f9768180e185aa5244e511c3bdaa0ffdb23f36" );
+        assertThat( attachment.getContent() ).isEmpty();
+    }
 }
@@ -8,6 +8,8 @@ import org.junit.contrib.java.lang.system.RestoreSystemProperties;
 import org.junit.rules.ExpectedException;
 
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -146,11 +148,230 @@ public class ScenarioExecutorTest {
         assertThat( withAfterStage.afterStageExecuted ).as( "@AfterStage was executed" ).isTrue();
     }
 
+    @Test
+    public void lazy_stages_are_initialized_when_the_first_step_is_executed() {
+        ScenarioExecutor executor = new ScenarioExecutor();
+        LazyTestClass testClass = new LazyTestClass();
+        executor.injectStages( testClass );
+
+        assertThat( testClass.lazyStep ).isNotNull();
+        assertThat( testClass.lazyStep.subStep ).as( "stages of a lazy stage are not yet injected" ).isNull();
+
+        executor.startScenario( "Test" );
+        testClass.eagerStep.something();
+        assertThat( testClass.lazyStep.beforeScenarioExecuted ).isFalse();
+
+        testClass.lazyStep.something();
+        assertThat( testClass.lazyStep.subStep ).isNotNull();
+        assertThat( testClass.lazyStep.beforeScenarioExecuted ).isTrue();
+        assertThat( testClass.lazyStep.beforeStageExecuted ).isTrue();
+    }
+
+    @Test
+    public void lazy_stages_share_the_instance_with_stages_of_the_same_class() {
+        ScenarioExecutor executor = new ScenarioExecutor();
+        LazyTestClass testClass = new LazyTestClass();
+        executor.injectStages( testClass );
+
+        assertThat( executor.addStage( LazyTestStep.class ) ).isSameAs( testClass.lazyStep );
+        assertThat( testClass.lazyStep.subStep ).isNotNull();
+    }
+
+    @Test
+    public void reusable_stages_are_reset_and_reused_by_the_next_scenario() throws Throwable {
+        ScenarioExecutor executor = new ScenarioExecutor();
+        ReusableTestStep stage = executor.addStage( ReusableTestStep.class );
+        executor.startScenario( "Test" );
+        stage.something();
+        executor.finished();
+
+        assertThat( stage.resetCount ).isEqualTo( 1 );
+        assertThat( stage.state ).isNull();
+
+        ScenarioExecutor nextExecutor = new ScenarioExecutor();
+        ReusableTestStep nextStage = nextExecutor.addStage( ReusableTestStep.class );
+        assertThat( nextStage ).isSameAs( stage );
+
+        nextExecutor.startScenario( "Next Test" );
+        nextStage.something();
+        assertThat( nextStage.state ).isEqualTo( "something" );
+    }
+
+    @Test
+    public void reusable_stages_are_only_reused_with_the_stage_creator_that_pools_them() throws Throwable {
+        PoolingStageCreator stageCreator = new PoolingStageCreator();
+        ScenarioExecutor executor = new ScenarioExecutor();
+        executor.setStageCreator( stageCreator );
+        ReusableTestStep stage = executor.addStage( ReusableTestStep.class );
+        executor.startScenario( "Test" );
+        executor.finished();
+
+        assertThat( stageCreator.pool.get( ReusableTestStep.class ) ).isSameAs( stage );
+
+        ScenarioExecutor executorWithOtherStageCreator = new ScenarioExecutor();
+        executorWithOtherStageCreator.setStageCreator( new PoolingStageCreator() );
+        assertThat( executorWithOtherStageCreator.addStage( ReusableTestStep.class ) ).isNotSameAs( stage );
+
+        ScenarioExecutor nextExecutor = new ScenarioExecutor();
+        nextExecutor.setStageCreator( stageCreator );
+        assertThat( nextExecutor.addStage( ReusableTestStep.class ) ).isSameAs( stage );
+    }
+
+    static class PoolingStageCreator extends DefaultStageCreator {
+        final Map<Class<?>, Object> pool = new HashMap<>();
+
+        PoolingStageCreator() {
+            super( new CachingStageClassCreator( new ByteBuddyStageClassCreator() ) );
+        }
+
+        @Override
+        public <T> T acquireReusableStage( Class<T> stageClass ) {
+            return stageClass.cast( pool.remove( stageClass ) );
+        }
+
+        @Override
+        public void releaseReusableStage( Class<?> stageClass, Object stage ) {
+            pool.put( stageClass, stage );
+        }
+    }
+
+    @Test
+    public void stages_are_not_reused_by_default() throws Throwable {
+        ScenarioExecutor executor = new ScenarioExecutor();
+        TestSubStep stage = executor.addStage( TestSubStep.class );
+        executor.startScenario( "Test" );
+        executor.finished();
+
+        assertThat( new ScenarioExecutor().addStage( TestSubStep.class ) ).isNotSameAs( stage );
+    }
+
+    @Test
+    public void memoized_steps_are_skipped_and_their_state_is_restored() throws Throwable {
+        MemoizedTestStep.invocations = 0;
+        for( int i = 0; i < 2; i++ ) {
+            ScenarioExecutor executor = new ScenarioExecutor();
+            MemoizedTestStep stage = executor.addStage( MemoizedTestStep.class );
+            executor.startScenario( "Test" );
+            stage.append( "a" ).append( "b" );
+            executor.finished();
+
+            assertThat( stage.state ).isEqualTo( "ab" );
+        }
+
+        assertThat( MemoizedTestStep.invocations ).isEqualTo( 2 );
+    }
+
+    @Test
+    public void intro_words_do_not_end_the_replay_of_memoized_steps() throws Throwable {
+        MemoizedTestStep.invocations = 0;
+        for( int i = 0; i < 2; i++ ) {
+            ScenarioExecutor executor = new ScenarioExecutor();
+            MemoizedTestStep stage = executor.addStage( MemoizedTestStep.class );
+            executor.startScenario( "Test" );
+            stage.given().append( "c" ).and().append( "d" );
+            executor.finished();
+
+            assertThat( stage.state ).isEqualTo( "cd" );
+        }
+
+        assertThat( MemoizedTestStep.invocations ).isEqualTo( 2 );
+    }
+
+    @Test
+    public void memoized_steps_are_executed_once_the_sequence_of_steps_differs() throws Throwable {
+        MemoizedTestStep.invocations = 0;
+        ScenarioExecutor executor = new ScenarioExecutor();
+        MemoizedTestStep stage = executor.addStage( MemoizedTestStep.class );
+        executor.startScenario( "Test" );
+        stage.append( "x" );
+        executor.finished();
+
+        ScenarioExecutor nextExecutor = new ScenarioExecutor();
+        MemoizedTestStep nextStage = nextExecutor.addStage( MemoizedTestStep.class );
+        nextExecutor.startScenario( "Next Test" );
+        nextStage.append( "x" ).append( "y" );
+        nextExecutor.finished();
+
+        assertThat( nextStage.state ).isEqualTo( "xy" );
+        assertThat( MemoizedTestStep.invocations ).isEqualTo( 2 );
+    }
+
     static class TestClass {
         @ScenarioStage
         TestStep step;
     }
 
+    @MemoizedStage
+    static class MemoizedTestStep {
+        static int invocations;
+
+        @ProvidedScenarioState
+        String state = "";
+
+        public MemoizedTestStep append( String value ) {
+            invocations++;
+            state = state + value;
+            return this;
+        }
+
+        @IntroWord
+        public MemoizedTestStep given() {
+            return this;
+        }
+
+        @IntroWord
+        public MemoizedTestStep and() {
+            return this;
+        }
+    }
+
+    @ReusableStage
+    static class ReusableTestStep {
+        @ProvidedScenarioState
+        String state;
+
+        int resetCount;
+
+        @ResetStage
+        protected void reset() {
+            resetCount++;
+        }
+
+        public void something() {
+            state = "something";
+        }
+    }
+
+    static class LazyTestClass {
+        @ScenarioStage
+        DoNotInterceptClass eagerStep;
+
+        @ScenarioStage( lazy = true )
+        LazyTestStep lazyStep;
+    }
+
+    static class LazyTestStep {
+        @ScenarioStage
+        TestSubStep subStep;
+
+        boolean beforeScenarioExecuted;
+
+        boolean beforeStageExecuted;
+
+        @BeforeScenario
+        protected void beforeScenario() {
+            beforeScenarioExecuted = true;
+        }
+
+        @BeforeStage
+        protected void beforeStage() {
+            beforeStageExecuted = true;
+        }
+
+        public void something() {
+        }
+    }
+
     static class TestStep {
         @ScenarioStage
         TestSubStep subStep;
@@ -241,6 +462,9 @@ public class ScenarioExecutorTest {
     }
 
     static class DoNotInterceptClass {
+        public void something() {
+        }
+
         public void a_failing_step() {
             assertThat( true ).isFalse();
         }
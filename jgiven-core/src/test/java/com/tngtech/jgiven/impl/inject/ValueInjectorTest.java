@@ -58,6 +58,79 @@ public class ValueInjectorTest {
         assertThat(stageObject.providedExpectedString).isEqualTo("Test");
     }
 
+    @Test
+    public void class_scoped_values_are_shared_between_injectors_of_the_same_class() {
+        injector.setTestClassName("SomeTestClass");
+        ValueInjector otherInjector = new ValueInjector();
+        otherInjector.setTestClassName("SomeTestClass");
+
+        ScopedStage providingStage = new ScopedStage();
+        providingStage.sharedValue = new CloseableValue();
+        injector.readValues(providingStage);
+
+        ScopedStage consumingStage = new ScopedStage();
+        otherInjector.updateValues(consumingStage);
+        assertThat(consumingStage.sharedValue).isSameAs(providingStage.sharedValue);
+
+        ScopedValueStore.closeClassScope("SomeTestClass");
+        assertThat(providingStage.sharedValue.closed).isTrue();
+
+        ScopedStage stageOfNextClass = new ScopedStage();
+        otherInjector.setTestClassName("OtherTestClass");
+        otherInjector.updateValues(stageOfNextClass);
+        assertThat(stageOfNextClass.sharedValue).isNull();
+    }
+
+    @Test
+    public void the_first_value_of_a_scoped_state_is_kept() {
+        injector.setTestClassName("TestClassWithTwoValues");
+
+        ScopedStage stage = new ScopedStage();
+        CloseableValue firstValue = new CloseableValue();
+        stage.sharedValue = firstValue;
+        injector.readValues(stage);
+
+        stage.sharedValue = new CloseableValue();
+        injector.readValues(stage);
+        injector.updateValues(stage);
+
+        assertThat(stage.sharedValue).isSameAs(firstValue);
+        ScopedValueStore.closeClassScope("TestClassWithTwoValues");
+    }
+
+    @Test
+    public void a_closed_class_scope_is_not_revived_until_it_is_opened_again() {
+        injector.setTestClassName("ClosedTestClass");
+        ScopedValueStore.closeClassScope("ClosedTestClass");
+
+        ScopedStage stage = new ScopedStage();
+        stage.sharedValue = new CloseableValue();
+        injector.readValues(stage);
+        injector.updateValues(new ScopedStage());
+        assertThat(ScopedValueStore.findClassStore("ClosedTestClass")).isNull();
+
+        ScopedValueStore.openClassScope("ClosedTestClass");
+        injector.readValues(stage);
+        assertThat(ScopedValueStore.findClassStore("ClosedTestClass").getValueByType(CloseableValue.class))
+            .isSameAs(stage.sharedValue);
+        ScopedValueStore.closeClassScope("ClosedTestClass");
+        assertThat(stage.sharedValue.closed).isTrue();
+    }
+
+    private static class CloseableValue implements AutoCloseable {
+        boolean closed;
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    private static class ScopedStage {
+        @ScenarioState(scope = ScenarioState.Scope.CLASS)
+        CloseableValue sharedValue;
+    }
+
     private class FakeStage {
         @ProvidedScenarioState(guaranteed = true)
         String providedObject;
@@ -0,0 +1,149 @@
+package com.tngtech.jgiven.report.binary;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.collect.Lists;
+import com.google.gson.Gson;
+import com.google.gson.JsonParser;
+import com.tngtech.jgiven.annotation.Table;
+import com.tngtech.jgiven.attachment.Attachment;
+import com.tngtech.jgiven.attachment.MediaType;
+import com.tngtech.jgiven.report.json.ReportModelTypeAdapterFactory;
+import com.tngtech.jgiven.report.json.ScenarioJsonWriter;
+import com.tngtech.jgiven.report.json.SkippableField;
+import com.tngtech.jgiven.report.model.DataTable;
+import com.tngtech.jgiven.report.model.ExecutionStatus;
+import com.tngtech.jgiven.report.model.ReportModel;
+import com.tngtech.jgiven.report.model.ScenarioCaseModel;
+import com.tngtech.jgiven.report.model.ScenarioModel;
+import com.tngtech.jgiven.report.model.StepModel;
+import com.tngtech.jgiven.report.model.StepStatus;
+import com.tngtech.jgiven.report.model.Tag;
+import com.tngtech.jgiven.report.model.Word;
+import java.io.File;
+import java.util.Arrays;
+import java.util.EnumSet;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class BinaryReportModelReaderTest {
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final Gson gson = ReportModelTypeAdapterFactory.gsonBuilder().create();
+
+    @Test
+    public void models_survive_a_round_trip() {
+        ReportModel model = createReportModel();
+        File file = new File( temporaryFolder.getRoot(), "model.jgiven" );
+        new BinaryReportModelWriter( model ).write( file );
+
+        ReportModel readModel = new BinaryReportModelReader().apply( file );
+
+        assertThat( BinaryReportModelReader.isBinaryReport( file ) ).isTrue();
+        assertThat( JsonParser.parseString( gson.toJson( readModel ) ) )
+            .isEqualTo( JsonParser.parseString( gson.toJson( model ) ) );
+    }
+
+    @Test
+    public void binary_files_are_smaller_than_json_files() {
+        ReportModel model = createReportModel();
+        for( int i = 0; i < 20; i++ ) {
+            model.getScenarios().get( 0 ).addCase( createCase( "" + i, ExecutionStatus.SUCCESS ) );
+        }
+        File binaryFile = new File( temporaryFolder.getRoot(), "model.jgiven" );
+        File jsonFile = new File( temporaryFolder.getRoot(), "model.json" );
+        new BinaryReportModelWriter( model ).write( binaryFile );
+        new ScenarioJsonWriter( model ).write( jsonFile );
+
+        assertThat( BinaryReportModelReader.isBinaryReport( jsonFile ) ).isFalse();
+        assertThat( binaryFile.length() * 5 ).isLessThan( jsonFile.length() );
+    }
+
+    @Test
+    public void skipped_fields_are_not_added_to_the_model() {
+        File file = new File( temporaryFolder.getRoot(), "model.jgiven" );
+        new BinaryReportModelWriter( createReportModel() ).write( file );
+
+        ReportModel model = new BinaryReportModelReader( EnumSet.of( SkippableField.ATTACHMENTS,
+            SkippableField.STACK_TRACE, SkippableField.WORDS, SkippableField.NESTED_STEPS ) ).apply( file );
+
+        ScenarioCaseModel failedCase = model.getScenarios().get( 0 ).getCase( 1 );
+        assertThat( failedCase.getErrorMessage() ).isEqualTo( "failed" );
+        assertThat( failedCase.getStackTrace() ).isNull();
+        StepModel step = failedCase.getStep( 1 );
+        assertThat( step.getName() ).isEqualTo( "some_step" );
+        assertThat( step.getWords() ).isEmpty();
+        assertThat( step.getAttachments() ).isEmpty();
+        assertThat( step.getNestedSteps() ).isEmpty();
+        assertThat( step.getComment() ).isEqualTo( "comment" );
+    }
+
+    private ReportModel createReportModel() {
+        ReportModel model = new ReportModel();
+        model.setClassName( "com.example.SomeTest" );
+        model.setName( "Some Test" );
+        model.setDescription( "A description with \u00fcn\u00efc\u00f6d\u00e9" );
+
+        Tag tag = new Tag( "com.example.Issue", "Issue", Arrays.asList( "#1", "#2" ) );
+        tag.setType( "Issue" );
+        tag.setPrependType( true );
+        tag.setShowInNavigation( false );
+        tag.setTags( Arrays.asList( "Category" ) );
+        Tag category = new Tag( "com.example.Category", "value" );
+        category.setType( "Category" );
+        category.setColor( "red" );
+        model.addTag( tag );
+        model.addTag( category );
+
+        ScenarioModel scenario = new ScenarioModel();
+        scenario.setClassName( model.getClassName() );
+        scenario.setTestMethodName( "some_scenario" );
+        scenario.setDescription( "some scenario" );
+        scenario.addTag( tag );
+        scenario.addParameterNames( "param" );
+        scenario.addDerivedParameter( "derived" );
+        scenario.setCasesAsTable( true );
+        scenario.setDurationInNanos( 123456789L );
+        scenario.addCase( createCase( "1", ExecutionStatus.SUCCESS ) );
+        ScenarioCaseModel failedCase = createCase( "2", ExecutionStatus.FAILED );
+        failedCase.setErrorMessage( "failed" );
+        failedCase.setStackTrace( Arrays.asList( "at line 1", "at line 2" ) );
+        scenario.addCase( failedCase );
+        scenario.getExecutionStatus();
+        model.addScenarioModel( scenario );
+        return model;
+    }
+
+    private ScenarioCaseModel createCase( String argument, ExecutionStatus status ) {
+        ScenarioCaseModel scenarioCase = new ScenarioCaseModel();
+        scenarioCase.addExplicitArguments( argument );
+        scenarioCase.addDerivedArguments( argument );
+        scenarioCase.setDurationInNanos( 42 );
+        scenarioCase.setStatus( status );
+
+        StepModel section = new StepModel( "section", Lists.newArrayList( new Word( "Section" ) ) );
+        section.setIsSectionTitle( true );
+        scenarioCase.addStep( section );
+
+        Word argumentWord = Word.argWord( "arg", argument, "formatted " + argument );
+        argumentWord.getArgumentInfo().setParameterName( "param" );
+        StepModel step = new StepModel( "some_step", Lists.newArrayList( Word.introWord( "given" ),
+            new Word( "some step" ), argumentWord ) );
+        step.setComment( "comment" );
+        step.setDurationInNanos( 21 );
+        step.addAttachment( Attachment.fromBinaryBytes( new byte[] { 1, 2, 3 }, MediaType.PNG ).withTitle( "image" ) );
+        step.addAttachment( Attachment.plainText( "some text" ) );
+
+        Word tableWord = Word.argWord( "table", "table", new DataTable( Table.HeaderType.HORIZONTAL,
+            Arrays.asList( Arrays.asList( "a", "b" ), Arrays.asList( "1", null ) ) ) );
+        StepModel nestedStep = new StepModel( "nested_step", Lists.newArrayList( new Word( "nested" ), tableWord ) );
+        nestedStep.setStatus( StepStatus.FAILED );
+        nestedStep.setDepth( 1 );
+        step.addNestedStep( nestedStep );
+        scenarioCase.addStep( step );
+        return scenarioCase;
+    }
+}
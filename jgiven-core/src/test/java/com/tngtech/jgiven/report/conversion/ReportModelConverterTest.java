@@ -0,0 +1,58 @@
+package com.tngtech.jgiven.report.conversion;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.base.Charsets;
+import com.google.common.io.Files;
+import com.google.common.io.MoreFiles;
+import com.google.common.io.RecursiveDeleteOption;
+import com.tngtech.jgiven.attachment.Attachment;
+import com.tngtech.jgiven.report.impl.AttachmentStore;
+import com.tngtech.jgiven.report.json.ScenarioJsonReader;
+import com.tngtech.jgiven.report.json.ScenarioJsonWriter;
+import com.tngtech.jgiven.report.model.AttachmentModel;
+import com.tngtech.jgiven.report.model.ReportModel;
+import com.tngtech.jgiven.report.model.ScenarioCaseModel;
+import com.tngtech.jgiven.report.model.ScenarioModel;
+import com.tngtech.jgiven.report.model.StepModel;
+import java.io.File;
+import java.io.IOException;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ReportModelConverterTest {
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void attachments_are_copied_into_the_target_directory() throws IOException {
+        File sourceDir = temporaryFolder.newFolder( "source" );
+        ReportModel model = new ReportModel();
+        model.setClassName( "Test" );
+        StepModel step = new StepModel();
+        step.addAttachment( Attachment.plainText( "text" ) );
+        ScenarioCaseModel scenarioCase = new ScenarioCaseModel();
+        scenarioCase.addStep( step );
+        ScenarioModel scenario = new ScenarioModel();
+        scenario.setDescription( "scenario" );
+        scenario.addCase( scenarioCase );
+        model.addScenarioModel( scenario );
+        new AttachmentStore( sourceDir ).store( model );
+        new ScenarioJsonWriter( model ).write( new File( sourceDir, "Test.json" ) );
+
+        File targetDir = new File( temporaryFolder.getRoot(), "target" );
+        ReportModelConverterConfig config = new ReportModelConverterConfig();
+        config.setSourceDir( sourceDir );
+        config.setTargetDir( targetDir );
+        new ReportModelConverter().generateWithConfig( config );
+        MoreFiles.deleteRecursively( sourceDir.toPath(), RecursiveDeleteOption.ALLOW_INSECURE );
+
+        ReportModel converted = new ScenarioJsonReader().apply( new File( targetDir, "Test.json" ) );
+        AttachmentModel attachment = converted.getScenarios().get( 0 ).getCase( 0 ).getStep( 0 ).getAttachments().get( 0 );
+        assertThat( attachment.getFilePath() ).isEqualTo( "attachments/" + attachment.getContentHash() );
+        File attachmentFile = new File( targetDir, attachment.getFilePath() );
+        assertThat( Files.toString( attachmentFile, Charsets.UTF_8 ) ).isEqualTo( "text" );
+    }
+}
@@ -0,0 +1,68 @@
+package com.tngtech.jgiven.report.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.tngtech.jgiven.attachment.Attachment;
+import com.tngtech.jgiven.attachment.MediaType;
+import com.tngtech.jgiven.report.model.AttachmentModel;
+import com.tngtech.jgiven.report.model.ReportModel;
+import com.tngtech.jgiven.report.model.ScenarioCaseModel;
+import com.tngtech.jgiven.report.model.ScenarioModel;
+import com.tngtech.jgiven.report.model.StepModel;
+import java.io.File;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class AttachmentStoreTest {
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void identical_attachments_are_stored_once() {
+        StepModel first = new StepModel();
+        first.addAttachment( Attachment.fromBinaryBytes( new byte[] { 1, 2, 3 }, MediaType.PNG ) );
+        StepModel second = new StepModel();
+        second.addAttachment( Attachment.fromBinaryBytes( new byte[] { 1, 2, 3 }, MediaType.PNG ) );
+        second.addAttachment( Attachment.plainText( "text" ) );
+
+        File reportDir = temporaryFolder.getRoot();
+        new AttachmentStore( reportDir ).store( reportModelWithSteps( first, second ) );
+
+        AttachmentModel firstAttachment = first.getAttachments().get( 0 );
+        AttachmentModel secondAttachment = second.getAttachments().get( 0 );
+        assertThat( firstAttachment.getValue() ).isNull();
+        assertThat( firstAttachment.getContentHash() ).isEqualTo( secondAttachment.getContentHash() );
+        assertThat( firstAttachment.getFilePath() ).isEqualTo( "attachments/" + firstAttachment.getContentHash() );
+        assertThat( new File( reportDir, AttachmentStore.DIRECTORY_NAME ).list() ).hasSize( 2 );
+        assertThat( new File( reportDir, firstAttachment.getFilePath() ) ).hasBinaryContent( new byte[] { 1, 2, 3 } );
+    }
+
+    @Test
+    public void stored_attachments_are_resolved_relative_to_the_report_directory() {
+        StepModel step = new StepModel();
+        step.addAttachment( Attachment.plainText( "text" ) );
+        ReportModel model = reportModelWithSteps( step );
+        File reportDir = temporaryFolder.getRoot();
+        new AttachmentStore( reportDir ).store( model );
+
+        new AttachmentStore( reportDir ).resolve( model );
+
+        File file = new File( step.getAttachments().get( 0 ).getFilePath() );
+        assertThat( file ).isAbsolute().hasContent( "text" );
+    }
+
+    private ReportModel reportModelWithSteps( StepModel... steps ) {
+        ScenarioCaseModel scenarioCase = new ScenarioCaseModel();
+        for( StepModel step : steps ) {
+            scenarioCase.addStep( step );
+        }
+        ScenarioModel scenario = new ScenarioModel();
+        scenario.setDescription( "scenario" );
+        scenario.addCase( scenarioCase );
+        ReportModel model = new ReportModel();
+        model.addScenarioModel( scenario );
+        return model;
+    }
+}
@@ -0,0 +1,83 @@
+package com.tngtech.jgiven.report.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.tngtech.jgiven.attachment.Attachment;
+import com.tngtech.jgiven.attachment.MediaType;
+import com.tngtech.jgiven.report.model.AttachmentModel;
+import com.tngtech.jgiven.report.model.ReportModel;
+import com.tngtech.jgiven.report.model.ScenarioCaseModel;
+import com.tngtech.jgiven.report.model.ScenarioModel;
+import com.tngtech.jgiven.report.model.StepModel;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+public class PendingAttachmentResolverTest {
+
+    @Test
+    public void pending_attachments_are_resolved() {
+        StepModel step = new StepModel();
+        CompletableFuture<Attachment> future = new CompletableFuture<>();
+        step.addAttachment( future );
+        ReportModel model = reportModelWithStep( step );
+
+        assertThat( step.getAttachments().get( 0 ).isPending() ).isTrue();
+
+        future.complete( Attachment.fromText( "content", MediaType.PLAIN_TEXT_UTF_8 ).withTitle( "title" ) );
+        new PendingAttachmentResolver().resolve( model );
+
+        AttachmentModel attachment = step.getAttachments().get( 0 );
+        assertThat( attachment.isPending() ).isFalse();
+        assertThat( attachment.getValue() ).isEqualTo( "content" );
+        assertThat( attachment.getTitle() ).isEqualTo( "title" );
+    }
+
+    @Test
+    public void attachments_that_could_not_be_created_are_removed() {
+        StepModel step = new StepModel();
+        CompletableFuture<Attachment> future = new CompletableFuture<>();
+        future.completeExceptionally( new IllegalStateException( "no screenshot" ) );
+        step.addAttachment( future );
+        step.addAttachment( Attachment.fromText( "content", MediaType.PLAIN_TEXT_UTF_8 ) );
+
+        new PendingAttachmentResolver().resolve( reportModelWithStep( step ) );
+
+        assertThat( step.getAttachments() ).hasSize( 1 );
+        assertThat( step.getAttachments().get( 0 ).getValue() ).isEqualTo( "content" );
+    }
+
+    @Test
+    public void cancelled_attachments_are_removed() {
+        StepModel step = new StepModel();
+        CompletableFuture<Attachment> future = new CompletableFuture<>();
+        future.cancel( true );
+        step.addAttachment( future );
+
+        new PendingAttachmentResolver().resolve( reportModelWithStep( step ) );
+
+        assertThat( step.getAttachments() ).isEmpty();
+    }
+
+    @Test
+    public void attachments_that_are_not_created_in_time_are_removed() {
+        StepModel step = new StepModel();
+        step.addAttachment( new CompletableFuture<>() );
+        step.addAttachment( new CompletableFuture<>() );
+
+        new PendingAttachmentResolver( 10, TimeUnit.MILLISECONDS ).resolve( reportModelWithStep( step ) );
+
+        assertThat( step.getAttachments() ).isEmpty();
+    }
+
+    private ReportModel reportModelWithStep( StepModel step ) {
+        ScenarioCaseModel scenarioCase = new ScenarioCaseModel();
+        scenarioCase.addStep( step );
+        ScenarioModel scenario = new ScenarioModel();
+        scenario.setDescription( "scenario" );
+        scenario.addCase( scenarioCase );
+        ReportModel model = new ReportModel();
+        model.addScenarioModel( scenario );
+        return model;
+    }
+}
@@ -0,0 +1,54 @@
+package com.tngtech.jgiven.report.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.tngtech.jgiven.impl.util.FileUtil;
+import com.tngtech.jgiven.report.json.ScenarioJsonReader;
+import com.tngtech.jgiven.report.model.ReportModel;
+import com.tngtech.jgiven.report.model.ReportModelFileFormat;
+import com.tngtech.jgiven.report.model.ScenarioModel;
+import java.io.File;
+import java.io.IOException;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ReportModelFileWriterTest {
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void the_hash_of_the_written_file_is_returned() throws IOException {
+        for( ReportModelFileFormat format : ReportModelFileFormat.values() ) {
+            for( String extension : new String[] { format.fileExtension(),
+                format.fileExtension() + ReportModelFileFormat.COMPRESSED_EXTENSION } ) {
+                File file = new File( temporaryFolder.getRoot(), "Test" + extension );
+
+                String hash = ReportModelFileWriter.write( createModel(), file, format );
+
+                assertThat( hash ).isEqualTo( FileUtil.sha256( file ) );
+            }
+        }
+    }
+
+    @Test
+    public void the_model_is_written_completely() {
+        File file = new File( temporaryFolder.getRoot(), "Test.json.gz" );
+
+        ReportModelFileWriter.write( createModel(), file, ReportModelFileFormat.JSON );
+
+        ReportModel model = new ScenarioJsonReader().apply( file );
+        assertThat( model.getClassName() ).isEqualTo( "Test" );
+        assertThat( model.getScenarios() ).hasSize( 1 );
+    }
+
+    private static ReportModel createModel() {
+        ReportModel model = new ReportModel();
+        model.setClassName( "Test" );
+        ScenarioModel scenario = new ScenarioModel();
+        scenario.setDescription( "scenario" );
+        model.addScenarioModel( scenario );
+        return model;
+    }
+}
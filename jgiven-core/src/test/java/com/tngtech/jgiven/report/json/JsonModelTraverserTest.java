@@ -0,0 +1,188 @@
+package com.tngtech.jgiven.report.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.base.Charsets;
+import com.google.common.io.Files;
+import com.tngtech.jgiven.report.binary.BinaryReportModelReader;
+import com.tngtech.jgiven.report.binary.BinaryReportModelWriter;
+import com.tngtech.jgiven.attachment.Attachment;
+import com.tngtech.jgiven.report.impl.AttachmentStore;
+import com.tngtech.jgiven.report.model.AttachmentModel;
+import com.tngtech.jgiven.report.model.ReportModel;
+import com.tngtech.jgiven.report.model.ReportModelFile;
+import com.tngtech.jgiven.report.model.ScenarioCaseModel;
+import com.tngtech.jgiven.report.model.ScenarioModel;
+import com.tngtech.jgiven.report.model.StepModel;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class JsonModelTraverserTest {
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void models_are_handled_in_the_order_of_their_files_independent_of_the_number_of_threads() throws IOException {
+        File sourceDir = temporaryFolder.getRoot();
+        List<String> expectedClassNames = new ArrayList<>();
+        for( int i = 0; i < 50; i++ ) {
+            String className = String.format( "Test%02d", i );
+            writeModel( new File( sourceDir, className + ".json" ), className );
+            expectedClassNames.add( className );
+        }
+
+        assertThat( readClassNames( sourceDir, 1 ) ).containsExactlyElementsOf( expectedClassNames );
+        assertThat( readClassNames( sourceDir, 8 ) ).containsExactlyElementsOf( expectedClassNames );
+    }
+
+    @Test
+    public void errors_of_parallel_reads_are_propagated() throws IOException {
+        File sourceDir = temporaryFolder.getRoot();
+        writeModel( new File( sourceDir, "a.json" ), "A" );
+        Files.write( "no json", new File( sourceDir, "b.json" ), Charsets.UTF_8 );
+
+        assertThatThrownBy( () -> readClassNames( sourceDir, 4 ) )
+            .isInstanceOf( ScenarioJsonReader.JsonReaderException.class );
+    }
+
+    @Test
+    public void the_format_of_each_file_is_detected() {
+        File sourceDir = temporaryFolder.getRoot();
+        writeModel( new File( sourceDir, "a.json" ), "A" );
+        writeBinaryModel( new File( sourceDir, "b.jgiven" ), "B" );
+        writeBinaryModel( new File( sourceDir, "c.json" ), "C" );
+        writeBinaryModel( new File( sourceDir, "d.txt" ), "D" );
+
+        assertThat( readClassNames( sourceDir, 2 ) ).containsExactly( "A", "B", "C" );
+    }
+
+    @Test
+    public void compressed_files_are_read() {
+        File sourceDir = temporaryFolder.getRoot();
+        writeModel( new File( sourceDir, "a.json.gz" ), "A" );
+        writeBinaryModel( new File( sourceDir, "b.jgiven.gz" ), "B" );
+        writeModel( new File( sourceDir, "c.json" ), "C" );
+
+        assertThat( readClassNames( sourceDir, 2 ) ).containsExactly( "A", "B", "C" );
+        assertThat( BinaryReportModelReader.isBinaryReport( new File( sourceDir, "b.jgiven.gz" ) ) ).isTrue();
+    }
+
+    @Test
+    public void files_in_zip_archives_are_read_without_extracting_them() throws IOException {
+        File shards = temporaryFolder.newFolder( "shards" );
+        File modelDir = temporaryFolder.newFolder( "models" );
+        writeModel( new File( modelDir, "a.json" ), "A" );
+        writeBinaryModel( new File( modelDir, "b.jgiven.gz" ), "B" );
+        writeModel( new File( modelDir, "c.json" ), "C" );
+        zip( new File( shards, "shard1.zip" ), new File( modelDir, "a.json" ), new File( modelDir, "b.jgiven.gz" ) );
+        zip( new File( shards, "shard2.zip" ), new File( modelDir, "c.json" ) );
+        writeModel( new File( shards, "d.json" ), "D" );
+
+        assertThat( readClassNames( shards, 2 ) ).containsExactly( "D", "A", "B", "C" );
+        assertThat( readClassNames( new File( shards, "shard1.zip" ), 1 ) ).containsExactly( "A", "B" );
+
+        List<File> files = new ArrayList<>();
+        new JsonModelTraverser( 1 ).traverseModels( shards, modelFile -> files.add( modelFile.file() ) );
+        assertThat( files.get( 1 ) ).isEqualTo( new File( new File( shards, "shard1.zip" ), "reports/a.json" ) );
+    }
+
+    @Test
+    public void stored_attachments_of_reports_in_zip_archives_are_copied_out_of_the_archive() throws IOException {
+        File modelDir = temporaryFolder.newFolder( "models" );
+        StepModel step = new StepModel();
+        step.addAttachment( Attachment.plainText( "text" ) );
+        ReportModel model = reportModelWithStep( "A", step );
+        new AttachmentStore( modelDir ).store( model );
+        new ScenarioJsonWriter( model ).write( new File( modelDir, "a.json" ) );
+        File attachmentFile = new File( modelDir, step.getAttachments().get( 0 ).getFilePath() );
+        File zipFile = new File( temporaryFolder.getRoot(), "shard.zip" );
+        zip( zipFile, new File( modelDir, "a.json" ) );
+        addToZip( zipFile, "reports/" + AttachmentStore.DIRECTORY_NAME + "/" + attachmentFile.getName(), attachmentFile );
+
+        List<ReportModel> models = new ArrayList<>();
+        new JsonModelTraverser( 1 ).traverseModels( zipFile, modelFile -> models.add( modelFile.model() ) );
+
+        StepModel readStep = models.get( 0 ).getScenarios().get( 0 ).getCase( 0 ).getStep( 0 );
+        AttachmentModel attachment = readStep.getAttachments().get( 0 );
+        File copiedFile = new File( attachment.getFilePath() );
+        assertThat( copiedFile.isAbsolute() ).isTrue();
+        assertThat( Files.toString( copiedFile, Charsets.UTF_8 ) ).isEqualTo( "text" );
+    }
+
+    @Test
+    public void missing_attachments_of_reports_in_zip_archives_are_reported() throws IOException {
+        File modelDir = temporaryFolder.newFolder( "models" );
+        StepModel step = new StepModel();
+        step.addAttachment( Attachment.plainText( "missing" ) );
+        ReportModel model = reportModelWithStep( "A", step );
+        new AttachmentStore( modelDir ).store( model );
+        new ScenarioJsonWriter( model ).write( new File( modelDir, "a.json" ) );
+        File zipFile = new File( temporaryFolder.getRoot(), "shard.zip" );
+        zip( zipFile, new File( modelDir, "a.json" ) );
+
+        assertThatThrownBy( () -> readClassNames( zipFile, 1 ) )
+            .isInstanceOf( ScenarioJsonReader.JsonReaderException.class );
+    }
+
+    private ReportModel reportModelWithStep( String className, StepModel step ) {
+        ScenarioCaseModel scenarioCase = new ScenarioCaseModel();
+        scenarioCase.addStep( step );
+        ScenarioModel scenario = new ScenarioModel();
+        scenario.setDescription( "scenario" );
+        scenario.addCase( scenarioCase );
+        ReportModel model = new ReportModel();
+        model.setClassName( className );
+        model.addScenarioModel( scenario );
+        return model;
+    }
+
+    private void addToZip( File zipFile, String entryName, File file ) throws IOException {
+        try( FileSystem archive = FileSystems.newFileSystem( zipFile.toPath(), (ClassLoader) null ) ) {
+            Path target = archive.getPath( entryName );
+            java.nio.file.Files.createDirectories( target.getParent() );
+            java.nio.file.Files.copy( file.toPath(), target );
+        }
+    }
+
+    private void zip( File zipFile, File... files ) throws IOException {
+        try( ZipOutputStream out = new ZipOutputStream( new FileOutputStream( zipFile ) ) ) {
+            for( File file : files ) {
+                out.putNextEntry( new ZipEntry( "reports/" + file.getName() ) );
+                Files.copy( file, out );
+                out.closeEntry();
+            }
+        }
+    }
+
+    private List<String> readClassNames( File sourceDir, int threads ) {
+        List<String> classNames = new ArrayList<>();
+        new JsonModelTraverser( threads ).traverseModels( sourceDir,
+            ( ReportModelFile modelFile ) -> classNames.add( modelFile.model().getClassName() ) );
+        return classNames;
+    }
+
+    private void writeModel( File file, String className ) {
+        ReportModel model = new ReportModel();
+        model.setClassName( className );
+        new ScenarioJsonWriter( model ).write( file );
+    }
+
+    private void writeBinaryModel( File file, String className ) {
+        ReportModel model = new ReportModel();
+        model.setClassName( className );
+        new BinaryReportModelWriter( model ).write( file );
+    }
+}
@@ -0,0 +1,134 @@
+package com.tngtech.jgiven.report.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.collect.Lists;
+import com.google.gson.Gson;
+import com.google.gson.JsonParser;
+import com.tngtech.jgiven.annotation.Table;
+import com.tngtech.jgiven.attachment.Attachment;
+import com.tngtech.jgiven.attachment.MediaType;
+import com.tngtech.jgiven.report.model.DataTable;
+import com.tngtech.jgiven.report.model.ExecutionStatus;
+import com.tngtech.jgiven.report.model.ReportModel;
+import com.tngtech.jgiven.report.model.ScenarioCaseModel;
+import com.tngtech.jgiven.report.model.ScenarioModel;
+import com.tngtech.jgiven.report.model.StepModel;
+import com.tngtech.jgiven.report.model.StepStatus;
+import com.tngtech.jgiven.report.model.Tag;
+import com.tngtech.jgiven.report.model.Word;
+import java.util.Arrays;
+import org.junit.Test;
+
+public class ReportModelTypeAdapterFactoryTest {
+
+    private final Gson reflectiveGson = new Gson();
+    private final Gson gson = ReportModelTypeAdapterFactory.gsonBuilder().create();
+
+    @Test
+    public void the_adapters_write_the_same_json_as_the_reflective_adapters() {
+        ReportModel model = createReportModel();
+
+        assertThat( JsonParser.parseString( gson.toJson( model ) ) )
+            .isEqualTo( JsonParser.parseString( reflectiveGson.toJson( model ) ) );
+    }
+
+    @Test
+    public void files_written_by_the_reflective_adapters_survive_a_round_trip() {
+        String existingJson = reflectiveGson.toJson( createReportModel() );
+
+        ReportModel model = gson.fromJson( existingJson, ReportModel.class );
+
+        assertThat( JsonParser.parseString( gson.toJson( model ) ) )
+            .isEqualTo( JsonParser.parseString( existingJson ) );
+        assertThat( JsonParser.parseString( reflectiveGson.toJson( model ) ) )
+            .isEqualTo( JsonParser.parseString( existingJson ) );
+    }
+
+    @Test
+    public void unknown_fields_and_null_values_are_ignored() {
+        String json = "{ 'className': 'Test', 'unknown': { 'a': [1, 2] }, 'description': null,"
+            + " 'scenarios': [ { 'executionStatus': 'FAILED', 'scenarioCases': [ { 'caseNr': 3 } ] } ] }";
+        ReportModel model = gson.fromJson( json.replace( '\'', '"' ), ReportModel.class );
+
+        assertThat( model.getClassName() ).isEqualTo( "Test" );
+        assertThat( model.getDescription() ).isNull();
+        assertThat( model.getScenarios().get( 0 ).getExecutionStatus() ).isEqualTo( ExecutionStatus.FAILED );
+        assertThat( model.getScenarios().get( 0 ).getCase( 0 ).getCaseNr() ).isEqualTo( 3 );
+    }
+
+    private ReportModel createReportModel() {
+        ReportModel model = new ReportModel();
+        model.setClassName( "com.example.SomeTest" );
+        model.setName( "Some Test" );
+        model.setDescription( "A <description> with \"quotes\"" );
+
+        Tag tag = new Tag( "com.example.Issue", "Issue", Arrays.asList( "#1", "#2" ) );
+        tag.setType( "Issue" );
+        tag.setPrependType( true );
+        tag.setShowInNavigation( false );
+        tag.setTags( Arrays.asList( "Category" ) );
+        tag.setHref( "https://example.com" );
+        Tag category = new Tag( "com.example.Category", "value" );
+        category.setType( "Category" );
+        category.setColor( "red" );
+        category.setCssClass( "category" );
+        category.setStyle( "bold" );
+        category.setDescription( "Some category" );
+        model.addTag( tag );
+        model.addTag( category );
+
+        ScenarioModel scenario = new ScenarioModel();
+        scenario.setClassName( model.getClassName() );
+        scenario.setTestMethodName( "some_scenario" );
+        scenario.setDescription( "some scenario" );
+        scenario.setExtendedDescription( "extended" );
+        scenario.addTag( tag );
+        scenario.addParameterNames( "param" );
+        scenario.addDerivedParameter( "derived" );
+        scenario.setCasesAsTable( true );
+        scenario.setDurationInNanos( 123456789L );
+        scenario.addCase( createCase( "1", ExecutionStatus.SUCCESS ) );
+        ScenarioCaseModel failedCase = createCase( "2", ExecutionStatus.FAILED );
+        failedCase.setErrorMessage( "failed" );
+        failedCase.setStackTrace( Arrays.asList( "at line 1", "at line 2" ) );
+        failedCase.setDescription( "second case" );
+        scenario.addCase( failedCase );
+        scenario.getExecutionStatus();
+        model.addScenarioModel( scenario );
+        return model;
+    }
+
+    private ScenarioCaseModel createCase( String argument, ExecutionStatus status ) {
+        ScenarioCaseModel scenarioCase = new ScenarioCaseModel();
+        scenarioCase.addExplicitArguments( argument );
+        scenarioCase.addDerivedArguments( argument );
+        scenarioCase.setDurationInNanos( 42 );
+        scenarioCase.setStatus( status );
+
+        StepModel section = new StepModel( "section", Lists.newArrayList( new Word( "Section" ) ) );
+        section.setIsSectionTitle( true );
+        scenarioCase.addStep( section );
+
+        Word argumentWord = Word.argWord( "arg", argument, "formatted " + argument );
+        argumentWord.getArgumentInfo().setParameterName( "param" );
+        argumentWord.setIsDifferent( true );
+        StepModel step = new StepModel( "some_step", Lists.newArrayList( Word.introWord( "given" ),
+            new Word( "some step" ), argumentWord ) );
+        step.setComment( "comment" );
+        step.setExtendedDescription( "step description" );
+        step.setDurationInNanos( 21 );
+        step.setMemoized( true );
+        step.addAttachment( Attachment.fromBinaryBytes( new byte[] { 1, 2, 3 }, MediaType.PNG ).withTitle( "title" ).showDirectly() );
+
+        Word tableWord = Word.argWord( "table", "table", new DataTable( Table.HeaderType.HORIZONTAL,
+            Arrays.asList( Arrays.asList( "a", "b" ), Arrays.asList( "1", null ) ) ) );
+        StepModel nestedStep = new StepModel( "nested_step", Lists.newArrayList( new Word( "nested" ), tableWord ) );
+        nestedStep.setStatus( StepStatus.FAILED );
+        nestedStep.setDepth( 1 );
+        nestedStep.setParentFailed( true );
+        step.addNestedStep( nestedStep );
+        scenarioCase.addStep( step );
+        return scenarioCase;
+    }
+}
@@ -0,0 +1,121 @@
+package com.tngtech.jgiven.report.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.collect.Lists;
+import com.tngtech.jgiven.attachment.Attachment;
+import com.tngtech.jgiven.report.model.ReportModel;
+import com.tngtech.jgiven.report.model.ScenarioCaseModel;
+import com.tngtech.jgiven.report.model.ScenarioModel;
+import com.tngtech.jgiven.report.model.StepModel;
+import com.tngtech.jgiven.report.model.Tag;
+import com.tngtech.jgiven.report.model.Word;
+import java.io.File;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ScenarioJsonReaderTest {
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void repeating_strings_of_different_files_are_deduplicated() {
+        ReportModel first = readModel( "first.json" );
+        ReportModel second = readModel( "second.json" );
+
+        assertThat( second.getClassName() ).isSameAs( first.getClassName() );
+        ScenarioModel firstScenario = first.getScenarios().get( 0 );
+        ScenarioModel secondScenario = second.getScenarios().get( 0 );
+        assertThat( secondScenario.getTagIds().get( 0 ) ).isSameAs( firstScenario.getTagIds().get( 0 ) );
+        assertThat( second.getTagMap().keySet().iterator().next() ).isSameAs( firstScenario.getTagIds().get( 0 ) );
+
+        StepModel firstStep = firstScenario.getCase( 0 ).getStep( 0 );
+        StepModel secondStep = secondScenario.getCase( 0 ).getStep( 0 );
+        assertThat( secondStep.getName() ).isSameAs( firstStep.getName() );
+        assertThat( secondStep.getWord( 0 ).getValue() ).isSameAs( firstStep.getWord( 0 ).getValue() );
+        assertThat( secondStep.getWord( 1 ).getArgumentInfo().getArgumentName() )
+            .isSameAs( firstStep.getWord( 1 ).getArgumentInfo().getArgumentName() );
+    }
+
+    @Test
+    public void skipped_fields_are_not_read() {
+        File file = new File( temporaryFolder.getRoot(), "model.json" );
+        ReportModel model = createReportModel();
+        ScenarioCaseModel scenarioCase = model.getScenarios().get( 0 ).getCase( 0 );
+        scenarioCase.setStackTrace( Arrays.asList( "at line 1" ) );
+        StepModel step = scenarioCase.getStep( 0 );
+        step.addAttachment( Attachment.plainText( "attachment" ) );
+        step.addNestedStep( new StepModel( "nested_step", Lists.newArrayList( new Word( "nested" ) ) ) );
+        new ScenarioJsonWriter( model ).write( file );
+
+        ReportModel projection = new ScenarioJsonReader( EnumSet.of( SkippableField.ATTACHMENTS,
+            SkippableField.STACK_TRACE, SkippableField.WORDS ) ).apply( file );
+
+        ScenarioCaseModel readCase = projection.getScenarios().get( 0 ).getCase( 0 );
+        assertThat( readCase.getStackTrace() ).isNull();
+        StepModel readStep = readCase.getStep( 0 );
+        assertThat( readStep.getName() ).isEqualTo( "some_step" );
+        assertThat( readStep.getWords() ).isEmpty();
+        assertThat( readStep.getAttachments() ).isEmpty();
+        assertThat( readStep.getNestedSteps() ).hasSize( 1 );
+
+        ReportModel withoutNestedSteps = new ScenarioJsonReader( EnumSet.of( SkippableField.NESTED_STEPS ) ).apply( file );
+        StepModel stepWithoutNestedSteps = withoutNestedSteps.getScenarios().get( 0 ).getCase( 0 ).getStep( 0 );
+        assertThat( stepWithoutNestedSteps.getNestedSteps() ).isEmpty();
+        assertThat( stepWithoutNestedSteps.getWords() ).hasSize( 2 );
+        assertThat( stepWithoutNestedSteps.getAttachments() ).hasSize( 1 );
+    }
+
+    @Test
+    public void scenarios_can_be_read_one_by_one() {
+        File file = new File( temporaryFolder.getRoot(), "model.json" );
+        ReportModel model = createReportModel();
+        ScenarioModel secondScenario = new ScenarioModel();
+        secondScenario.setClassName( model.getClassName() );
+        secondScenario.setDescription( "second scenario" );
+        model.addScenarioModel( secondScenario );
+        new ScenarioJsonWriter( model ).write( file );
+
+        List<ScenarioModel> scenarios = Lists.newArrayList();
+        ReportModel readModel = new ScenarioJsonReader().readScenarios( file, ( reportModel, scenario ) -> {
+            assertThat( reportModel.getClassName() ).isEqualTo( "com.example.SomeTest" );
+            assertThat( reportModel.getScenarios() ).isEmpty();
+            assertThat( reportModel.getTagMap() ).hasSize( 1 );
+            scenarios.add( scenario );
+        } );
+
+        assertThat( readModel.getScenarios() ).isEmpty();
+        assertThat( scenarios ).hasSize( 2 );
+        assertThat( scenarios.get( 0 ).getCase( 0 ).getStep( 0 ).getName() ).isEqualTo( "some_step" );
+        assertThat( scenarios.get( 1 ).getDescription() ).isEqualTo( "second scenario" );
+    }
+
+    private ReportModel readModel( String fileName ) {
+        File file = new File( temporaryFolder.getRoot(), fileName );
+        new ScenarioJsonWriter( createReportModel() ).write( file );
+        return new ScenarioJsonReader().apply( file );
+    }
+
+    private ReportModel createReportModel() {
+        ReportModel model = new ReportModel();
+        model.setClassName( "com.example.SomeTest" );
+        Tag tag = new Tag( "com.example.Issue", "#1" );
+        model.addTag( tag );
+
+        StepModel step = new StepModel( "some_step",
+            Lists.newArrayList( Word.introWord( "given" ), Word.argWord( "arg", "1", "1" ) ) );
+        ScenarioCaseModel scenarioCase = new ScenarioCaseModel();
+        scenarioCase.addStep( step );
+        ScenarioModel scenario = new ScenarioModel();
+        scenario.setClassName( model.getClassName() );
+        scenario.addTag( tag );
+        scenario.addCase( scenarioCase );
+        model.addScenarioModel( scenario );
+        return model;
+    }
+}
@@ -0,0 +1,102 @@
+package com.tngtech.jgiven.report.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.collect.Lists;
+import com.tngtech.jgiven.report.AbstractReportConfig;
+import com.tngtech.jgiven.report.asciidoc.AsciiDocReportConfig;
+import com.tngtech.jgiven.report.model.CompleteReportModel;
+import com.tngtech.jgiven.report.model.ExecutionStatus;
+import com.tngtech.jgiven.report.model.ReportModel;
+import com.tngtech.jgiven.report.model.ReportModelFile;
+import com.tngtech.jgiven.report.model.ScenarioCaseModel;
+import com.tngtech.jgiven.report.model.ScenarioModel;
+import com.tngtech.jgiven.report.model.StepModel;
+import com.tngtech.jgiven.report.model.Tag;
+import com.tngtech.jgiven.report.model.Word;
+import java.io.File;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class StreamingReportModelTest {
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private AbstractReportConfig config;
+
+    @Before
+    public void writeReportFiles() {
+        File sourceDir = temporaryFolder.getRoot();
+        writeModel( new File( sourceDir, "a.json" ), "com.example.A", ExecutionStatus.SUCCESS );
+        writeModel( new File( sourceDir, "b.json" ), "com.example.B", ExecutionStatus.FAILED );
+        writeModel( new File( sourceDir, "c.json" ), "com.example.C", ExecutionStatus.SCENARIO_PENDING );
+
+        config = new AsciiDocReportConfig();
+        config.setSourceDir( sourceDir );
+    }
+
+    @Test
+    public void the_summary_is_the_same_as_the_one_of_the_complete_model() {
+        CompleteReportModel complete = new ReportModelReader( config ).readDirectory();
+        config.setStreaming( true );
+        CompleteReportModel streaming = config.getReportModel();
+
+        assertThat( streaming ).isInstanceOf( StreamingReportModel.class );
+        assertThat( streaming.getTotalStatistics().numScenarios ).isEqualTo( complete.getTotalStatistics().numScenarios );
+        assertThat( streaming.getTotalStatistics().numSteps ).isEqualTo( complete.getTotalStatistics().numSteps );
+        assertThat( streaming.getFailedScenarios() ).hasSize( 1 );
+        assertThat( streaming.getPendingScenarios() ).hasSize( 1 );
+        assertThat( streaming.getAllScenarios() ).hasSize( 3 );
+        assertThat( streaming.getAllTags() ).isEqualTo( complete.getAllTags() );
+        assertThat( streaming.getTagIdMap().keySet() ).isEqualTo( complete.getTagIdMap().keySet() );
+    }
+
+    @Test
+    public void only_summaries_of_the_scenarios_are_kept() {
+        CompleteReportModel streaming = new ReportModelReader( config ).readDirectoryStreaming();
+
+        ScenarioModel failedScenario = streaming.getFailedScenarios().get( 0 );
+        assertThat( failedScenario.getClassName() ).isEqualTo( "com.example.B" );
+        assertThat( failedScenario.getScenarioCases() ).isEmpty();
+        assertThat( failedScenario.getExecutionStatus() ).isEqualTo( ExecutionStatus.FAILED );
+    }
+
+    @Test
+    public void the_complete_models_are_read_again_for_each_pass() {
+        CompleteReportModel streaming = new ReportModelReader( config ).readDirectoryStreaming();
+
+        List<ReportModelFile> firstPass = Lists.newArrayList();
+        streaming.forEachReportModel( firstPass::add );
+        List<ReportModelFile> secondPass = Lists.newArrayList();
+        streaming.forEachReportModel( secondPass::add );
+
+        assertThat( firstPass ).hasSize( 3 );
+        assertThat( firstPass.get( 1 ).model().getClassName() ).isEqualTo( "com.example.B" );
+        assertThat( firstPass.get( 1 ).model().getScenarios().get( 0 ).getScenarioCases() ).hasSize( 1 );
+        assertThat( secondPass.get( 1 ).model() ).isNotSameAs( firstPass.get( 1 ).model() );
+        assertThat( streaming.getStatistics( secondPass.get( 1 ) ).numFailedScenarios ).isEqualTo( 1 );
+    }
+
+    private void writeModel( File file, String className, ExecutionStatus status ) {
+        ReportModel model = new ReportModel();
+        model.setClassName( className );
+        Tag tag = new Tag( "com.example.Story", className );
+        model.addTag( tag );
+
+        ScenarioCaseModel scenarioCase = new ScenarioCaseModel();
+        scenarioCase.addStep( new StepModel( "some_step", Lists.newArrayList( new Word( "step" ) ) ) );
+        scenarioCase.setStatus( status );
+        ScenarioModel scenario = new ScenarioModel();
+        scenario.setClassName( className );
+        scenario.setDescription( "scenario" );
+        scenario.addTag( tag );
+        scenario.addCase( scenarioCase );
+        model.addScenarioModel( scenario );
+
+        new ScenarioJsonWriter( model ).write( file );
+    }
+}
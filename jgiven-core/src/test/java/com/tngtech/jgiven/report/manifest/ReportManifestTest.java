@@ -0,0 +1,130 @@
+package com.tngtech.jgiven.report.manifest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.base.Charsets;
+import com.google.common.io.Files;
+import com.tngtech.jgiven.report.asciidoc.AsciiDocReportConfig;
+import com.tngtech.jgiven.report.json.ReportModelReader;
+import com.tngtech.jgiven.report.json.ScenarioJsonWriter;
+import com.tngtech.jgiven.report.model.ExecutionStatus;
+import com.tngtech.jgiven.report.model.ReportModel;
+import com.tngtech.jgiven.report.model.ReportStatistics;
+import com.tngtech.jgiven.report.model.ScenarioCaseModel;
+import com.tngtech.jgiven.report.model.ScenarioModel;
+import com.tngtech.jgiven.report.model.Tag;
+import java.io.File;
+import java.io.IOException;
+import java.util.Optional;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ReportManifestTest {
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void statistics_and_tags_are_read_from_the_manifest() throws IOException {
+        File reportDir = temporaryFolder.getRoot();
+        writeReport( reportDir, createModel( "A", "tag1", ExecutionStatus.SUCCESS, ExecutionStatus.FAILED ) );
+        writeReport( reportDir, createModel( "B", "tag2", ExecutionStatus.SUCCESS ) );
+        // the report of A is written again, e.g. by a second test run
+        writeReport( reportDir, createModel( "A", "tag1", ExecutionStatus.SUCCESS ) );
+
+        ReportManifest manifest = readManifest( reportDir ).get();
+
+        assertThat( manifest.getEntries() ).hasSize( 2 );
+        ReportManifestEntry entry = manifest.getEntry( new File( reportDir, "A.json" ) ).get();
+        assertThat( entry.getClassName() ).isEqualTo( "A" );
+        assertThat( entry.getContentHash() ).hasSize( 64 );
+        assertThat( entry.getTagIds() ).containsExactly( "tag1" );
+
+        ReportStatistics statistics = manifest.getTotalStatistics();
+        assertThat( statistics.numClasses ).isEqualTo( 2 );
+        assertThat( statistics.numScenarios ).isEqualTo( 2 );
+        assertThat( statistics.numCases ).isEqualTo( 2 );
+        assertThat( statistics.numFailedScenarios ).isEqualTo( 0 );
+        assertThat( manifest.getEntriesByTagId().get( "tag2" ) ).hasSize( 1 );
+    }
+
+    @Test
+    public void outdated_manifests_are_ignored() throws IOException {
+        File reportDir = temporaryFolder.getRoot();
+        writeReport( reportDir, createModel( "A", "tag1", ExecutionStatus.SUCCESS ) );
+        assertThat( readManifest( reportDir ).isPresent() ).isTrue();
+
+        new ScenarioJsonWriter( createModel( "B", "tag1", ExecutionStatus.SUCCESS ) )
+            .write( new File( reportDir, "B.json" ) );
+        assertThat( readManifest( reportDir ).isPresent() ).isFalse();
+
+        writeReport( reportDir, createModel( "B", "tag1", ExecutionStatus.SUCCESS ) );
+        Files.append( "{\"file\":\"B.json\"", new File( reportDir, ReportManifest.FILE_NAME ), Charsets.UTF_8 );
+        assertThat( readManifest( reportDir ).isPresent() ).isTrue();
+
+        Files.write( "{}", new File( reportDir, "B.json" ), Charsets.UTF_8 );
+        assertThat( readManifest( reportDir ).isPresent() ).isFalse();
+    }
+
+    @Test
+    public void manifests_of_previous_runs_are_compacted() throws IOException {
+        File previousDir = temporaryFolder.newFolder( "previous" );
+        writeReport( previousDir, createModel( "A", "tag1", ExecutionStatus.SUCCESS ) );
+        String previousLine = Files.toString( new File( previousDir, ReportManifest.FILE_NAME ), Charsets.UTF_8 );
+
+        File reportDir = temporaryFolder.newFolder( "report" );
+        File previousFile = new File( previousDir, "A.json" );
+        File file = new File( reportDir, "A.json" );
+        Files.copy( previousFile, file );
+        assertThat( file.setLastModified( previousFile.lastModified() ) ).isTrue();
+        String missingLine = previousLine.replace( "A.json", "C.json" );
+        Files.write( previousLine + missingLine + previousLine + previousLine,
+            new File( reportDir, ReportManifest.FILE_NAME ), Charsets.UTF_8 );
+
+        writeReport( reportDir, createModel( "B", "tag2", ExecutionStatus.SUCCESS ) );
+
+        assertThat( Files.readLines( new File( reportDir, ReportManifest.FILE_NAME ), Charsets.UTF_8 ) ).hasSize( 2 );
+        assertThat( readManifest( reportDir ).get().getEntries() ).hasSize( 2 );
+    }
+
+    @Test
+    public void manifests_of_modified_report_files_are_ignored() throws IOException {
+        File reportDir = temporaryFolder.getRoot();
+        writeReport( reportDir, createModel( "A", "tag1", ExecutionStatus.SUCCESS ) );
+        assertThat( readManifest( reportDir ).isPresent() ).isTrue();
+
+        File file = new File( reportDir, "A.json" );
+        assertThat( file.setLastModified( file.lastModified() + 2000 ) ).isTrue();
+        assertThat( readManifest( reportDir ).isPresent() ).isFalse();
+    }
+
+    private Optional<ReportManifest> readManifest( File reportDir ) {
+        AsciiDocReportConfig config = new AsciiDocReportConfig();
+        config.setSourceDir( reportDir );
+        return new ReportModelReader( config ).readManifest();
+    }
+
+    private void writeReport( File reportDir, ReportModel model ) throws IOException {
+        File file = new File( reportDir, model.getClassName() + ".json" );
+        new ScenarioJsonWriter( model ).write( file );
+        ReportManifest.addReportFile( reportDir, file, model );
+    }
+
+    private ReportModel createModel( String className, String tagName, ExecutionStatus... caseStatuses ) {
+        ReportModel model = new ReportModel();
+        model.setClassName( className );
+        Tag tag = new Tag( tagName );
+        model.addTag( tag );
+        ScenarioModel scenario = new ScenarioModel();
+        scenario.setDescription( "scenario" );
+        scenario.addTag( tag );
+        for( ExecutionStatus status : caseStatuses ) {
+            ScenarioCaseModel scenarioCase = new ScenarioCaseModel();
+            scenarioCase.setStatus( status );
+            scenario.addCase( scenarioCase );
+        }
+        model.getScenarios().add( scenario );
+        return model;
+    }
+}
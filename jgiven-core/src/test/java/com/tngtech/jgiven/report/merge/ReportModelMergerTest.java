@@ -0,0 +1,112 @@
+package com.tngtech.jgiven.report.merge;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.base.Charsets;
+import com.google.common.io.Files;
+import com.google.common.io.MoreFiles;
+import com.google.common.io.RecursiveDeleteOption;
+import com.tngtech.jgiven.attachment.Attachment;
+import com.tngtech.jgiven.report.impl.AttachmentStore;
+import com.tngtech.jgiven.report.json.ScenarioJsonReader;
+import com.tngtech.jgiven.report.json.ScenarioJsonWriter;
+import com.tngtech.jgiven.report.model.AttachmentModel;
+import com.tngtech.jgiven.report.model.ExecutionStatus;
+import com.tngtech.jgiven.report.model.ReportModel;
+import com.tngtech.jgiven.report.model.ReportModelFileFormat;
+import com.tngtech.jgiven.report.model.ReportStatistics;
+import com.tngtech.jgiven.report.model.ScenarioCaseModel;
+import com.tngtech.jgiven.report.model.ScenarioModel;
+import com.tngtech.jgiven.report.model.StepModel;
+import com.tngtech.jgiven.report.model.Tag;
+import java.io.File;
+import java.io.IOException;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ReportModelMergerTest {
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void models_of_the_same_class_from_different_directories_are_merged() throws IOException {
+        File shard1 = temporaryFolder.newFolder( "shard1" );
+        File shard2 = temporaryFolder.newFolder( "shard2" );
+        ReportModel first = createModel( "Test", "tag1", "scenario a", ExecutionStatus.SUCCESS );
+        first.getScenarios().add( createScenario( "scenario b", ExecutionStatus.SUCCESS ) );
+        write( first, shard1 );
+        write( createModel( "Test", "tag2", "scenario a", ExecutionStatus.FAILED ), shard2 );
+        write( createModel( "Other", "tag1", "scenario c", ExecutionStatus.SUCCESS ), shard2 );
+
+        File targetDir = new File( temporaryFolder.getRoot(), "merged" );
+        ReportModelMerger merger = new ReportModelMerger( 2 );
+        merger.addDirectory( shard1 ).addDirectory( shard2 );
+        merger.write( targetDir, ReportModelFileFormat.JSON, false );
+
+        ReportModel merged = new ScenarioJsonReader().apply( new File( targetDir, "Test.json" ) );
+        assertThat( merged.getScenarios() ).hasSize( 2 );
+        assertThat( merged.getTagMap() ).hasSize( 2 );
+        ScenarioModel scenario = merged.findScenarioModel( "scenario a" ).get();
+        assertThat( scenario.getScenarioCases() ).hasSize( 2 );
+        assertThat( scenario.getCase( 1 ).getCaseNr() ).isEqualTo( 2 );
+        assertThat( scenario.getDurationInNanos() ).isEqualTo( 20L );
+        assertThat( scenario.getExecutionStatus() ).isEqualTo( ExecutionStatus.FAILED );
+        assertThat( scenario.getTagIds() ).containsExactly( "tag1", "tag2" );
+        assertThat( new File( targetDir, "Other.json" ) ).exists();
+
+        ReportStatistics statistics = merger.getStatistics();
+        assertThat( statistics.numClasses ).isEqualTo( 2 );
+        assertThat( statistics.numScenarios ).isEqualTo( 3 );
+        assertThat( statistics.numCases ).isEqualTo( 4 );
+        assertThat( statistics.numFailedScenarios ).isEqualTo( 1 );
+    }
+
+    @Test
+    public void attachments_are_copied_into_the_target_directory() throws IOException {
+        File shard = temporaryFolder.newFolder( "shard" );
+        ReportModel model = createModel( "Test", "tag", "scenario", ExecutionStatus.SUCCESS );
+        StepModel step = new StepModel();
+        step.addAttachment( Attachment.plainText( "text" ) );
+        model.getScenarios().get( 0 ).getCase( 0 ).addStep( step );
+        new AttachmentStore( shard ).store( model );
+        write( model, shard );
+
+        File targetDir = new File( temporaryFolder.getRoot(), "merged" );
+        new ReportModelMerger( 1 ).addDirectory( shard ).write( targetDir, ReportModelFileFormat.JSON, false );
+        MoreFiles.deleteRecursively( shard.toPath(), RecursiveDeleteOption.ALLOW_INSECURE );
+
+        ReportModel merged = new ScenarioJsonReader().apply( new File( targetDir, "Test.json" ) );
+        AttachmentModel attachment = merged.getScenarios().get( 0 ).getCase( 0 ).getStep( 0 ).getAttachments().get( 0 );
+        assertThat( attachment.getFilePath() ).isEqualTo( "attachments/" + attachment.getContentHash() );
+        File attachmentFile = new File( targetDir, attachment.getFilePath() );
+        assertThat( Files.toString( attachmentFile, Charsets.UTF_8 ) ).isEqualTo( "text" );
+    }
+
+    private void write( ReportModel model, File dir ) {
+        new ScenarioJsonWriter( model ).write( new File( dir, model.getClassName() + ".json" ) );
+    }
+
+    private ReportModel createModel( String className, String tagName, String description, ExecutionStatus status ) {
+        ReportModel model = new ReportModel();
+        model.setClassName( className );
+        Tag tag = new Tag( tagName );
+        model.addTag( tag );
+        ScenarioModel scenario = createScenario( description, status );
+        scenario.addTag( tag );
+        model.getScenarios().add( scenario );
+        return model;
+    }
+
+    private ScenarioModel createScenario( String description, ExecutionStatus status ) {
+        ScenarioModel scenario = new ScenarioModel();
+        scenario.setClassName( "Test" );
+        scenario.setDescription( description );
+        scenario.setDurationInNanos( 10 );
+        ScenarioCaseModel scenarioCase = new ScenarioCaseModel();
+        scenarioCase.setStatus( status );
+        scenario.addCase( scenarioCase );
+        return scenario;
+    }
+}
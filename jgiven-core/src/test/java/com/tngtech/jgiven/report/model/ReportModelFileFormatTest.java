@@ -0,0 +1,30 @@
+package com.tngtech.jgiven.report.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ReportModelFileFormatTest {
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void other_variants_of_a_report_file_are_deleted() throws IOException {
+        File json = temporaryFolder.newFile( "a.Test.json" );
+        File compressedJson = temporaryFolder.newFile( "a.Test.json.gz" );
+        File binary = temporaryFolder.newFile( "a.Test.jgiven" );
+        File otherClass = temporaryFolder.newFile( "a.TestOther.json" );
+
+        ReportModelFileFormat.deleteOtherVariants( compressedJson );
+
+        assertThat( compressedJson ).exists();
+        assertThat( otherClass ).exists();
+        assertThat( json ).doesNotExist();
+        assertThat( binary ).doesNotExist();
+    }
+}
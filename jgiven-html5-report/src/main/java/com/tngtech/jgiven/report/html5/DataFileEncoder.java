@@ -0,0 +1,126 @@
+package com.tngtech.jgiven.report.html5;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.base.Charsets;
+import com.google.common.base.Throwables;
+import com.google.common.collect.Lists;
+import com.google.common.io.BaseEncoding;
+import com.google.common.io.Files;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.gson.Gson;
+import com.tngtech.jgiven.report.model.ReportModel;
+
+/**
+ * Serializes, compresses and encodes batches of report models into data files of the HTML5 report.
+ * <p>
+ * Each batch is written to its own data file by one of the worker threads.
+ * As the name of each data file is chosen before its batch is submitted, the generated files
+ * do not depend on the number of threads. The number of batches that are waiting to be encoded is limited,
+ * so that the report models of a streamed report are not all kept in memory.
+ */
+class DataFileEncoder {
+    private static final Logger log = LoggerFactory.getLogger( DataFileEncoder.class );
+
+    private final Gson gson;
+    private final ExecutorService executor;
+    private final Semaphore pendingBatches;
+    private final List<Future<?>> futures = Lists.newArrayList();
+
+    DataFileEncoder( Gson gson, int threads ) {
+        this.gson = gson;
+        int workers = Math.max( 1, threads );
+        this.executor = Executors.newFixedThreadPool( workers,
+            new ThreadFactoryBuilder().setNameFormat( "jgiven-data-encoder-%d" ).setDaemon( true ).build() );
+        this.pendingBatches = new Semaphore( 2 * workers );
+    }
+
+    /**
+     * Writes the given report models to the given data file in the background.
+     * Blocks while too many batches are waiting to be encoded.
+     * The report models must not be modified afterwards.
+     */
+    void submit( File targetFile, List<ReportModel> models, int caseCount ) {
+        try {
+            pendingBatches.acquire();
+        } catch( InterruptedException e ) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException( "Interrupted while writing data files", e );
+        }
+        futures.add( executor.submit( () -> {
+            try {
+                writeDataFile( targetFile, models );
+                log.info( "Written " + caseCount + " scenarios to " + targetFile.getName() );
+                return null;
+            } finally {
+                pendingBatches.release();
+            }
+        } ) );
+    }
+
+    private void writeDataFile( File targetFile, List<ReportModel> models ) throws IOException {
+        log.debug( "Generating " + targetFile + "..." );
+        ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+        // pako client side library expects byte stream to be UTF-8 encoded
+        try( Writer contentWriter = new OutputStreamWriter( new GZIPOutputStream( byteStream ), Charsets.UTF_8 ) ) {
+            contentWriter.append( "{\"scenarios\":[" );
+            for( int i = 0; i < models.size(); i++ ) {
+                if( i > 0 ) {
+                    contentWriter.append( "," );
+                }
+                gson.toJson( models.get( i ), contentWriter );
+            }
+            contentWriter.append( "]}" );
+        }
+
+        String base64String = BaseEncoding.base64().encode( byteStream.toByteArray() );
+        try( Writer fileWriter = Files.newWriter( targetFile, Charsets.UTF_8 ) ) {
+            fileWriter.append( "jgivenReport.addZippedScenarios(" );
+            fileWriter.append( "'" ).append( base64String ).append( "'" );
+            fileWriter.append( ");" );
+        }
+    }
+
+    /**
+     * Waits until all submitted data files have been written and stops the worker threads.
+     */
+    void awaitCompletion() throws IOException {
+        try {
+            for( Future<?> future : futures ) {
+                future.get();
+            }
+        } catch( InterruptedException e ) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException( "Interrupted while writing data files", e );
+        } catch( ExecutionException e ) {
+            if( e.getCause() instanceof IOException ) {
+                throw (IOException) e.getCause();
+            }
+            Throwables.throwIfUnchecked( e.getCause() );
+            throw new RuntimeException( e.getCause() );
+        } finally {
+            shutdown();
+        }
+    }
+
+    /**
+     * Stops the worker threads without waiting for the submitted data files.
+     */
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -3,12 +3,17 @@ package com.tngtech.jgiven.report.html5;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Charsets;
 import com.google.common.collect.HashMultiset;
+import com.google.common.collect.Maps;
 import com.google.common.collect.Multiset;
 import com.google.common.collect.Sets;
+import com.google.common.hash.Hashing;
 import com.google.common.io.BaseEncoding;
 import com.google.common.io.Files;
 import com.google.common.net.MediaType;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.tngtech.jgiven.exception.JGivenInstallationException;
+import com.tngtech.jgiven.impl.util.FileUtil;
 import com.tngtech.jgiven.report.model.AttachmentModel;
 import com.tngtech.jgiven.report.model.ReportModel;
 import com.tngtech.jgiven.report.model.ReportModelVisitor;
@@ -22,11 +27,19 @@ import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
 import org.apache.batik.transcoder.TranscoderException;
 import org.apache.batik.transcoder.TranscoderInput;
 import org.apache.batik.transcoder.TranscoderOutput;
@@ -36,27 +49,63 @@ import org.slf4j.LoggerFactory;
 
 class Html5AttachmentGenerator extends ReportModelVisitor {
     private static final Logger log = LoggerFactory.getLogger(Html5AttachmentGenerator.class);
-    private static final String ATTACHMENT_DIRNAME = "attachments";
+    static final String ATTACHMENT_DIRNAME = "attachments";
     public static final int MINIMAL_THUMBNAIL_SIZE = 20;
 
+    private static final int MAX_WRITER_THREADS = 8;
+
     private File attachmentsDir;
     private String subDir;
-    private final Multiset<String> fileCounter = HashMultiset.create();
-    private final Set<String> usedFileNames = Sets.newHashSet();
-    private String htmlSubDir;
+    private Multiset<String> fileCounter = HashMultiset.create();
+    private Set<String> usedFileNames = Sets.newHashSet();
+    private String htmlSubDir = "";
+
+    /**
+     * Maps the content of all attachments that have been written so far to their path in the report,
+     * so that attachments with identical content are only written once.
+     */
+    private final Map<String, String> writtenAttachments = Maps.newHashMap();
+
+    private final ExecutorService executor;
+
+    private File thumbnailCacheDir;
 
     public Html5AttachmentGenerator() {
+        int threads = Math.max(2, Math.min(MAX_WRITER_THREADS, Runtime.getRuntime().availableProcessors()));
+        this.executor = Executors.newFixedThreadPool(threads,
+            new ThreadFactoryBuilder().setNameFormat("jgiven-attachment-writer-%d").setDaemon(true).build());
     }
 
     @VisibleForTesting
     public Html5AttachmentGenerator(File attachmentsDir) {
         this.attachmentsDir = attachmentsDir;
+        this.executor = MoreExecutors.newDirectExecutorService();
     }
 
+    /**
+     * Sets the directory in which thumbnails are cached across report generations.
+     * Can be {@code null}, in which case thumbnails are not cached.
+     */
+    public void setThumbnailCacheDir(File thumbnailCacheDir) {
+        if (thumbnailCacheDir != null && !thumbnailCacheDir.exists() && !thumbnailCacheDir.mkdirs()) {
+            log.warn("Could not create thumbnail cache directory " + thumbnailCacheDir + ". Thumbnails will not be cached.");
+            return;
+        }
+        this.thumbnailCacheDir = thumbnailCacheDir;
+    }
+
+    /**
+     * Writes the attachments of the given model into the given target directory.
+     * The attachments are written in the background, thus {@link #awaitCompletion()}
+     * has to be called before the report can be used.
+     * The attachment models are updated immediately to point to the written files.
+     */
     public void generateAttachments(File targetDir, ReportModel model) {
-        subDir = ATTACHMENT_DIRNAME + File.separatorChar + model.getClassName().replace('.', File.separatorChar);
-        htmlSubDir = subDir.replace(File.separatorChar, '/');
+        subDir = getAttachmentSubDir(model);
+        htmlSubDir = subDir.replace(File.separatorChar, '/') + "/";
         attachmentsDir = new File(targetDir, subDir);
+        fileCounter = HashMultiset.create();
+        usedFileNames = Sets.newHashSet();
 
         if (!attachmentsDir.exists() && !attachmentsDir.mkdirs()) {
             throw new JGivenInstallationException("Could not create directory " + attachmentsDir);
@@ -64,6 +113,22 @@ class Html5AttachmentGenerator extends ReportModelVisitor {
         model.accept(this);
     }
 
+    /**
+     * Returns the directory, relative to the target directory, to which the attachments of the given model are written.
+     */
+    static String getAttachmentSubDir(ReportModel model) {
+        return ATTACHMENT_DIRNAME + File.separatorChar + model.getClassName().replace('.', File.separatorChar);
+    }
+
+    /**
+     * Forgets the attachments written so far, so that the attachments of the following models
+     * do not point to files of previous models, even if they have the same content.
+     * This is needed if the files of the previous models can be deleted independently.
+     */
+    public void resetWrittenAttachments() {
+        writtenAttachments.clear();
+    }
+
     @Override
     public void visit(StepModel stepModel) {
         List<AttachmentModel> attachments = stepModel.getAttachments();
@@ -72,12 +137,80 @@ class Html5AttachmentGenerator extends ReportModelVisitor {
         }
     }
 
+    /**
+     * Waits until all attachments have been written.
+     */
+    public void awaitCompletion() {
+        executor.shutdown();
+        try {
+            while (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                log.info("Still writing attachments...");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JGivenInstallationException("Interrupted while writing attachments", e);
+        }
+    }
+
     private void writeAttachment(AttachmentModel attachment) {
         String mimeType = attachment.getMediaType();
         MediaType mediaType = MediaType.parse(mimeType);
-        File targetFile = writeFile(attachment, mediaType);
-        attachment.setValue(htmlSubDir + "/" + targetFile.getName());
-        log.debug("Attachment written to " + targetFile);
+        String extension = getExtension(mediaType);
+        byte[] content = getContentToHash(attachment);
+        String contentHash = content == null
+            ? attachment.getContentHash()
+            : Hashing.sha256().hashBytes(content).toString();
+        String contentKey = extension + ":" + (contentHash != null ? contentHash : attachment.getFilePath());
+
+        String path = writtenAttachments.get(contentKey);
+        if (path != null) {
+            log.debug("Attachment has the same content as " + path);
+        } else {
+            File targetFile = getTargetFile(attachment.getFileName(), extension);
+            path = htmlSubDir + targetFile.getName();
+            writtenAttachments.put(contentKey, path);
+
+            AttachmentModel source = copyContent(attachment);
+            executor.execute(() -> {
+                writeFile(source, content, mediaType, targetFile, contentHash);
+                log.debug("Attachment written to " + targetFile);
+            });
+        }
+
+        attachment.setValue(path);
+        attachment.setFilePath(null);
+    }
+
+    /**
+     * Returns the decoded content of an inline attachment whose hash is not known yet, or {@code null} otherwise.
+     * Like the hashes of file references, the hash of inline attachments is computed from the decoded bytes,
+     * so that the same content always has the same hash. The decoded bytes are then written as they are,
+     * so that the content is only decoded once.
+     */
+    private static byte[] getContentToHash(AttachmentModel attachment) {
+        if (attachment.getContentHash() != null || attachment.isFileReference()) {
+            return null;
+        }
+        return decodeContent(attachment);
+    }
+
+    private static byte[] decodeContent(AttachmentModel attachment) {
+        return attachment.isBinary()
+            ? BaseEncoding.base64().decode(attachment.getValue())
+            : attachment.getValue().getBytes(Charsets.UTF_8);
+    }
+
+    /**
+     * Copies the content of the given attachment, as the model itself is modified
+     * before the content is written in the background.
+     */
+    private AttachmentModel copyContent(AttachmentModel attachment) {
+        AttachmentModel content = new AttachmentModel();
+        content.setValue(attachment.getValue());
+        content.setFilePath(attachment.getFilePath());
+        content.setMediaType(attachment.getMediaType());
+        content.setIsBinary(attachment.isBinary());
+        return content;
     }
 
     private String getExtension(MediaType mediaType) {
@@ -134,52 +267,124 @@ class Html5AttachmentGenerator extends ReportModelVisitor {
             String extension = orgName.subSequence(dotIndex + 1, orgName.length()).toString();
             newName = orgName.substring(0, dotIndex) + "-thumb." + extension;
         }
-        return new File(attachmentsDir, newName);
+        return new File(originalImage.getParentFile(), newName);
 
     }
 
-    private File writeFile(AttachmentModel attachment, MediaType mediaType) {
+    /**
+     * Writes the given attachment to the given file.
+     * The content of inline attachments can be given if it has already been decoded.
+     */
+    private void writeFile(AttachmentModel attachment, byte[] content, MediaType mediaType, File targetFile,
+            String contentHash) {
         String extension = getExtension(mediaType);
-        File targetFile = getTargetFile(attachment.getFileName(), extension);
         try {
-            if (attachment.isBinary()) {
-                if (mediaType.is(MediaType.ANY_IMAGE_TYPE)) {
-                    File thumbFile = getThumbnailFileFor(targetFile);
-                    byte[] thumbnail = compressToThumbnail(attachment.getValue(), extension);
-                    Files.write(thumbnail, thumbFile);
-                }
-                Files.write(BaseEncoding.base64().decode(attachment.getValue()), targetFile);
+            if (attachment.isFileReference()) {
+                FileUtil.copy(new File(attachment.getFilePath()), targetFile);
             } else {
-                Files.write(attachment.getValue().getBytes(Charsets.UTF_8), targetFile);
-                if (com.tngtech.jgiven.attachment.MediaType.SVG_UTF_8.toString().equals(attachment.getMediaType())) {
-                    File thumbFile = getThumbnailFileFor(targetFile);
-                    writeThumbnailForSVG(targetFile, thumbFile);
-                }
+                Files.write(content != null ? content : decodeContent(attachment), targetFile);
             }
-        } catch (IOException e) {
+
+            if (attachment.isBinary() && mediaType.is(MediaType.ANY_IMAGE_TYPE)) {
+                writeThumbnail(targetFile, extension, contentHash, () -> compressToThumbnail(targetFile, extension));
+            } else if (com.tngtech.jgiven.attachment.MediaType.SVG_UTF_8.toString().equals(attachment.getMediaType())) {
+                writeThumbnail(targetFile, extension, contentHash, () -> createSVGThumbnail(targetFile));
+            }
+        } catch (IOException | RuntimeException e) {
             log.error("Error while trying to write attachment to file " + targetFile, e);
         }
-        return targetFile;
     }
 
-    private byte[] compressToThumbnail(String base64content, String extension) {
-        byte[] imageBytes = BaseEncoding.base64().decode(base64content);
-        byte[] base64thumb = {};
+    /**
+     * Writes the thumbnail for the given file. If a thumbnail cache directory is configured,
+     * thumbnails are taken from and stored in the cache, keyed by the content hash of the attachment.
+     */
+    private void writeThumbnail(File targetFile, String extension, String contentHash, ThumbnailCreator creator)
+            throws IOException {
+        File thumbFile = getThumbnailFileFor(targetFile);
+        File cachedFile = null;
+        if (thumbnailCacheDir != null && contentHash != null) {
+            cachedFile = new File(thumbnailCacheDir, contentHash + "-" + MINIMAL_THUMBNAIL_SIZE + "." + extension);
+            if (cachedFile.exists()) {
+                FileUtil.copy(cachedFile, thumbFile);
+                return;
+            }
+        }
+
+        byte[] thumbnail = creator.create();
+        Files.write(thumbnail, thumbFile);
+
+        if (cachedFile != null && thumbnail.length > 0) {
+            storeInCache(thumbnail, cachedFile);
+        }
+    }
+
+    private void storeInCache(byte[] thumbnail, File cachedFile) {
         try {
-            BufferedImage before = ImageIO.read(new ByteArrayInputStream(imageBytes));
-            BufferedImage after = scaleDown(before);
-            base64thumb = bufferedImageToBase64(after, extension);
+            File tempFile = File.createTempFile(cachedFile.getName(), ".tmp", thumbnailCacheDir);
+            Files.write(thumbnail, tempFile);
+            try {
+                java.nio.file.Files.move(tempFile.toPath(), cachedFile.toPath(), StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                java.nio.file.Files.deleteIfExists(tempFile.toPath());
+            }
+        } catch (IOException e) {
+            log.warn("Could not store thumbnail in cache " + cachedFile, e);
+        }
+    }
+
+    private interface ThumbnailCreator {
+        byte[] create() throws IOException;
+    }
+
+    private byte[] compressToThumbnail(File imageFile, String extension) {
+        try (ImageInputStream input = ImageIO.createImageInputStream(imageFile)) {
+            return compressToThumbnail(input, extension);
         } catch (IOException e) {
             log.error("Error while decoding the attachment to BufferedImage ", e);
+            return new byte[0];
         }
-        return base64thumb;
     }
 
-    static BufferedImage scaleDown(BufferedImage before) {
-        double xFactor = Math.min(1.0, MINIMAL_THUMBNAIL_SIZE / (double) before.getWidth());
-        double yFactor = Math.min(1.0, MINIMAL_THUMBNAIL_SIZE / (double) before.getHeight());
+    private byte[] compressToThumbnail(ImageInputStream input, String extension) throws IOException {
+        return bufferedImageToBase64(scaleDown(readSubsampled(input)), extension);
+    }
+
+    /**
+     * Decodes the given image, but only every n-th pixel in each direction, so that
+     * large images never have to be decoded completely in order to create a thumbnail.
+     */
+    static BufferedImage readSubsampled(ImageInputStream input) throws IOException {
+        if (input == null) {
+            throw new IOException("Image cannot be read");
+        }
+        Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+        if (!readers.hasNext()) {
+            throw new IOException("No image reader found");
+        }
+
+        ImageReader reader = readers.next();
+        try {
+            reader.setInput(input, true, true);
+            int subsampling = getSubsampling(reader.getWidth(0), reader.getHeight(0));
+            ImageReadParam param = reader.getDefaultReadParam();
+            param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+            return reader.read(0, param);
+        } finally {
+            reader.dispose();
+        }
+    }
 
-        double factor = Math.max(xFactor, yFactor);
+    /**
+     * Keeps at least twice the thumbnail size in the smaller dimension,
+     * so that the final scaling still has enough pixels to interpolate.
+     */
+    static int getSubsampling(int width, int height) {
+        return Math.max(1, Math.min(width, height) / (2 * MINIMAL_THUMBNAIL_SIZE));
+    }
+
+    static BufferedImage scaleDown(BufferedImage before) {
+        double factor = getThumbnailScale(before.getWidth(), before.getHeight());
 
         int width = (int) Math.round(before.getWidth() * factor);
         int height = (int) Math.round(before.getHeight() * factor);
@@ -192,6 +397,16 @@ class Html5AttachmentGenerator extends ReportModelVisitor {
         return scaleOp.filter(before, after);
     }
 
+    /**
+     * Returns the factor by which an image of the given size is scaled down,
+     * so that its smaller dimension has the thumbnail size. Images are never scaled up.
+     */
+    static double getThumbnailScale(double width, double height) {
+        double xFactor = Math.min(1.0, MINIMAL_THUMBNAIL_SIZE / width);
+        double yFactor = Math.min(1.0, MINIMAL_THUMBNAIL_SIZE / height);
+        return Math.max(xFactor, yFactor);
+    }
+
     private byte[] bufferedImageToBase64(BufferedImage bi, String extension) {
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
         byte[] imageArray = {};
@@ -205,12 +420,16 @@ class Html5AttachmentGenerator extends ReportModelVisitor {
         return imageArray;
     }
 
-    private void writeThumbnailForSVG(File initialSVG, File thumbnailSVG) {
-        String base64PNGImage = getPNGFromSVG(initialSVG);
-        byte[] scaledDownInBytes = compressToThumbnail(base64PNGImage, "png");
-        Dimension imageDimension = getImageDimension(scaledDownInBytes);
-        String base64ScaledDownContent = BaseEncoding.base64().encode(scaledDownInBytes);
-        createSVGThumbFile(thumbnailSVG, base64ScaledDownContent, imageDimension);
+    /**
+     * Renders the given SVG directly at the thumbnail size and embeds the resulting PNG into an SVG.
+     */
+    private byte[] createSVGThumbnail(File svgFile) {
+        byte[] png = transcodeSVGToPNG(svgFile, new ThumbnailTranscoder());
+        if (png == null) {
+            return new byte[0];
+        }
+        String base64Thumbnail = BaseEncoding.base64().encode(png);
+        return getXMLFormat(base64Thumbnail, getImageDimension(png)).getBytes(Charsets.UTF_8);
     }
 
     Dimension getImageDimension(byte[] givenImage) {
@@ -226,15 +445,6 @@ class Html5AttachmentGenerator extends ReportModelVisitor {
         return dimension;
     }
 
-    void createSVGThumbFile(File targetFile, String base64Image, Dimension dimension) {
-        String xmlFormat = getXMLFormat(base64Image, dimension);
-        try (FileWriter fileWriter = new FileWriter(targetFile)) {
-            fileWriter.write(xmlFormat);
-        } catch (IOException e) {
-            log.error("Error writing the thumbnail svg to " + targetFile);
-        }
-    }
-
     private String getXMLFormat(String base64Image, Dimension dimension) {
         return "<svg xmlns=\"http://www.w3.org/2000/svg\" xmlns:xlink=\"http://www.w3.org/1999/xlink\" "
                 + "height=\"" + dimension.getHeight() + "px\" width=\"" + dimension.getWidth() + "px\">"
@@ -243,7 +453,11 @@ class Html5AttachmentGenerator extends ReportModelVisitor {
     }
 
     String getPNGFromSVG(File givenSVG) {
-        PNGTranscoder transcoder = new PNGTranscoder();
+        byte[] png = transcodeSVGToPNG(givenSVG, new PNGTranscoder());
+        return png == null ? null : BaseEncoding.base64().encode(png);
+    }
+
+    private byte[] transcodeSVGToPNG(File givenSVG, PNGTranscoder transcoder) {
         TranscoderInput transcoderInput = new TranscoderInput();
         TranscoderOutput transcoderOutput = new TranscoderOutput();
 
@@ -253,7 +467,7 @@ class Html5AttachmentGenerator extends ReportModelVisitor {
             transcoderOutput.setOutputStream(outputStream);
 
             transcoder.transcode(transcoderInput, transcoderOutput);
-            return BaseEncoding.base64().encode(outputStream.toByteArray());
+            return outputStream.toByteArray();
         } catch (FileNotFoundException e) {
             log.error("Error while reading the initial svg file.");
         } catch (IOException e) {
@@ -264,4 +478,18 @@ class Html5AttachmentGenerator extends ReportModelVisitor {
 
         return null;
     }
+
+    /**
+     * Renders SVGs at the thumbnail size. The size of the document is only known during the transcoding,
+     * so the width and height are set as soon as Batik has determined it.
+     */
+    private static class ThumbnailTranscoder extends PNGTranscoder {
+        @Override
+        protected void setImageSize(float docWidth, float docHeight) {
+            float factor = (float) getThumbnailScale(docWidth, docHeight);
+            addTranscodingHint(KEY_WIDTH, (float) Math.max(1, Math.round(docWidth * factor)));
+            addTranscodingHint(KEY_HEIGHT, (float) Math.max(1, Math.round(docHeight * factor)));
+            super.setImageSize(docWidth, docHeight);
+        }
+    }
 }
@@ -6,6 +6,7 @@ import com.tngtech.jgiven.report.config.ConfigOption;
 import com.tngtech.jgiven.report.config.ConfigOptionBuilder;
 import com.tngtech.jgiven.report.config.converter.ToBoolean;
 import com.tngtech.jgiven.report.config.converter.ToFile;
+import com.tngtech.jgiven.report.config.converter.ToInteger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -20,6 +21,9 @@ public class Html5ReportConfig extends AbstractReportConfig {
     private File customCss;
     private File customJs;
     private boolean showThumbnails;
+    private File thumbnailCacheDir;
+    private boolean incremental;
+    private int encoderThreads;
 
     Html5ReportConfig( String... args ) {
         super( args );
@@ -28,6 +32,11 @@ public class Html5ReportConfig extends AbstractReportConfig {
     public Html5ReportConfig() {
         super();
         setShowThumbnails( true );
+        setEncoderThreads( defaultEncoderThreads() );
+    }
+
+    private static int defaultEncoderThreads() {
+        return Runtime.getRuntime().availableProcessors();
     }
 
     public void additionalConfigOptions( List<ConfigOption> configOptions ) {
@@ -56,7 +65,35 @@ public class Html5ReportConfig extends AbstractReportConfig {
                 .setDescription( "(default: true)" )
                 .build();
 
-        configOptions.addAll( Arrays.asList( customCss, customJs, showThumbnails ) );
+        ConfigOption thumbnailCacheDir = new ConfigOptionBuilder( "thumbnailCacheDir" )
+                .setCommandLineOptionWithArgument(
+                        new CommandLineOptionBuilder( "--thumbnail-cache-dir" ).setArgumentDelimiter( "=" ).setVisualPlaceholder( "path" )
+                                .build(),
+                        new ToFile() )
+                .setOptional()
+                .setDescription( "directory in which generated thumbnails are cached between report generations" )
+                .build();
+
+        ConfigOption incremental = new ConfigOptionBuilder( "incremental" )
+                .setCommandLineOptionWithArgument(
+                        new CommandLineOptionBuilder( "--incremental" ).setArgumentDelimiter( "=" ).setVisualPlaceholder( "boolean" )
+                                .build(),
+                        new ToBoolean() )
+                .setDefaultWith( false )
+                .setDescription( "only regenerate the data of changed JSON files of a previously generated report (default: false)" )
+                .build();
+
+        ConfigOption encoderThreads = new ConfigOptionBuilder( "encoderThreads" )
+                .setCommandLineOptionWithArgument(
+                        new CommandLineOptionBuilder( "--encoder-threads" ).setArgumentDelimiter( "=" )
+                                .setVisualPlaceholder( "integer" ).build(),
+                        new ToInteger() )
+                .setDefaultWith( defaultEncoderThreads() )
+                .setDescription( "the number of threads used to encode the data files (default: number of processors)" )
+                .build();
+
+        configOptions.addAll( Arrays.asList( customCss, customJs, showThumbnails, thumbnailCacheDir, incremental,
+            encoderThreads ) );
     }
 
     public void useConfigMap( Map<String, Object> configMap ) {
@@ -69,6 +106,13 @@ public class Html5ReportConfig extends AbstractReportConfig {
         }
 
         setShowThumbnails( (Boolean) configMap.get( "showThumbnails" ) );
+
+        if( configMap.containsKey( "thumbnailCacheDir" ) ) {
+            setThumbnailCacheDir( (File) configMap.get( "thumbnailCacheDir" ) );
+        }
+
+        setIncremental( (Boolean) configMap.get( "incremental" ) );
+        setEncoderThreads( (Integer) configMap.get( "encoderThreads" ) );
     }
 
     public File getCustomCss() {
@@ -95,4 +139,40 @@ public class Html5ReportConfig extends AbstractReportConfig {
         this.showThumbnails = showThumbnails;
     }
 
+    public File getThumbnailCacheDir() {
+        return thumbnailCacheDir;
+    }
+
+    /**
+     * Sets the directory in which generated thumbnails are cached between report generations.
+     * If not set, all thumbnails are generated again each time.
+     */
+    public void setThumbnailCacheDir( File thumbnailCacheDir ) {
+        this.thumbnailCacheDir = thumbnailCacheDir;
+    }
+
+    public boolean isIncremental() {
+        return incremental;
+    }
+
+    /**
+     * Sets whether only the data of changed JSON files is regenerated, if the target directory
+     * contains a report that has been generated incrementally before.
+     */
+    public void setIncremental( boolean incremental ) {
+        this.incremental = incremental;
+    }
+
+    public int getEncoderThreads() {
+        return encoderThreads;
+    }
+
+    /**
+     * Sets the number of threads used to serialize, compress and encode the data files.
+     * The generated data files do not depend on the number of threads.
+     */
+    public void setEncoderThreads( int encoderThreads ) {
+        this.encoderThreads = encoderThreads;
+    }
+
 }
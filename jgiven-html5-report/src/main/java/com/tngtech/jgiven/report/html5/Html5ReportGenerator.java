@@ -1,15 +1,18 @@
 package com.tngtech.jgiven.report.html5;
 
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
-import java.util.zip.GZIPOutputStream;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
@@ -19,36 +22,90 @@ import org.slf4j.LoggerFactory;
 import com.google.common.base.Charsets;
 import com.google.common.base.Throwables;
 import com.google.common.collect.Lists;
-import com.google.common.io.BaseEncoding;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import com.google.common.io.Files;
+import com.google.common.io.MoreFiles;
+import com.google.common.io.RecursiveDeleteOption;
 import com.google.gson.Gson;
 import com.tngtech.jgiven.exception.JGivenInstallationException;
-import com.tngtech.jgiven.impl.util.ResourceUtil;
+import com.tngtech.jgiven.impl.util.FileUtil;
 import com.tngtech.jgiven.impl.util.Version;
 import com.tngtech.jgiven.report.AbstractReportConfig;
 import com.tngtech.jgiven.report.AbstractReportGenerator;
+import com.tngtech.jgiven.report.json.JsonModelTraverser;
+import com.tngtech.jgiven.report.json.ReportModelReader;
+import com.tngtech.jgiven.report.json.ReportModelTypeAdapterFactory;
+import com.tngtech.jgiven.report.manifest.ReportManifest;
+import com.tngtech.jgiven.report.manifest.ReportManifestEntry;
 import com.tngtech.jgiven.report.model.ReportModel;
-import com.tngtech.jgiven.report.model.ReportModelFile;
+import com.tngtech.jgiven.report.model.ReportModelFileFormat;
 import com.tngtech.jgiven.report.model.ScenarioCaseModel;
 import com.tngtech.jgiven.report.model.ScenarioModel;
 import com.tngtech.jgiven.report.model.StepModel;
+import com.tngtech.jgiven.report.model.Tag;
 
 public class Html5ReportGenerator extends AbstractReportGenerator {
     private static final Logger log = LoggerFactory.getLogger( Html5ReportGenerator.class );
     private static final int MAX_BATCH_SIZE = 100;
+    private static final Gson GSON = ReportModelTypeAdapterFactory.gsonBuilder().create();
+
+    /**
+     * Matches the data files of full ({@code data0.js}) and incremental ({@code data_<hash>.js}) generations.
+     */
+    private static final Pattern DATA_FILE_PATTERN = Pattern.compile( "data(\\d+|_\\w+)\\.js" );
 
-    private PrintStream fileStream;
     private MetaData metaData = new MetaData();
-    private int caseCountOfCurrentBatch;
     private File dataDirectory;
-    private ByteArrayOutputStream byteStream;
-    private PrintStream contentStream;
     private Html5ReportConfig specializedConfig;
+    private Html5AttachmentGenerator attachmentGenerator;
+    private DataFileEncoder dataFileEncoder;
+
+    /**
+     * The report models of the data file that is currently filled, or {@code null} if there is none.
+     */
+    private List<ReportModel> currentBatch;
+    private String currentFileName;
+    private int caseCountOfCurrentBatch;
+
+    /**
+     * The JSON files of an incremental generation, or {@code null} if the complete report is generated.
+     */
+    private List<File> incrementalSourceFiles;
 
     public AbstractReportConfig createReportConfig( String... args ) {
         return new Html5ReportConfig( args );
     }
 
+    /**
+     * Does not read the JSON files in incremental mode, as only the changed ones are read by {@link #generate()}.
+     */
+    @Override
+    public void loadReportModel() {
+        incrementalSourceFiles = findIncrementalSourceFiles();
+        if( incrementalSourceFiles == null ) {
+            super.loadReportModel();
+        }
+    }
+
+    private List<File> findIncrementalSourceFiles() {
+        if( !( config instanceof Html5ReportConfig ) || !( (Html5ReportConfig) config ).isIncremental() ) {
+            return null;
+        }
+        if( !config.getSourceDir().isDirectory() ) {
+            log.info( "Incremental generation requires a source directory, generating the complete report" );
+            return null;
+        }
+        List<File> files = JsonModelTraverser.findReportFilesAndArchives( config.getSourceDir() );
+        if( files.stream().anyMatch( JsonModelTraverser::isZipArchive ) ) {
+            log.info( "Incremental generation does not support ZIP archives, generating the complete report" );
+            return null;
+        }
+        return files;
+    }
+
     public void generate() {
         specializedConfig = (Html5ReportConfig) config;
         log.info( "Generating HTML5 report to {}", new File( specializedConfig.getTargetDir(), "index.html" ).getAbsoluteFile() );
@@ -59,10 +116,14 @@ public class Html5ReportGenerator extends AbstractReportGenerator {
             return;
         }
         try {
-            unzipApp( config.getTargetDir() );
-            createDataFiles();
-            generateMetaData();
-            generateTagFile();
+            if( incrementalSourceFiles != null ) {
+                generateIncrementally();
+            } else {
+                unzipApp( config.getTargetDir() );
+                createDataFiles();
+                generateMetaData();
+                generateTagFile( completeReportModel.getTagIdMap() );
+            }
             copyCustomFile( specializedConfig.getCustomCss(), new File( specializedConfig.getTargetDir(), "css" ), "custom.css" );
             copyCustomFile( specializedConfig.getCustomJs(), new File( specializedConfig.getTargetDir(), "js" ), "custom.js" );
         } catch( IOException e ) {
@@ -87,20 +148,39 @@ public class Html5ReportGenerator extends AbstractReportGenerator {
     }
 
     private void createDataFiles() throws IOException {
-        for( ReportModelFile file : completeReportModel.getAllReportModels() ) {
-            handleReportModel(file.model(), file.file());
+        attachmentGenerator = new Html5AttachmentGenerator();
+        attachmentGenerator.setThumbnailCacheDir( specializedConfig.getThumbnailCacheDir() );
+        dataFileEncoder = new DataFileEncoder( GSON, specializedConfig.getEncoderThreads() );
+        try {
+            completeReportModel.forEachReportModel( file -> handleReportModel( file.model(), file.file() ) );
+            submitBatch();
+            dataFileEncoder.awaitCompletion();
+        } finally {
+            dataFileEncoder.shutdown();
+            attachmentGenerator.awaitCompletion();
         }
-        closeWriter();
     }
 
-    public void handleReportModel( ReportModel model, File file ) throws IOException {
-        new Html5AttachmentGenerator().generateAttachments( dataDirectory, model );
+    /**
+     * Adds the given model to the current batch. The batches are encoded in parallel,
+     * but the name of their data files only depends on the order of the models.
+     */
+    public void handleReportModel( ReportModel model, File file ) {
+        if( currentBatch == null ) {
+            String fileName = "data" + metaData.data.size() + ".js";
+            metaData.data.add( fileName );
+            startBatch( fileName );
+        }
 
-        createWriter();
+        addToBatch( model );
 
-        if( caseCountOfCurrentBatch > 0 ) {
-            contentStream.append( "," );
+        if( caseCountOfCurrentBatch > MAX_BATCH_SIZE ) {
+            submitBatch();
         }
+    }
+
+    private void addToBatch( ReportModel model ) {
+        attachmentGenerator.generateAttachments( dataDirectory, model );
 
         deleteUnusedCaseSteps( model );
         caseCountOfCurrentBatch += getCaseCount( model );
@@ -108,10 +188,175 @@ public class Html5ReportGenerator extends AbstractReportGenerator {
         // do not serialize tags as they are serialized separately
         model.setTagMap( null );
 
-        new Gson().toJson( model, contentStream );
+        currentBatch.add( model );
+    }
 
-        if( caseCountOfCurrentBatch > MAX_BATCH_SIZE ) {
-            closeWriter();
+    /**
+     * Only regenerates the data files of chunks whose JSON files have changed since the last generation.
+     * The JSON files are grouped into chunks by directory and package, so that re-running a few
+     * test classes only requires reading the JSON files of their packages again.
+     */
+    private void generateIncrementally() throws IOException {
+        File stateFile = new File( dataDirectory, IncrementalState.FILE_NAME );
+        IncrementalState previousState = IncrementalState.read( stateFile, GSON );
+
+        IncrementalState state = new IncrementalState();
+        state.appVersion = Version.VERSION.toString();
+        state.settings = "excludeEmptyScenarios=" + config.getExcludeEmptyScenarios();
+        boolean appChanged = !state.appVersion.equals( previousState.appVersion )
+            || !new File( config.getTargetDir(), "index.html" ).exists();
+        if( appChanged ) {
+            unzipApp( config.getTargetDir() );
+        } else {
+            log.info( "The HTML5 app is up to date" );
+        }
+        boolean chunksReusable = !appChanged && state.settings.equals( previousState.settings );
+
+        Map<String, List<File>> changedChunks = Maps.newLinkedHashMap();
+        Map<String, String> contentHashes = getContentHashes( incrementalSourceFiles );
+        for( Map.Entry<String, List<File>> entry : groupIntoChunks( incrementalSourceFiles ).entrySet() ) {
+            String inputHash = getInputHash( entry.getKey(), entry.getValue(), contentHashes );
+            IncrementalState.DataChunk previousChunk = chunksReusable
+                ? previousState.chunks.get( entry.getKey() ) : null;
+            if( previousChunk != null && inputHash.equals( previousChunk.inputHash )
+                && new File( dataDirectory, previousChunk.dataFile ).exists() ) {
+                state.chunks.put( entry.getKey(), previousChunk );
+            } else {
+                state.chunks.put( entry.getKey(), new IncrementalState.DataChunk( inputHash,
+                    "data_" + inputHash.substring( 0, 16 ) + ".js" ) );
+                changedChunks.put( entry.getKey(), entry.getValue() );
+            }
+        }
+
+        if( chunksReusable ) {
+            deleteOutdatedChunks( previousState, state );
+        } else {
+            deleteUntrackedDataFiles();
+        }
+        writeChangedChunks( state, changedChunks );
+
+        Map<String, Tag> tags = Maps.newLinkedHashMap();
+        for( IncrementalState.DataChunk chunk : state.chunks.values() ) {
+            metaData.data.add( chunk.dataFile );
+            tags.putAll( chunk.tags );
+        }
+        generateMetaData();
+        generateTagFile( tags );
+        state.write( stateFile, GSON );
+        log.info( "Regenerated {} of {} data files", changedChunks.size(), state.chunks.size() );
+    }
+
+    /**
+     * Returns the content hashes of the given files, taken from the report manifest if it is up to date.
+     */
+    private Map<String, String> getContentHashes( List<File> files ) throws IOException {
+        Optional<ReportManifest> manifest = new ReportModelReader( config ).readManifest();
+        Map<String, String> result = Maps.newHashMap();
+        for( File file : files ) {
+            Optional<ReportManifestEntry> entry = manifest.flatMap( m -> m.getEntry( file ) );
+            result.put( file.getPath(), entry.isPresent() ? entry.get().getContentHash() : FileUtil.sha256( file ) );
+        }
+        return result;
+    }
+
+    private Map<String, List<File>> groupIntoChunks( List<File> files ) {
+        Map<String, List<File>> chunks = Maps.newTreeMap();
+        Path sourceDir = config.getSourceDir().toPath();
+        for( File file : files ) {
+            String baseName = ReportModelFileFormat.getBaseName( file );
+            String packageName = baseName.contains( "." ) ? baseName.substring( 0, baseName.lastIndexOf( '.' ) ) : "";
+            String directory = sourceDir.relativize( file.getParentFile().toPath() ).toString()
+                .replace( File.separatorChar, '/' );
+            chunks.computeIfAbsent( directory + ":" + packageName, key -> Lists.newArrayList() ).add( file );
+        }
+        return chunks;
+    }
+
+    /**
+     * The hash includes the key of the chunk, so that chunks with identical files,
+     * e.g. the same results in two directories, never share a data file.
+     */
+    private String getInputHash( String chunkKey, List<File> files, Map<String, String> contentHashes ) {
+        Hasher hasher = Hashing.sha256().newHasher();
+        hasher.putString( chunkKey, Charsets.UTF_8 ).putChar( '\n' );
+        for( File file : files ) {
+            hasher.putString( file.getName(), Charsets.UTF_8 ).putChar( '=' )
+                .putString( contentHashes.get( file.getPath() ), Charsets.UTF_8 ).putChar( '\n' );
+        }
+        return hasher.hash().toString();
+    }
+
+    /**
+     * Deletes the data files and attachment directories of all chunks of the previous state that are not reused.
+     */
+    private void deleteOutdatedChunks( IncrementalState previousState, IncrementalState state ) throws IOException {
+        Set<String> usedDataFiles = Sets.newHashSet();
+        Set<String> usedAttachmentDirs = Sets.newHashSet();
+        for( IncrementalState.DataChunk chunk : state.chunks.values() ) {
+            usedDataFiles.add( chunk.dataFile );
+            usedAttachmentDirs.addAll( chunk.attachmentDirs );
+        }
+        for( Map.Entry<String, IncrementalState.DataChunk> entry : previousState.chunks.entrySet() ) {
+            IncrementalState.DataChunk chunk = entry.getValue();
+            if( state.chunks.get( entry.getKey() ) == chunk ) {
+                continue;
+            }
+            if( !usedDataFiles.contains( chunk.dataFile ) ) {
+                java.nio.file.Files.deleteIfExists( new File( dataDirectory, chunk.dataFile ).toPath() );
+            }
+            for( String attachmentDir : chunk.attachmentDirs ) {
+                File dir = new File( dataDirectory, attachmentDir );
+                if( !usedAttachmentDirs.contains( attachmentDir ) && dir.isDirectory() ) {
+                    MoreFiles.deleteRecursively( dir.toPath(), RecursiveDeleteOption.ALLOW_INSECURE );
+                }
+            }
+        }
+    }
+
+    /**
+     * Deletes all data files and attachments, e.g. those of a previous non-incremental generation,
+     * which are not tracked by any incremental state. Only called when all chunks are regenerated.
+     */
+    private void deleteUntrackedDataFiles() throws IOException {
+        File[] dataFiles = dataDirectory.listFiles( ( dir, name ) -> DATA_FILE_PATTERN.matcher( name ).matches() );
+        for( File dataFile : dataFiles == null ? new File[0] : dataFiles ) {
+            java.nio.file.Files.delete( dataFile.toPath() );
+        }
+        File attachmentsDir = new File( dataDirectory, Html5AttachmentGenerator.ATTACHMENT_DIRNAME );
+        if( attachmentsDir.isDirectory() ) {
+            MoreFiles.deleteRecursively( attachmentsDir.toPath(), RecursiveDeleteOption.ALLOW_INSECURE );
+        }
+    }
+
+    private void writeChangedChunks( IncrementalState state, Map<String, List<File>> changedChunks ) {
+        attachmentGenerator = new Html5AttachmentGenerator();
+        attachmentGenerator.setThumbnailCacheDir( specializedConfig.getThumbnailCacheDir() );
+        dataFileEncoder = new DataFileEncoder( GSON, specializedConfig.getEncoderThreads() );
+        ReportModelReader reader = new ReportModelReader( config );
+        try {
+            for( Map.Entry<String, List<File>> entry : changedChunks.entrySet() ) {
+                IncrementalState.DataChunk chunk = state.chunks.get( entry.getKey() );
+                // chunks must not share attachment files, as they are deleted independently
+                attachmentGenerator.resetWrittenAttachments();
+                startBatch( chunk.dataFile );
+                reader.readFiles( entry.getValue(), modelFile -> {
+                    ReportModel model = modelFile.model();
+                    chunk.tags.putAll( model.getTagMap() );
+                    String attachmentDir = Html5AttachmentGenerator.getAttachmentSubDir( model )
+                        .replace( File.separatorChar, '/' );
+                    if( !chunk.attachmentDirs.contains( attachmentDir ) ) {
+                        chunk.attachmentDirs.add( attachmentDir );
+                    }
+                    addToBatch( model );
+                } );
+                submitBatch();
+            }
+            dataFileEncoder.awaitCompletion();
+        } catch( IOException e ) {
+            throw new UncheckedIOException( e );
+        } finally {
+            dataFileEncoder.shutdown();
+            attachmentGenerator.awaitCompletion();
         }
     }
 
@@ -127,6 +372,8 @@ public class Html5ReportGenerator extends AbstractReportGenerator {
                 List<ScenarioCaseModel> cases = scenarioModel.getScenarioCases();
                 for( int i = 1; i < cases.size(); i++ ) {
                     ScenarioCaseModel caseModel = cases.get( i );
+                    // the status is written to the data file and must be calculated before the steps are gone
+                    caseModel.getExecutionStatus();
                     caseModel.setSteps( Collections.<StepModel>emptyList() );
                 }
             }
@@ -155,41 +402,17 @@ public class Html5ReportGenerator extends AbstractReportGenerator {
         return count;
     }
 
-    private void closeWriter() throws IOException {
-        if( fileStream != null ) {
-            contentStream.append( "]}" );
-            contentStream.flush();
-            ResourceUtil.close( contentStream );
-            String base64String = BaseEncoding.base64().encode( byteStream.toByteArray() );
-            this.fileStream.append( "'" + base64String + "'" );
-            this.fileStream.append( ");" );
-            fileStream.flush();
-            ResourceUtil.close( fileStream );
-            fileStream = null;
-            log.info( "Written " + caseCountOfCurrentBatch + " scenarios to " + metaData.data.get( metaData.data.size() - 1 ) );
+    private void submitBatch() {
+        if( currentBatch != null ) {
+            dataFileEncoder.submit( new File( dataDirectory, currentFileName ), currentBatch, caseCountOfCurrentBatch );
+            currentBatch = null;
         }
     }
 
-    private void createWriter() {
-        if( this.fileStream == null ) {
-            String fileName = "data" + metaData.data.size() + ".js";
-            metaData.data.add( fileName );
-            File targetFile = new File( dataDirectory, fileName );
-            log.debug( "Generating " + targetFile + "..." );
-            caseCountOfCurrentBatch = 0;
-
-            try {
-                this.byteStream = new ByteArrayOutputStream();
-                // pako client side library expects byte stream to be UTF-8 encoded
-                this.contentStream = new PrintStream( new GZIPOutputStream( byteStream ), false, "utf-8" );
-                this.contentStream.append( "{\"scenarios\":[" );
-
-                this.fileStream = new PrintStream( new FileOutputStream( targetFile ), false, "utf-8" );
-                this.fileStream.append( "jgivenReport.addZippedScenarios(" );
-            } catch( Exception e ) {
-                throw new RuntimeException( "Could not open file " + targetFile + " for writing", e );
-            }
-        }
+    private void startBatch( String fileName ) {
+        currentFileName = fileName;
+        currentBatch = Lists.newArrayList();
+        caseCountOfCurrentBatch = 0;
     }
 
     static class MetaData {
@@ -211,13 +434,13 @@ public class Html5ReportGenerator extends AbstractReportGenerator {
         Files.write( content, metaDataFile, Charsets.UTF_8 );
     }
 
-    private void generateTagFile() throws IOException {
+    private void generateTagFile( Map<String, Tag> tagIdMap ) throws IOException {
         File tagFile = new File( dataDirectory, "tags.js" );
         log.debug( "Generating " + tagFile + "..." );
 
         TagFile tagFileContent = new TagFile();
-        tagFileContent.fill( completeReportModel.getTagIdMap() );
-        String content = "jgivenReport.setTags(" + new Gson().toJson( tagFileContent ) + " );";
+        tagFileContent.fill( tagIdMap );
+        String content = "jgivenReport.setTags(" + GSON.toJson( tagFileContent ) + " );";
 
         Files.write( content, tagFile, Charsets.UTF_8 );
 
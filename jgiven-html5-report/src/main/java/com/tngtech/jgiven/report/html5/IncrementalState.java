@@ -0,0 +1,83 @@
+package com.tngtech.jgiven.report.html5;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.base.Charsets;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.io.Files;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.tngtech.jgiven.report.model.Tag;
+
+/**
+ * The state of an incrementally generated HTML5 report, which is stored in the data directory of the report.
+ * <p>
+ * The JSON files are grouped into data chunks. For each chunk, the state contains the hash of the content
+ * of its JSON files, the generated data file, the attachment directories and the tags of its scenarios.
+ * Thus, a chunk whose JSON files have not changed does not have to be read again.
+ */
+class IncrementalState {
+    private static final Logger log = LoggerFactory.getLogger( IncrementalState.class );
+
+    static final String FILE_NAME = "incremental-state.json";
+
+    /**
+     * The version of the HTML5 app, the app is only unzipped again if it changes.
+     */
+    String appVersion;
+
+    /**
+     * The settings that influence the content of the data files, all chunks are regenerated if they change.
+     */
+    String settings;
+
+    Map<String, DataChunk> chunks = Maps.newTreeMap();
+
+    static class DataChunk {
+        String inputHash;
+        String dataFile;
+        List<String> attachmentDirs = Lists.newArrayList();
+        Map<String, Tag> tags = Maps.newLinkedHashMap();
+
+        DataChunk() {
+        }
+
+        DataChunk( String inputHash, String dataFile ) {
+            this.inputHash = inputHash;
+            this.dataFile = dataFile;
+        }
+    }
+
+    /**
+     * Reads the state from the given file, or returns an empty state if the file does not exist or cannot be read.
+     */
+    static IncrementalState read( File file, Gson gson ) {
+        if( !file.exists() ) {
+            return new IncrementalState();
+        }
+        try( Reader reader = Files.newReader( file, Charsets.UTF_8 ) ) {
+            IncrementalState state = gson.fromJson( reader, IncrementalState.class );
+            if( state != null && state.chunks != null ) {
+                return state;
+            }
+        } catch( IOException | JsonParseException e ) {
+            log.warn( "Could not read " + file + ", regenerating the complete report: " + e.getMessage() );
+        }
+        return new IncrementalState();
+    }
+
+    void write( File file, Gson gson ) throws IOException {
+        try( Writer writer = Files.newWriter( file, Charsets.UTF_8 ) ) {
+            gson.toJson( this, writer );
+        }
+    }
+}
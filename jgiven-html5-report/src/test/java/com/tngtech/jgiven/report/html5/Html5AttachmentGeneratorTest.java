@@ -1,10 +1,13 @@
 package com.tngtech.jgiven.report.html5;
 
 import static com.tngtech.jgiven.report.html5.Html5AttachmentGenerator.MINIMAL_THUMBNAIL_SIZE;
+import static com.tngtech.jgiven.report.html5.Html5AttachmentGenerator.getSubsampling;
 import static com.tngtech.jgiven.report.html5.Html5AttachmentGenerator.scaleDown;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.google.common.base.Charsets;
 import com.google.common.io.BaseEncoding;
+import com.google.common.io.Files;
 import com.tngtech.java.junit.dataprovider.DataProvider;
 import com.tngtech.java.junit.dataprovider.DataProviderRunner;
 import com.tngtech.jgiven.attachment.Attachment;
@@ -73,7 +76,7 @@ public class Html5AttachmentGeneratorTest {
     @Test
     public void testFindingAndGeneratingAttachmentsInAllSteps() throws IOException {
         File root = temporaryFolderRule.getRoot();
-        generator.generateAttachments(root, generateReportModelWithAttachments());
+        generator.generateAttachments(root, generateReportModelWithAttachments(otherImage()));
 
         File parentStepFile = new File(temporaryFolderRule.getRoot().getPath()
                         + "/attachments/testing/parentAttachment.gif");
@@ -87,6 +90,71 @@ public class Html5AttachmentGeneratorTest {
 
     }
 
+    @Test
+    public void testFileReferencesAreCopiedIntoTheReport() throws IOException {
+        File sourceFile = temporaryFolderRule.newFile("source.gif");
+        com.google.common.io.Files.write(BINARY_SAMPLE, sourceFile);
+        Attachment attachment = Attachment.fromFileReference(sourceFile, MediaType.GIF).withFileName("reference");
+        StepModel stepModel = new StepModel("test", Lists.newArrayList());
+        stepModel.addAttachment(attachment);
+
+        generator.visit(stepModel);
+
+        File writtenFile = new File(temporaryFolderRule.getRoot(), "reference.gif");
+        assertThat(writtenFile).hasBinaryContent(BINARY_SAMPLE);
+        assertThat(new File(temporaryFolderRule.getRoot(), "reference-thumb.gif")).exists();
+        assertThat(stepModel.getAttachments().get(0).getFilePath()).isNull();
+    }
+
+    @Test
+    public void testIdenticalAttachmentsAreOnlyWrittenOnce() {
+        File root = temporaryFolderRule.getRoot();
+        ReportModel model = generateReportModelWithAttachments(BINARY_SAMPLE);
+        generator.generateAttachments(root, model);
+        generator.awaitCompletion();
+
+        StepModel parentStep = model.getScenarios().get(0).getCase(0).getSteps().get(0);
+        StepModel nestedStep = parentStep.getNestedSteps().get(0);
+        assertThat(parentStep.getAttachments().get(0).getValue())
+            .isEqualTo(nestedStep.getAttachments().get(0).getValue());
+        assertThat(new File(root, "attachments/testing").list((dir, name) -> !name.contains("-thumb"))).hasSize(1);
+    }
+
+    @Test
+    public void testInlineAttachmentsAndFileReferencesWithIdenticalContentAreOnlyWrittenOnce() throws IOException {
+        File sourceFile = temporaryFolderRule.newFile("source.gif");
+        com.google.common.io.Files.write(BINARY_SAMPLE, sourceFile);
+        StepModel stepModel = new StepModel("test", Lists.newArrayList());
+        stepModel.addAttachment(Attachment.fromBinaryBytes(BINARY_SAMPLE, MediaType.GIF).withFileName("inline"));
+        stepModel.addAttachment(Attachment.fromFileReference(sourceFile, MediaType.GIF).withFileName("reference"));
+
+        generator.visit(stepModel);
+
+        assertThat(stepModel.getAttachments().get(1).getValue())
+            .isEqualTo(stepModel.getAttachments().get(0).getValue());
+        assertThat(new File(temporaryFolderRule.getRoot(), "reference.gif")).doesNotExist();
+    }
+
+    @Test
+    public void testThumbnailsAreTakenFromTheCache() throws IOException {
+        File cacheDir = temporaryFolderRule.newFolder("cache");
+        generator.setThumbnailCacheDir(cacheDir);
+        generator.visit(stepWithAttachment("first"));
+
+        File[] cachedFiles = cacheDir.listFiles();
+        assertThat(cachedFiles).hasSize(1);
+        assertThat(new File(temporaryFolderRule.getRoot(), "first-thumb.gif"))
+            .hasSameContentAs(cachedFiles[0]);
+
+        byte[] cachedThumbnail = otherImage();
+        com.google.common.io.Files.write(cachedThumbnail, cachedFiles[0]);
+        Html5AttachmentGenerator secondGenerator = new Html5AttachmentGenerator(temporaryFolderRule.getRoot());
+        secondGenerator.setThumbnailCacheDir(cacheDir);
+        secondGenerator.visit(stepWithAttachment("second"));
+
+        assertThat(new File(temporaryFolderRule.getRoot(), "second-thumb.gif")).hasBinaryContent(cachedThumbnail);
+    }
+
     @Test
     public void testGetImageDimensions() {
         assertThat(generator.getImageDimension(BINARY_SAMPLE)).isEqualTo(new Dimension(22, 22));
@@ -120,8 +188,36 @@ public class Html5AttachmentGeneratorTest {
                 .isEqualTo(new Dimension(MINIMAL_THUMBNAIL_SIZE, MINIMAL_THUMBNAIL_SIZE));
     }
 
-    private ReportModel generateReportModelWithAttachments() {
-        Attachment nestedAttachment = Attachment.fromBinaryBytes(BINARY_SAMPLE, MediaType.GIF)
+    @Test
+    public void testSVGThumbnailsAreRenderedAtTheThumbnailSize() throws IOException {
+        File wideSVG = temporaryFolderRule.newFile("WideSVG.svg");
+        Files.write("<svg xmlns=\"http://www.w3.org/2000/svg\" height=\"100px\" width=\"200px\">"
+            + "<rect width=\"200\" height=\"100\" fill=\"red\"/></svg>", wideSVG, Charsets.UTF_8);
+        StepModel stepModel = new StepModel("svgTest", Lists.newArrayList());
+        stepModel.addAttachment(Attachment.fromTextFile(wideSVG, MediaType.SVG_UTF_8).withFileName("Wide"));
+
+        generator.visit(stepModel);
+
+        String thumbnail = Files.toString(new File(temporaryFolderRule.getRoot(), "Wide-thumb.svg"), Charsets.UTF_8);
+        String embeddedPNG = thumbnail.replaceAll("(?s).*base64, ([^\"]*)\".*", "$1");
+        assertThat(generator.getImageDimension(BaseEncoding.base64().decode(embeddedPNG)))
+                .isEqualTo(new Dimension(2 * MINIMAL_THUMBNAIL_SIZE, MINIMAL_THUMBNAIL_SIZE));
+    }
+
+    private StepModel stepWithAttachment(String fileName) {
+        StepModel stepModel = new StepModel("test", Lists.newArrayList());
+        stepModel.addAttachment(Attachment.fromBinaryBytes(BINARY_SAMPLE, MediaType.GIF).withFileName(fileName));
+        return stepModel;
+    }
+
+    private byte[] otherImage() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(30, 30, BufferedImage.TYPE_INT_RGB), "gif", outputStream);
+        return outputStream.toByteArray();
+    }
+
+    private ReportModel generateReportModelWithAttachments(byte[] nestedContent) {
+        Attachment nestedAttachment = Attachment.fromBinaryBytes(nestedContent, MediaType.GIF)
                                 .withFileName("nestedAttachment");
         Attachment parentAttachment = Attachment.fromBinaryBytes(BINARY_SAMPLE, MediaType.GIF)
                                 .withFileName("parentAttachment");
@@ -157,4 +253,15 @@ public class Html5AttachmentGeneratorTest {
         assertThat(thumb.getWidth()).isEqualTo(expectedWidth);
         assertThat(thumb.getHeight()).isEqualTo(expectedHeight);
     }
+
+    @Test
+    @DataProvider(value = {
+        "22, 22, 1",
+        "40, 1000, 1",
+        "4000, 3000, 75",
+        "1000, 100, 2"
+    })
+    public void testSubsamplingKeepsEnoughPixelsForTheThumbnail(int width, int height, int expectedSubsampling) {
+        assertThat(getSubsampling(width, height)).isEqualTo(expectedSubsampling);
+    }
 }
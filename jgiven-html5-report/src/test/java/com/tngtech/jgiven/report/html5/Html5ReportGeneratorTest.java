@@ -0,0 +1,160 @@
+package com.tngtech.jgiven.report.html5;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.base.Charsets;
+import com.google.common.io.Files;
+import com.tngtech.jgiven.report.json.ScenarioJsonWriter;
+import com.tngtech.jgiven.report.model.ExecutionStatus;
+import com.tngtech.jgiven.report.model.ReportModel;
+import com.tngtech.jgiven.report.model.ScenarioCaseModel;
+import com.tngtech.jgiven.report.model.ScenarioModel;
+import com.tngtech.jgiven.report.model.Tag;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class Html5ReportGeneratorTest {
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void only_the_data_of_changed_packages_is_regenerated_incrementally() throws IOException {
+        File sourceDir = temporaryFolder.newFolder( "json" );
+        File targetDir = temporaryFolder.newFolder( "html5" );
+        writeModel( sourceDir, "a.A1", "scenario" );
+        writeModel( sourceDir, "a.A2", "scenario" );
+        writeModel( sourceDir, "b.B1", "scenario" );
+
+        List<String> firstDataFiles = generateIncrementally( sourceDir, targetDir );
+        assertThat( firstDataFiles ).hasSize( 2 );
+        assertThat( generateIncrementally( sourceDir, targetDir ) ).isEqualTo( firstDataFiles );
+
+        writeModel( sourceDir, "b.B1", "changed scenario" );
+        List<String> secondDataFiles = generateIncrementally( sourceDir, targetDir );
+        assertThat( secondDataFiles ).hasSize( 2 );
+        assertThat( secondDataFiles.get( 0 ) ).isEqualTo( firstDataFiles.get( 0 ) );
+        assertThat( secondDataFiles.get( 1 ) ).isNotEqualTo( firstDataFiles.get( 1 ) );
+        assertThat( new File( targetDir, "data/" + firstDataFiles.get( 1 ) ).exists() ).isFalse();
+
+        assertThat( new File( sourceDir, "a.A2.json" ).delete() ).isTrue();
+        generateIncrementally( sourceDir, targetDir );
+        assertThat( new File( targetDir, "data/attachments/a/A2" ).exists() ).isFalse();
+        assertThat( new File( targetDir, "data/attachments/a/A1" ).exists() ).isTrue();
+    }
+
+    @Test
+    public void chunks_with_identical_files_in_different_directories_do_not_share_a_data_file() throws IOException {
+        File sourceDir = temporaryFolder.newFolder( "json" );
+        File targetDir = temporaryFolder.newFolder( "html5" );
+        File firstShard = new File( sourceDir, "shard1" );
+        File secondShard = new File( sourceDir, "shard2" );
+        assertThat( firstShard.mkdir() && secondShard.mkdir() ).isTrue();
+        writeModel( firstShard, "a.A1", "scenario" );
+        writeModel( secondShard, "a.A1", "scenario" );
+
+        List<String> firstDataFiles = generateIncrementally( sourceDir, targetDir );
+        assertThat( firstDataFiles ).hasSize( 2 );
+
+        writeModel( firstShard, "a.A1", "changed scenario" );
+        List<String> secondDataFiles = generateIncrementally( sourceDir, targetDir );
+        assertThat( secondDataFiles ).hasSize( 2 );
+        List<String> reusedDataFiles = new ArrayList<>( secondDataFiles );
+        reusedDataFiles.retainAll( firstDataFiles );
+        assertThat( reusedDataFiles ).hasSize( 1 );
+    }
+
+    @Test
+    public void the_data_files_of_a_full_generation_are_deleted_by_an_incremental_one() throws IOException {
+        File sourceDir = temporaryFolder.newFolder( "json" );
+        File targetDir = temporaryFolder.newFolder( "html5" );
+        writeModel( sourceDir, "a.A1", "scenario" );
+        writeModel( sourceDir, "b.B1", "scenario" );
+        generate( sourceDir, targetDir, 1 );
+        assertThat( getDataFiles( targetDir, "data0" ) ).hasSize( 1 );
+
+        assertThat( new File( sourceDir, "b.B1.json" ).delete() ).isTrue();
+        assertThat( generateIncrementally( sourceDir, targetDir ) ).hasSize( 1 );
+        assertThat( getDataFiles( targetDir, "data0" ) ).isEmpty();
+        assertThat( new File( targetDir, "data/attachments/b/B1" ).exists() ).isFalse();
+        assertThat( new File( targetDir, "data/attachments/a/A1" ).exists() ).isTrue();
+        assertThat( new File( targetDir, "data/metaData.js" ).exists() ).isTrue();
+    }
+
+    @Test
+    public void the_data_files_do_not_depend_on_the_number_of_encoder_threads() throws IOException {
+        File sourceDir = temporaryFolder.newFolder( "json" );
+        for( int i = 0; i < 30; i++ ) {
+            writeModel( sourceDir, "a.A" + i, "scenario", 10 );
+        }
+
+        File singleThreadDir = temporaryFolder.newFolder( "single" );
+        File multiThreadDir = temporaryFolder.newFolder( "multi" );
+        generate( sourceDir, singleThreadDir, 1 );
+        generate( sourceDir, multiThreadDir, 4 );
+
+        List<String> dataFiles = getDataFiles( singleThreadDir, "data" );
+        assertThat( dataFiles ).hasSize( 3 );
+        assertThat( getDataFiles( multiThreadDir, "data" ) ).isEqualTo( dataFiles );
+        for( String dataFile : dataFiles ) {
+            assertThat( Files.toString( new File( multiThreadDir, "data/" + dataFile ), Charsets.UTF_8 ) )
+                .isEqualTo( Files.toString( new File( singleThreadDir, "data/" + dataFile ), Charsets.UTF_8 ) );
+        }
+    }
+
+    private void generate( File sourceDir, File targetDir, int encoderThreads ) {
+        Html5ReportConfig config = new Html5ReportConfig();
+        config.setSourceDir( sourceDir );
+        config.setTargetDir( targetDir );
+        config.setEncoderThreads( encoderThreads );
+        new Html5ReportGenerator().generateWithConfig( config );
+    }
+
+    /**
+     * Returns the data files of the generated report.
+     */
+    private List<String> generateIncrementally( File sourceDir, File targetDir ) {
+        Html5ReportConfig config = new Html5ReportConfig();
+        config.setSourceDir( sourceDir );
+        config.setTargetDir( targetDir );
+        config.setIncremental( true );
+        new Html5ReportGenerator().generateWithConfig( config );
+        return getDataFiles( targetDir, "data_" );
+    }
+
+    private List<String> getDataFiles( File targetDir, String prefix ) {
+        return Arrays.stream( new File( targetDir, "data" ).list() )
+            .filter( name -> name.startsWith( prefix ) && name.endsWith( ".js" ) )
+            .sorted()
+            .collect( Collectors.toList() );
+    }
+
+    private void writeModel( File sourceDir, String className, String description ) {
+        writeModel( sourceDir, className, description, 1 );
+    }
+
+    private void writeModel( File sourceDir, String className, String description, int caseCount ) {
+        ReportModel model = new ReportModel();
+        model.setClassName( className );
+        Tag tag = new Tag( "tag" );
+        model.addTag( tag );
+        ScenarioModel scenario = new ScenarioModel();
+        scenario.setClassName( className );
+        scenario.setDescription( description );
+        scenario.addTag( tag );
+        for( int i = 0; i < caseCount; i++ ) {
+            ScenarioCaseModel scenarioCase = new ScenarioCaseModel();
+            scenarioCase.setStatus( ExecutionStatus.SUCCESS );
+            scenario.addCase( scenarioCase );
+        }
+        model.getScenarios().add( scenario );
+        new ScenarioJsonWriter( model ).write( new File( sourceDir, className + ".json" ) );
+    }
+}
@@ -3,6 +3,7 @@ package com.tngtech.jgiven.junit;
 import org.junit.rules.TestWatcher;
 import org.junit.runner.Description;
 
+import com.tngtech.jgiven.impl.inject.ScopedValueStore;
 import com.tngtech.jgiven.report.impl.CommonReportHelper;
 
 public class JGivenClassRule extends TestWatcher {
@@ -17,8 +18,14 @@ public class JGivenClassRule extends TestWatcher {
         return commonReportHelper;
     }
 
+    @Override
+    protected void starting( Description description ) {
+        ScopedValueStore.openClassScope( description.getClassName() );
+    }
+
     @Override
     protected void finished( Description description ) {
+        ScopedValueStore.closeClassScope( description.getClassName() );
         commonReportHelper.finishReport( ScenarioModelHolder.getInstance().getAndRemoveReportModel( description.getTestClass() ) );
     }
 }
@@ -26,4 +26,14 @@ public class DualScenarioTest<GIVEN_WHEN, THEN> extends DualScenarioTestBase<GIV
     public Scenario<GIVEN_WHEN, GIVEN_WHEN, THEN> getScenario() {
         return scenario;
     }
+
+    /**
+     * Replaces the scenario of this test by a new one.
+     * Used for test classes with a {@code PER_CLASS} lifecycle, where the test instance is shared by several scenarios.
+     */
+    @Override
+    public Scenario<GIVEN_WHEN, GIVEN_WHEN, THEN> createNewScenario() {
+        scenario = createScenario();
+        return scenario;
+    }
 }
@@ -6,9 +6,9 @@ import static com.tngtech.jgiven.report.model.ExecutionStatus.SUCCESS;
 import com.tngtech.jgiven.base.ScenarioTestBase;
 import com.tngtech.jgiven.config.AbstractJGivenConfiguration;
 import com.tngtech.jgiven.config.ConfigurationUtil;
-import com.tngtech.jgiven.exception.JGivenWrongUsageException;
 import com.tngtech.jgiven.impl.ScenarioBase;
 import com.tngtech.jgiven.impl.ScenarioHolder;
+import com.tngtech.jgiven.impl.inject.ScopedValueStore;
 import com.tngtech.jgiven.report.impl.CommonReportHelper;
 import com.tngtech.jgiven.report.model.ReportModel;
 import java.util.EnumSet;
@@ -35,6 +35,11 @@ import org.junit.jupiter.api.extension.TestInstancePostProcessor;
  *     <li>{@link ScenarioTest}</li>
  *     <li>{@link SimpleScenarioTest}</li>
  * </ul>
+ * <p>
+ * Test classes annotated with {@code @TestInstance( Lifecycle.PER_CLASS )} are supported as well.
+ * In that case the test instance is shared between all scenarios of the class, but every scenario
+ * still gets a fresh scenario and fresh stage instances, which are injected into the test instance
+ * before each test. Scenarios of such a class must not be executed concurrently.
  *
  * @see ScenarioTest
  * @see SimpleScenarioTest
@@ -52,8 +57,7 @@ public class JGivenExtension implements
 
     @Override
     public void beforeAll(ExtensionContext context) {
-        validatePerMethodLifecycle(context);
-
+        ScopedValueStore.openClassScope(context.getRequiredTestClass().getName());
         ReportModel reportModel = new ReportModel();
         reportModel.setTestClass(context.getTestClass().get());
         if (!context.getDisplayName().equals(context.getTestClass().get().getSimpleName())) {
@@ -72,11 +76,16 @@ public class JGivenExtension implements
     @Override
     public void afterAll(ExtensionContext context) {
         ScenarioHolder.get().removeScenarioOfCurrentThread();
+        ScopedValueStore.closeClassScope(context.getRequiredTestClass().getName());
         new CommonReportHelper().finishReport((ReportModel) context.getStore(NAMESPACE).get(REPORT_MODEL));
     }
 
     @Override
     public void beforeEach(ExtensionContext context) {
+        if (isPerClassLifecycle(context)) {
+            setupScenarioForSharedTestInstance(context);
+        }
+
         getScenario().startScenario(context.getTestClass().get(), context.getTestMethod().get(),
             ArgumentReflectionUtil.getNamedArgs(context));
     }
@@ -105,6 +114,11 @@ public class JGivenExtension implements
 
     @Override
     public void postProcessTestInstance(Object testInstance, ExtensionContext context) {
+        if (isPerClassLifecycle(context)) {
+            // the scenario is created before each test, see setupScenarioForSharedTestInstance
+            return;
+        }
+
         ScenarioBase currentScenario = ScenarioHolder.get().getScenarioOfCurrentThread();
 
         ScenarioBase scenario;
@@ -128,11 +142,27 @@ public class JGivenExtension implements
         scenario.getExecutor().readScenarioState(testInstance);
     }
 
-    private void validatePerMethodLifecycle(ExtensionContext context) {
-        if (isPerClassLifecycle(context)) {
-            throw new JGivenWrongUsageException(
-                "JGiven does not support keeping a test instance over multiple scenarios. Please use Lifecycle '"
-                    + TestInstance.Lifecycle.PER_METHOD + "'.");
+    /**
+     * Creates a new scenario for the upcoming test and injects fresh stages into the
+     * shared test instance, as well as into all enclosing instances in case of nested tests.
+     */
+    private void setupScenarioForSharedTestInstance(ExtensionContext context) {
+        Object testInstance = context.getRequiredTestInstance();
+
+        ScenarioBase scenario;
+        if (testInstance instanceof ScenarioTestBase) {
+            scenario = ((ScenarioTestBase<?, ?, ?>) testInstance).createNewScenario();
+        } else {
+            scenario = new ScenarioBase();
+        }
+
+        ReportModel reportModel = (ReportModel) context.getStore(NAMESPACE).get(REPORT_MODEL);
+        scenario.setModel(reportModel);
+        ScenarioHolder.get().setScenarioOfCurrentThread(scenario);
+
+        for (Object instance : context.getRequiredTestInstances().getAllInstances()) {
+            scenario.getExecutor().injectStages(instance);
+            scenario.getExecutor().readScenarioState(instance);
         }
     }
 
@@ -27,4 +27,14 @@ public class ScenarioTest<GIVEN, WHEN, THEN> extends ScenarioTestBase<GIVEN, WHE
     public Scenario<GIVEN, WHEN, THEN> getScenario() {
         return scenario;
     }
+
+    /**
+     * Replaces the scenario of this test by a new one.
+     * Used for test classes with a {@code PER_CLASS} lifecycle, where the test instance is shared by several scenarios.
+     */
+    @Override
+    public Scenario<GIVEN, WHEN, THEN> createNewScenario() {
+        scenario = createScenario();
+        return scenario;
+    }
 }
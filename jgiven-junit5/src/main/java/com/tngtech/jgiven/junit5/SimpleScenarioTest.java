@@ -15,4 +15,14 @@ public class SimpleScenarioTest<STAGE> extends SimpleScenarioTestBase<STAGE> {
     public Scenario<STAGE, STAGE, STAGE> getScenario() {
         return scenario;
     }
+
+    /**
+     * Replaces the scenario of this test by a new one.
+     * Used for test classes with a {@code PER_CLASS} lifecycle, where the test instance is shared by several scenarios.
+     */
+    @Override
+    public Scenario<STAGE, STAGE, STAGE> createNewScenario() {
+        scenario = createScenario();
+        return scenario;
+    }
 }
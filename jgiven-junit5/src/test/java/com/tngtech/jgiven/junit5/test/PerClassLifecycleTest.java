@@ -0,0 +1,41 @@
+package com.tngtech.jgiven.junit5.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.tngtech.jgiven.junit5.ScenarioTest;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+@TestInstance( TestInstance.Lifecycle.PER_CLASS )
+public class PerClassLifecycleTest extends ScenarioTest<GivenStage, WhenStage, ThenStage> {
+
+    private Object expensiveFixture;
+
+    private GivenStage givenStageOfPreviousScenario;
+
+    @BeforeAll
+    public void setupExpensiveFixture() {
+        expensiveFixture = new Object();
+    }
+
+    @Test
+    public void JGiven_works_with_a_per_class_lifecycle() {
+        runScenarioAndCheckStages();
+    }
+
+    @Test
+    public void each_scenario_gets_fresh_stages_with_a_per_class_lifecycle() {
+        runScenarioAndCheckStages();
+    }
+
+    private void runScenarioAndCheckStages() {
+        assertThat( expensiveFixture ).isNotNull();
+        assertThat( getScenario().getGivenStage() ).isNotSameAs( givenStageOfPreviousScenario );
+        givenStageOfPreviousScenario = getScenario().getGivenStage();
+
+        given().some_state();
+        when().some_action();
+        then().some_outcome();
+    }
+}
@@ -0,0 +1,143 @@
+package com.tngtech.jgiven.integration.spring.lookup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import com.tngtech.jgiven.Stage;
+import com.tngtech.jgiven.impl.intercept.StepInterceptor;
+import com.tngtech.jgiven.integration.spring.EnableJGiven;
+import com.tngtech.jgiven.integration.spring.JGivenStage;
+import com.tngtech.jgiven.integration.spring.SpringStageCreator;
+
+/**
+ * Checks how the {@link SpringStageCreator} finds the bean of a stage class.
+ * The contexts are created by hand, as the Spring test support does not allow
+ * to inspect the lookups.
+ */
+public class SpringStageLookupTest {
+
+    private static final StepInterceptor STEP_INTERCEPTOR = ( receiver, method, parameters, invoker ) -> invoker.proceed();
+
+    private AnnotationConfigApplicationContext parent;
+    private CountingApplicationContext child;
+
+    @After
+    public void closeContexts() {
+        if( child != null ) {
+            child.close();
+        }
+        if( parent != null ) {
+            parent.close();
+        }
+    }
+
+    @Test
+    public void stage_beans_of_a_parent_context_are_found() {
+        parent = new AnnotationConfigApplicationContext( StageConfig.class, LookupStage.class );
+        child = createChild( parent );
+
+        LookupStage stage = child.getBean( SpringStageCreator.class ).createStage( LookupStage.class, STEP_INTERCEPTOR );
+
+        assertThat( stage.service ).isSameAs( parent.getBean( LookupService.class ) );
+    }
+
+    @Test
+    public void the_primary_stage_bean_is_used_if_there_are_several() {
+        parent = new AnnotationConfigApplicationContext( StageConfig.class, LookupStage.class, PrimaryLookupStage.class );
+        child = createChild( parent );
+
+        LookupStage stage = child.getBean( SpringStageCreator.class ).createStage( LookupStage.class, STEP_INTERCEPTOR );
+
+        assertThat( stage ).isInstanceOf( PrimaryLookupStage.class );
+        assertThat( stage.service ).isNotNull();
+    }
+
+    @Test
+    public void the_default_proxy_is_used_if_there_are_several_stage_beans_and_none_is_primary() {
+        parent = new AnnotationConfigApplicationContext( StageConfig.class, LookupStage.class, OtherLookupStage.class );
+        child = createChild( parent );
+        SpringStageCreator stageCreator = child.getBean( SpringStageCreator.class );
+        child.getBeanNamesForTypeCalls = 0;
+
+        LookupStage stage = stageCreator.createStage( LookupStage.class, STEP_INTERCEPTOR );
+        stageCreator.createStage( LookupStage.class, STEP_INTERCEPTOR );
+
+        assertThat( stage ).isNotInstanceOf( OtherLookupStage.class );
+        assertThat( stage.service ).isNull();
+        assertThat( child.getBeanNamesForTypeCalls ).isEqualTo( 1 );
+    }
+
+    @Test
+    public void the_bean_name_is_looked_up_only_once_per_context_and_stage_class() {
+        parent = new AnnotationConfigApplicationContext( StageConfig.class );
+        child = createChild( parent );
+        SpringStageCreator stageCreator = child.getBean( SpringStageCreator.class );
+        child.getBeanNamesForTypeCalls = 0;
+
+        stageCreator.createStage( UniqueStage.class, STEP_INTERCEPTOR );
+        stageCreator.createStage( UniqueStage.class, STEP_INTERCEPTOR );
+
+        assertThat( child.getBeanNamesForTypeCalls ).isEqualTo( 1 );
+    }
+
+    private static CountingApplicationContext createChild( AnnotationConfigApplicationContext parent ) {
+        CountingApplicationContext child = new CountingApplicationContext();
+        child.setParent( parent );
+        child.register( ChildConfig.class );
+        child.refresh();
+        return child;
+    }
+
+    @Configuration
+    @EnableJGiven
+    static class StageConfig {
+
+        @Bean
+        public LookupService lookupService() {
+            return new LookupService();
+        }
+    }
+
+    @Configuration
+    @EnableJGiven
+    static class ChildConfig {
+    }
+
+    static class CountingApplicationContext extends AnnotationConfigApplicationContext {
+        int getBeanNamesForTypeCalls;
+
+        @Override
+        public String[] getBeanNamesForType( Class<?> type ) {
+            getBeanNamesForTypeCalls++;
+            return super.getBeanNamesForType( type );
+        }
+    }
+
+    static class LookupService {
+    }
+
+    @JGivenStage
+    static class LookupStage extends Stage<LookupStage> {
+        @Autowired
+        LookupService service;
+    }
+
+    @JGivenStage
+    @Primary
+    static class PrimaryLookupStage extends LookupStage {
+    }
+
+    @JGivenStage
+    static class OtherLookupStage extends LookupStage {
+    }
+
+    static class UniqueStage extends Stage<UniqueStage> {
+    }
+}
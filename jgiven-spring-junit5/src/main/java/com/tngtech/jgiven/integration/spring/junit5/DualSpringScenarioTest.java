@@ -24,6 +24,8 @@ public class DualSpringScenarioTest<GIVEN_WHEN, THEN> extends
 
     private Scenario<GIVEN_WHEN,GIVEN_WHEN, THEN> scenario = createScenario();
 
+    private SpringStageCreator stageCreator;
+
     @Override
     public Scenario<GIVEN_WHEN, GIVEN_WHEN, THEN> getScenario() {
         return scenario;
@@ -31,6 +33,20 @@ public class DualSpringScenarioTest<GIVEN_WHEN, THEN> extends
 
     @Override
     public void setBeanFactory( BeanFactory beanFactory ) {
-        getScenario().setStageCreator( beanFactory.getBean( SpringStageCreator.class ) );
+        stageCreator = beanFactory.getBean( SpringStageCreator.class );
+        getScenario().setStageCreator( stageCreator );
+    }
+
+    /**
+     * Replaces the scenario of this test by a new one that creates its stages with the Spring stage creator.
+     * Used for test classes with a {@code PER_CLASS} lifecycle, where the test instance is shared by several scenarios.
+     */
+    @Override
+    public Scenario<GIVEN_WHEN, GIVEN_WHEN, THEN> createNewScenario() {
+        scenario = createScenario();
+        if( stageCreator != null ) {
+            scenario.setStageCreator( stageCreator );
+        }
+        return scenario;
     }
 }
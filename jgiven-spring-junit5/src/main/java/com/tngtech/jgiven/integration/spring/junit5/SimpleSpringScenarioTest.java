@@ -23,6 +23,8 @@ public class SimpleSpringScenarioTest<STAGE> extends
 
     private Scenario<STAGE, STAGE, STAGE> scenario = createScenario();
 
+    private SpringStageCreator stageCreator;
+
     @Override
     public Scenario<STAGE, STAGE, STAGE> getScenario() {
         return scenario;
@@ -30,6 +32,20 @@ public class SimpleSpringScenarioTest<STAGE> extends
 
     @Override
     public void setBeanFactory( BeanFactory beanFactory ) {
-        getScenario().setStageCreator( beanFactory.getBean( SpringStageCreator.class ) );
+        stageCreator = beanFactory.getBean( SpringStageCreator.class );
+        getScenario().setStageCreator( stageCreator );
+    }
+
+    /**
+     * Replaces the scenario of this test by a new one that creates its stages with the Spring stage creator.
+     * Used for test classes with a {@code PER_CLASS} lifecycle, where the test instance is shared by several scenarios.
+     */
+    @Override
+    public Scenario<STAGE, STAGE, STAGE> createNewScenario() {
+        scenario = createScenario();
+        if( stageCreator != null ) {
+            scenario.setStageCreator( stageCreator );
+        }
+        return scenario;
     }
 }
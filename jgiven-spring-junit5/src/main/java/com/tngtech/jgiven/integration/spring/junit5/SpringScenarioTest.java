@@ -25,6 +25,8 @@ public class SpringScenarioTest<GIVEN, WHEN, THEN> extends
 
     private Scenario<GIVEN, WHEN, THEN> scenario = createScenario();
 
+    private SpringStageCreator stageCreator;
+
     @Override
     public Scenario<GIVEN, WHEN, THEN> getScenario() {
         return scenario;
@@ -32,6 +34,20 @@ public class SpringScenarioTest<GIVEN, WHEN, THEN> extends
 
     @Override
     public void setBeanFactory( BeanFactory beanFactory ) {
-        getScenario().setStageCreator( beanFactory.getBean( SpringStageCreator.class ) );
+        stageCreator = beanFactory.getBean( SpringStageCreator.class );
+        getScenario().setStageCreator( stageCreator );
+    }
+
+    /**
+     * Replaces the scenario of this test by a new one that creates its stages with the Spring stage creator.
+     * Used for test classes with a {@code PER_CLASS} lifecycle, where the test instance is shared by several scenarios.
+     */
+    @Override
+    public Scenario<GIVEN, WHEN, THEN> createNewScenario() {
+        scenario = createScenario();
+        if( stageCreator != null ) {
+            scenario.setStageCreator( stageCreator );
+        }
+        return scenario;
     }
 }
@@ -0,0 +1,35 @@
+package com.tngtech.jgiven.integration.spring.junit5.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.tngtech.jgiven.integration.spring.junit5.SimpleSpringScenarioTest;
+import com.tngtech.jgiven.integration.spring.junit5.config.TestSpringConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.test.context.ContextConfiguration;
+
+@TestInstance( TestInstance.Lifecycle.PER_CLASS )
+@ContextConfiguration( classes = TestSpringConfig.class )
+public class SpringPerClassLifecycleTest extends SimpleSpringScenarioTest<SimpleTestSpringSteps> {
+
+    private Object stageOfPreviousScenario;
+
+    @Test
+    public void spring_can_inject_beans_into_stages_with_a_per_class_lifecycle_A() {
+        runScenarioAndCheckStage();
+    }
+
+    @Test
+    public void spring_can_inject_beans_into_stages_with_a_per_class_lifecycle_B() {
+        runScenarioAndCheckStage();
+    }
+
+    private void runScenarioAndCheckStage() {
+        assertThat( given() ).isNotSameAs( stageOfPreviousScenario );
+        stageOfPreviousScenario = given();
+
+        given().a_step_that_is_a_spring_component();
+        when().methods_on_this_component_are_called();
+        then().beans_are_injected();
+    }
+}
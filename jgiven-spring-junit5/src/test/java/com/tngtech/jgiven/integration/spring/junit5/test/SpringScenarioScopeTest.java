@@ -0,0 +1,57 @@
+package com.tngtech.jgiven.integration.spring.junit5.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.test.context.ContextConfiguration;
+
+import com.tngtech.jgiven.Stage;
+import com.tngtech.jgiven.integration.spring.JGivenStage;
+import com.tngtech.jgiven.integration.spring.junit5.SimpleSpringScenarioTest;
+import com.tngtech.jgiven.integration.spring.junit5.config.TestSpringConfig;
+
+@ContextConfiguration( classes = TestSpringConfig.class )
+public class SpringScenarioScopeTest extends SimpleSpringScenarioTest<SpringScenarioScopeTest.ScopedStage> {
+
+    private static final Set<Object> destroyedStages = Collections.newSetFromMap( new IdentityHashMap<>() );
+
+    private static Object previousStage;
+
+    @Test
+    public void stages_are_destroyed_when_the_scenario_has_finished_A() {
+        checkPreviousStage();
+    }
+
+    @Test
+    public void stages_are_destroyed_when_the_scenario_has_finished_B() {
+        checkPreviousStage();
+    }
+
+    private void checkPreviousStage() {
+        given().the_stage_of_the_previous_scenario_has_been_destroyed( previousStage );
+        previousStage = given();
+    }
+
+    @JGivenStage
+    static class ScopedStage extends Stage<ScopedStage> implements DisposableBean {
+
+        public ScopedStage the_stage_of_the_previous_scenario_has_been_destroyed( Object previousStage ) {
+            assertThat( destroyedStages ).doesNotContain( this );
+            if( previousStage != null ) {
+                assertThat( previousStage ).isNotSameAs( this );
+                assertThat( destroyedStages ).contains( previousStage );
+            }
+            return self();
+        }
+
+        @Override
+        public void destroy() {
+            destroyedStages.add( this );
+        }
+    }
+}
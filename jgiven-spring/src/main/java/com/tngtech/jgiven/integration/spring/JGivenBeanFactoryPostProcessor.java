@@ -6,6 +6,7 @@ import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
 import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.DefaultSingletonBeanRegistry;
 
 import com.tngtech.jgiven.impl.ByteBuddyStageClassCreator;
 import com.tngtech.jgiven.impl.CachingStageClassCreator;
@@ -17,6 +18,15 @@ public class JGivenBeanFactoryPostProcessor implements BeanFactoryPostProcessor
 
     @Override
     public void postProcessBeanFactory( ConfigurableListableBeanFactory beanFactory ) throws BeansException {
+        if( beanFactory.getRegisteredScope( JGivenScenarioScope.SCOPE_NAME ) == null ) {
+            JGivenScenarioScope scope = new JGivenScenarioScope();
+            beanFactory.registerScope( JGivenScenarioScope.SCOPE_NAME, scope );
+            if( beanFactory instanceof DefaultSingletonBeanRegistry ) {
+                // destroys the scope together with the singletons when the bean factory is closed
+                ( (DefaultSingletonBeanRegistry) beanFactory ).registerDisposableBean( JGivenScenarioScope.class.getName(), scope );
+            }
+        }
+
         String[] beanNames = beanFactory.getBeanDefinitionNames();
         for( String beanName : beanNames ) {
             if( beanFactory.containsBeanDefinition( beanName ) ) {
@@ -27,6 +37,9 @@ public class JGivenBeanFactoryPostProcessor implements BeanFactoryPostProcessor
                         String className = beanDefinition.getBeanClassName();
                         Class<?> stageClass = createStageClass( beanName, className );
                         beanDefinition.setBeanClassName( stageClass.getName() );
+                        if( beanDefinition.isPrototype() ) {
+                            beanDefinition.setScope( JGivenScenarioScope.SCOPE_NAME );
+                        }
                     }
                 }
             }
@@ -0,0 +1,227 @@
+package com.tngtech.jgiven.integration.spring;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.beans.factory.config.Scope;
+import org.springframework.core.annotation.AnnotationUtils;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.MapMaker;
+import com.tngtech.jgiven.annotation.ReusableStage;
+
+/**
+ * Spring scope in which a bean exists once per JGiven scenario.
+ * <p>
+ * Beans of this scope are created when a stage of a scenario is created by the {@link SpringStageCreator}
+ * and are destroyed when the scenario has finished. Stage classes that are annotated with {@link ReusableStage}
+ * are not destroyed, as JGiven resets them and hands them over to the next scenario instead.
+ * These stages are pooled by the scope itself, so that they are only reused with the application context
+ * they have been created by, and are released together with it.
+ * <p>
+ * Outside of a scenario, each request for a bean of this scope creates a new instance, as for prototype beans.
+ * The scope is registered by the {@link JGivenBeanFactoryPostProcessor} and is the default scope of all
+ * beans annotated with {@link JGivenStage}.
+ * <p>
+ * When the bean factory is closed, the scope is destroyed as well. This destroys the beans of scenarios
+ * that have never been finished, e.g. because the test was aborted, and all pooled reusable stages.
+ *
+ * @since 1.4.0
+ */
+public class JGivenScenarioScope implements Scope, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger( JGivenScenarioScope.class );
+
+    /**
+     * The name under which the scope is registered.
+     */
+    public static final String SCOPE_NAME = "jgivenScenario";
+
+    private static final ThreadLocal<Object> currentScenario = new ThreadLocal<Object>();
+
+    /**
+     * The beans of all running scenarios. The keys are compared by identity. Note that the beans
+     * reference their scenario, so the beans of scenarios that are never finished are only released
+     * when the scope is destroyed.
+     */
+    private final Map<Object, ScenarioBeans> scenarios = new MapMaker().weakKeys().makeMap();
+
+    /**
+     * The reset instances of reusable stages, per thread. Threads are weakly referenced.
+     */
+    private final Map<Thread, Map<Class<?>, Deque<Object>>> reusableStages = new MapMaker().weakKeys().makeMap();
+
+    /**
+     * The destruction callbacks of all reusable stages that have outlived their scenario,
+     * keyed by stage instance. They are run when the scope is destroyed.
+     */
+    private final Map<Object, Runnable> reusableStageDestructionCallbacks =
+        Collections.synchronizedMap( new IdentityHashMap<Object, Runnable>() );
+
+    /**
+     * Makes the given scenario the current scenario of this thread.
+     *
+     * @return the previous scenario of this thread, which must be passed to {@link #leaveScenario(Object)}
+     */
+    static Object enterScenario( Object scenario ) {
+        Object previousScenario = currentScenario.get();
+        currentScenario.set( scenario );
+        return previousScenario;
+    }
+
+    static void leaveScenario( Object previousScenario ) {
+        if( previousScenario == null ) {
+            currentScenario.remove();
+        } else {
+            currentScenario.set( previousScenario );
+        }
+    }
+
+    /**
+     * Destroys all beans that have been created for the given scenario.
+     */
+    public void scenarioFinished( Object scenario ) {
+        ScenarioBeans scenarioBeans = scenarios.remove( scenario );
+        if( scenarioBeans != null ) {
+            scenarioBeans.destroy( reusableStageDestructionCallbacks );
+        }
+    }
+
+    /**
+     * Destroys the beans of all scenarios that have not been finished and all reusable stages.
+     */
+    @Override
+    public void destroy() {
+        for( Object scenario : new ArrayList<Object>( scenarios.keySet() ) ) {
+            ScenarioBeans scenarioBeans = scenarios.remove( scenario );
+            if( scenarioBeans != null ) {
+                scenarioBeans.destroy( null );
+            }
+        }
+        reusableStages.clear();
+
+        List<Runnable> callbacks;
+        synchronized( reusableStageDestructionCallbacks ) {
+            callbacks = new ArrayList<Runnable>( reusableStageDestructionCallbacks.values() );
+            reusableStageDestructionCallbacks.clear();
+        }
+        for( Runnable callback : callbacks ) {
+            runDestructionCallback( "reusable stage", callback );
+        }
+    }
+
+    private static void runDestructionCallback( String name, Runnable callback ) {
+        try {
+            callback.run();
+        } catch( RuntimeException e ) {
+            log.warn( "Error while destroying bean " + name + " of JGiven scenario", e );
+        }
+    }
+
+    /**
+     * Returns a previously released instance of the given reusable stage class or {@code null} if there is none.
+     */
+    <T> T acquireReusableStage( Class<T> stageClass ) {
+        Deque<Object> instances = getReusableStagesOfCurrentThread().get( stageClass );
+        if( instances == null ) {
+            return null;
+        }
+        return stageClass.cast( instances.poll() );
+    }
+
+    void releaseReusableStage( Class<?> stageClass, Object stage ) {
+        getReusableStagesOfCurrentThread().computeIfAbsent( stageClass, c -> new ArrayDeque<Object>() ).push( stage );
+    }
+
+    private Map<Class<?>, Deque<Object>> getReusableStagesOfCurrentThread() {
+        return reusableStages.computeIfAbsent( Thread.currentThread(), t -> new HashMap<Class<?>, Deque<Object>>() );
+    }
+
+    @Override
+    public Object get( String name, ObjectFactory<?> objectFactory ) {
+        ScenarioBeans scenarioBeans = getCurrentScenarioBeans();
+        if( scenarioBeans == null ) {
+            return objectFactory.getObject();
+        }
+
+        Object bean = scenarioBeans.beans.get( name );
+        if( bean == null ) {
+            bean = objectFactory.getObject();
+            scenarioBeans.beans.put( name, bean );
+        }
+        return bean;
+    }
+
+    @Override
+    public Object remove( String name ) {
+        ScenarioBeans scenarioBeans = getCurrentScenarioBeans();
+        if( scenarioBeans == null ) {
+            return null;
+        }
+
+        scenarioBeans.destructionCallbacks.remove( name );
+        return scenarioBeans.beans.remove( name );
+    }
+
+    @Override
+    public void registerDestructionCallback( String name, Runnable callback ) {
+        ScenarioBeans scenarioBeans = getCurrentScenarioBeans();
+        if( scenarioBeans != null ) {
+            scenarioBeans.destructionCallbacks.put( name, callback );
+        }
+    }
+
+    @Override
+    public Object resolveContextualObject( String key ) {
+        return null;
+    }
+
+    @Override
+    public String getConversationId() {
+        Object scenario = currentScenario.get();
+        return scenario == null ? null : SCOPE_NAME + "-" + System.identityHashCode( scenario );
+    }
+
+    private ScenarioBeans getCurrentScenarioBeans() {
+        Object scenario = currentScenario.get();
+        if( scenario == null ) {
+            return null;
+        }
+        return scenarios.computeIfAbsent( scenario, s -> new ScenarioBeans() );
+    }
+
+    private static class ScenarioBeans {
+        private final Map<String, Object> beans = new LinkedHashMap<String, Object>();
+        private final Map<String, Runnable> destructionCallbacks = new LinkedHashMap<String, Runnable>();
+
+        /**
+         * Runs the destruction callbacks of all beans. The callbacks of reusable stages are handed over to
+         * {@code reusableStageCallbacks} instead, as the stages are reused by later scenarios.
+         * If {@code reusableStageCallbacks} is {@code null}, reusable stages are destroyed as well.
+         */
+        private void destroy( Map<Object, Runnable> reusableStageCallbacks ) {
+            List<String> names = Lists.reverse( new ArrayList<String>( destructionCallbacks.keySet() ) );
+            for( String name : names ) {
+                Object bean = beans.get( name );
+                if( reusableStageCallbacks != null && bean != null
+                    && AnnotationUtils.findAnnotation( bean.getClass(), ReusableStage.class ) != null ) {
+                    reusableStageCallbacks.put( bean, destructionCallbacks.get( name ) );
+                    continue;
+                }
+
+                runDestructionCallback( name, destructionCallbacks.get( name ) );
+            }
+        }
+    }
+}
@@ -13,6 +13,9 @@ import org.springframework.stereotype.Component;
 /**
  * Annotation that marks a bean as JGiven Stage. This component will be in created in prototype scope
  * to ensure that each test run receives a fresh (empty) instance of the bean.
+ * <p>
+ * If the {@link JGivenBeanFactoryPostProcessor} is registered, the prototype scope is replaced by the
+ * {@link JGivenScenarioScope}, so that the bean is created once per scenario and destroyed when the scenario has finished.
  *
  * @since 0.8.0
  */
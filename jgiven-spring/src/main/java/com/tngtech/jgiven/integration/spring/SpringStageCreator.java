@@ -1,15 +1,29 @@
 package com.tngtech.jgiven.integration.spring;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.NoSuchBeanDefinitionException;
+import org.springframework.beans.factory.BeanFactoryUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.config.Scope;
 import org.springframework.context.ApplicationContext;
 import org.springframework.util.ClassUtils;
 
+import com.google.common.collect.MapMaker;
 import com.tngtech.jgiven.impl.ByteBuddyStageClassCreator;
 import com.tngtech.jgiven.impl.DefaultStageCreator;
 import com.tngtech.jgiven.impl.CachingStageClassCreator;
+import com.tngtech.jgiven.impl.intercept.StageInterceptorInternal;
 import com.tngtech.jgiven.impl.intercept.StepInterceptor;
 
 /**
@@ -35,6 +49,14 @@ public class SpringStageCreator extends DefaultStageCreator {
     private static final CachingStageClassCreator fallBackStageClassCreator = new CachingStageClassCreator(
         new ByteBuddyStageClassCreator() );
 
+    /**
+     * Caches for each application context and stage class the result of the lookup of the stage bean.
+     * Contexts are weakly referenced and the cached values do not reference them,
+     * so that closed contexts can be garbage collected.
+     */
+    private static final Map<ApplicationContext, Map<Class<?>, StageBeanLookup>> beanLookups =
+        new MapMaker().weakKeys().makeMap();
+
     @Autowired
     private ApplicationContext applicationContext;
 
@@ -44,22 +66,192 @@ public class SpringStageCreator extends DefaultStageCreator {
 
     @Override
     public <T> T createStage( Class<T> stageClass, StepInterceptor stepInterceptor ) {
-        try {
-            T bean = applicationContext.getBean( stageClass );
-            setStepInterceptor( bean, stepInterceptor);
-            return bean;
-        } catch( NoSuchBeanDefinitionException nbe ) {
-            return super.createStage( stageClass, stepInterceptor );
-        } catch( ClassCastException cce ) {
-            log.warn( "Class " + ClassUtils.getShortName( stageClass )
-                    + " is not annotated with @JGivenStage. Falling back to default JGiven proxy. Spring features will not be supported for this stage instance.",
-                cce );
+        StageBeanLookup beanLookup = getBeanLookup( stageClass );
+        if( beanLookup.isAmbiguous() ) {
+            log.debug( "Using default JGiven proxy for stage class " + ClassUtils.getShortName( stageClass )
+                + " as the beans " + beanLookup.getCandidates() + " are ambiguous." );
+        }
+        Optional<String> beanName = beanLookup.getBeanName();
+        if( !beanName.isPresent() ) {
             return super.createStage( stageClass, stepInterceptor );
+        }
+
+        try {
+            Object bean;
+            Object previousScenario = JGivenScenarioScope.enterScenario( stepInterceptor );
+            try {
+                bean = applicationContext.getBean( beanName.get() );
+            } finally {
+                JGivenScenarioScope.leaveScenario( previousScenario );
+            }
+
+            if( bean == null ) {
+                return super.createStage( stageClass, stepInterceptor );
+            }
+
+            if( !( bean instanceof StageInterceptorInternal ) ) {
+                log.warn( "Class " + ClassUtils.getShortName( stageClass )
+                    + " is not annotated with @JGivenStage. Falling back to default JGiven proxy. Spring features will not be supported for this stage instance." );
+                getBeanLookups().put( stageClass, StageBeanLookup.NO_BEAN );
+                return super.createStage( stageClass, stepInterceptor );
+            }
+
+            setStepInterceptor( bean, stepInterceptor );
+            return stageClass.cast( bean );
         } catch( Exception e ) {
             log.error( "Error while trying to get the Spring bean for stage class " + stageClass, e );
             return null;
         }
+    }
+
+    /**
+     * Stage beans of ancestor contexts live in the scope of the context that defines them,
+     * so the scopes of all ancestor contexts are notified as well.
+     */
+    @Override
+    public void scenarioFinished( StepInterceptor stepInterceptor ) {
+        for( ApplicationContext context = applicationContext; context != null; context = context.getParent() ) {
+            JGivenScenarioScope scenarioScope = getScenarioScope( context );
+            if( scenarioScope != null ) {
+                scenarioScope.scenarioFinished( stepInterceptor );
+            }
+        }
+    }
+
+    /**
+     * Stage beans are pooled by the {@link JGivenScenarioScope} of the application context,
+     * so that they are never handed over to scenarios of another context.
+     * Without the scope, stage beans are not reused.
+     */
+    @Override
+    public <T> T acquireReusableStage( Class<T> stageClass ) {
+        if( !getBeanLookup( stageClass ).getBeanName().isPresent() ) {
+            return super.acquireReusableStage( stageClass );
+        }
+        JGivenScenarioScope scenarioScope = getScenarioScope();
+        return scenarioScope == null ? null : scenarioScope.acquireReusableStage( stageClass );
+    }
+
+    @Override
+    public void releaseReusableStage( Class<?> stageClass, Object stage ) {
+        if( !getBeanLookup( stageClass ).getBeanName().isPresent() ) {
+            super.releaseReusableStage( stageClass, stage );
+            return;
+        }
+        JGivenScenarioScope scenarioScope = getScenarioScope();
+        if( scenarioScope != null ) {
+            scenarioScope.releaseReusableStage( stageClass, stage );
+        }
+    }
+
+    private JGivenScenarioScope getScenarioScope() {
+        return getScenarioScope( applicationContext );
+    }
+
+    private static JGivenScenarioScope getScenarioScope( ApplicationContext context ) {
+        AutowireCapableBeanFactory beanFactory = context.getAutowireCapableBeanFactory();
+        if( beanFactory instanceof ConfigurableBeanFactory ) {
+            Scope scope = ( (ConfigurableBeanFactory) beanFactory ).getRegisteredScope( JGivenScenarioScope.SCOPE_NAME );
+            if( scope instanceof JGivenScenarioScope ) {
+                return (JGivenScenarioScope) scope;
+            }
+        }
+        return null;
+    }
+
+    private StageBeanLookup getBeanLookup( Class<?> stageClass ) {
+        return getBeanLookups().computeIfAbsent( stageClass, this::lookUpBean );
+    }
+
+    private Map<Class<?>, StageBeanLookup> getBeanLookups() {
+        return beanLookups.computeIfAbsent( applicationContext, context -> new ConcurrentHashMap<>() );
+    }
+
+    /**
+     * Finds the only bean of the given stage class, or the primary one if there are several.
+     * Beans of ancestor contexts are considered as well, like {@link ApplicationContext#getBean(Class)} does.
+     * If there are several beans and none of them is primary, the lookup is ambiguous.
+     */
+    private StageBeanLookup lookUpBean( Class<?> stageClass ) {
+        String[] names = BeanFactoryUtils.beanNamesForTypeIncludingAncestors( applicationContext, stageClass );
+        if( names.length == 0 ) {
+            return StageBeanLookup.NO_BEAN;
+        }
+        if( names.length == 1 ) {
+            return StageBeanLookup.bean( names[0] );
+        }
 
+        List<String> primaryNames = new ArrayList<String>();
+        for( String name : names ) {
+            if( isPrimary( name ) ) {
+                primaryNames.add( name );
+            }
+        }
+        if( primaryNames.size() == 1 ) {
+            return StageBeanLookup.bean( primaryNames.get( 0 ) );
+        }
+
+        List<String> candidates = primaryNames.isEmpty() ? Arrays.asList( names ) : primaryNames;
+        log.error( "Found several beans for stage class " + ClassUtils.getShortName( stageClass ) + ": " + candidates
+            + ". Exactly one of them has to be marked as primary. Falling back to default JGiven proxy."
+            + " Spring features will not be supported for this stage." );
+        return StageBeanLookup.ambiguous( candidates );
+    }
+
+    /**
+     * Checks the bean definition in the nearest context that defines the given bean.
+     */
+    private boolean isPrimary( String beanName ) {
+        for( ApplicationContext context = applicationContext; context != null; context = context.getParent() ) {
+            AutowireCapableBeanFactory beanFactory = context.getAutowireCapableBeanFactory();
+            if( beanFactory instanceof ConfigurableListableBeanFactory ) {
+                ConfigurableListableBeanFactory listableBeanFactory = (ConfigurableListableBeanFactory) beanFactory;
+                if( listableBeanFactory.containsBeanDefinition( beanName ) ) {
+                    return listableBeanFactory.getBeanDefinition( beanName ).isPrimary();
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The result of the lookup of the bean of a stage class.
+     * Stages without a bean and stages with ambiguous beans are both created by the fallback proxy,
+     * but only the ones without a bean are silently accepted.
+     */
+    private static final class StageBeanLookup {
+        static final StageBeanLookup NO_BEAN = new StageBeanLookup( null, Collections.<String>emptyList() );
+
+        private final String beanName;
+        private final List<String> candidates;
+
+        private StageBeanLookup( String beanName, List<String> candidates ) {
+            this.beanName = beanName;
+            this.candidates = candidates;
+        }
+
+        static StageBeanLookup bean( String beanName ) {
+            return new StageBeanLookup( beanName, Collections.singletonList( beanName ) );
+        }
+
+        static StageBeanLookup ambiguous( List<String> candidates ) {
+            return new StageBeanLookup( null, Collections.unmodifiableList( new ArrayList<String>( candidates ) ) );
+        }
+
+        /**
+         * Returns the name of the stage bean, or an empty optional if the fallback proxy is used.
+         */
+        Optional<String> getBeanName() {
+            return Optional.ofNullable( beanName );
+        }
+
+        boolean isAmbiguous() {
+            return beanName == null && candidates.size() > 1;
+        }
+
+        List<String> getCandidates() {
+            return candidates;
+        }
     }
 
 }
@@ -6,6 +6,7 @@ import com.tngtech.jgiven.base.ScenarioTestBase;
 import com.tngtech.jgiven.exception.FailIfPassedException;
 import com.tngtech.jgiven.impl.ScenarioBase;
 import com.tngtech.jgiven.impl.ScenarioHolder;
+import com.tngtech.jgiven.impl.inject.ScopedValueStore;
 import com.tngtech.jgiven.impl.util.AssertionUtil;
 import com.tngtech.jgiven.impl.util.ParameterNameUtil;
 import com.tngtech.jgiven.report.impl.CommonReportHelper;
@@ -14,6 +15,8 @@ import com.tngtech.jgiven.report.model.ReportModel;
 import java.lang.reflect.Method;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
+import org.testng.IClassListener;
+import org.testng.ITestClass;
 import org.testng.ITestContext;
 import org.testng.ITestListener;
 import org.testng.ITestResult;
@@ -22,7 +25,7 @@ import org.testng.ITestResult;
  * TestNG Test listener to enable JGiven for a test class.
  */
 @SuppressWarnings("checkstyle:AbbreviationAsWordInName")
-public class ScenarioTestListener implements ITestListener {
+public class ScenarioTestListener implements ITestListener, IClassListener {
 
     public static final String SCENARIO_ATTRIBUTE = "jgiven::scenario";
     public static final String REPORT_MODELS_ATTRIBUTE = "jgiven::reportModels";
@@ -137,6 +140,20 @@ public class ScenarioTestListener implements ITestListener {
         }
     }
 
+    @Override
+    public void onBeforeClass(ITestClass testClass) {
+        ScopedValueStore.openClassScope(testClass.getRealClass().getName());
+    }
+
+    /**
+     * Closes the class scope as soon as all tests of the class have finished,
+     * instead of waiting for all classes of the {@code <test>}.
+     */
+    @Override
+    public void onAfterClass(ITestClass testClass) {
+        ScopedValueStore.closeClassScope(testClass.getRealClass().getName());
+    }
+
     private ConcurrentHashMap<String, ReportModel> getReportModels(ITestContext paramITestContext) {
         return (ConcurrentHashMap<String, ReportModel>)
             paramITestContext.getAttribute(REPORT_MODELS_ATTRIBUTE);
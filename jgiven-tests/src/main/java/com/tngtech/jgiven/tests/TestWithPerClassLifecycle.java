@@ -13,4 +13,11 @@ class TestWithPerClassLifecycle extends ScenarioTestForTesting<GivenTestStage, W
         when().something_happens();
         then().something_happened();
     }
+
+    @Test
+    void another_innocuous_jgiven_test() {
+        given().nothing();
+        when().something_happens();
+        then().something_happened();
+    }
 }
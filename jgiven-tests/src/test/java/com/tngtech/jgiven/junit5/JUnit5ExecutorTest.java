@@ -24,7 +24,8 @@ public class JUnit5ExecutorTest
     public void tests_with_a_per_class_lifecycle() {
         given().junit5_test_class_with_a_per_class_lifecycle();
         when().the_test_class_is_executed_with_JUnit5();
-        then().the_test_fails_with_message("JGiven does not support keeping a test instance over multiple scenarios");
+        then().the_test_passes()
+            .and().the_report_model_contains_one_scenario_for_each_test_method();
     }
 
     @Test